@@ -0,0 +1,42 @@
+plugins {
+    id("java")
+    id("io.spring.dependency-management")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+val springBootVersion = project.property("springBootVersion") as String
+val mapstructVersion = project.property("mapstructVersion") as String
+description = "JMH benchmarks for mapper scanning, registration and mapping throughput of the MapStruct Spring Boot Starter."
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    }
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:${springBootVersion}")
+    }
+}
+
+dependencies {
+    jmhImplementation(project(":mapstruct-spring-boot-starter"))
+    jmhImplementation(project(":mapstruct-spring-boot-starter:example-app"))
+    jmhImplementation("org.springframework.boot:spring-boot-autoconfigure")
+    jmhImplementation("io.micrometer:micrometer-core")
+    jmhAnnotationProcessor("org.mapstruct:mapstruct-processor:${mapstructVersion}")
+}
+
+// Run with: ./gradlew :mapstruct-spring-boot-starter:benchmarks:jmh [-PjmhIncludes=MapperScanBenchmark]
+// Results are written to build/reports/jmh/results.json so runs of different releases can be compared.
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
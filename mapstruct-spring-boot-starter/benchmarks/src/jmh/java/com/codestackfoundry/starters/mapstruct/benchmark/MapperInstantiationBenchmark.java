@@ -0,0 +1,108 @@
+package com.codestackfoundry.starters.mapstruct.benchmark;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the creation of mapper beans from the definitions {@link MapStructImplRegistrar} registers, which
+ * instantiate mappers through an instance supplier, with plain {@code AUTOWIRE_BY_TYPE} definitions that leave
+ * constructor resolution and property autowiring to the bean factory.
+ *
+ * <p>Discovery and registration happen before each invocation and are not measured; only
+ * {@code preInstantiateSingletons()} is.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapperInstantiationBenchmark {
+
+    private static final AnnotationMetadata IMPORTING_CLASS = AnnotationMetadata.introspect(MapperInstantiationBenchmark.class);
+
+    @Param({ "100", "1000" })
+    int mapperCount;
+
+    private SyntheticMappers mappers;
+
+    private StandardEnvironment environment;
+
+    private DefaultListableBeanFactory instanceSupplierFactory;
+
+    private DefaultListableBeanFactory autowireByTypeFactory;
+
+    @Setup(Level.Trial)
+    public void generateMappers() throws IOException {
+        mappers = SyntheticMappers.generate(mapperCount);
+        environment = new StandardEnvironment();
+        // every invocation uses the same class loader, so sharing would reduce discovery to a cache lookup
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "mapstruct.base-packages", SyntheticMappers.BASE_PACKAGE,
+                "mapstruct.fail-if-no-mappers", "true",
+                "mapstruct.scan.shared", "false")));
+    }
+
+    @Setup(Level.Invocation)
+    public void registerMappers() {
+        instanceSupplierFactory = register();
+        autowireByTypeFactory = register();
+        for (String beanName : autowireByTypeFactory.getBeanDefinitionNames()) {
+            BeanDefinition registered = autowireByTypeFactory.getBeanDefinition(beanName);
+            if (registered.getAttribute(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE) == null) {
+                continue;
+            }
+            GenericBeanDefinition def = new GenericBeanDefinition();
+            def.setBeanClassName(registered.getBeanClassName());
+            def.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
+            autowireByTypeFactory.removeBeanDefinition(beanName);
+            autowireByTypeFactory.registerBeanDefinition(beanName, def);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteMappers() throws IOException {
+        mappers.close();
+    }
+
+    @Benchmark
+    public DefaultListableBeanFactory instanceSupplier() {
+        instanceSupplierFactory.preInstantiateSingletons();
+        return instanceSupplierFactory;
+    }
+
+    @Benchmark
+    public DefaultListableBeanFactory autowireByType() {
+        autowireByTypeFactory.preInstantiateSingletons();
+        return autowireByTypeFactory;
+    }
+
+    private DefaultListableBeanFactory register() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setBeanClassLoader(mappers.classLoader());
+        MapStructImplRegistrar registrar = new MapStructImplRegistrar();
+        registrar.setEnvironment(environment);
+        registrar.setBeanClassLoader(mappers.classLoader());
+        registrar.registerBeanDefinitions(IMPORTING_CLASS, beanFactory);
+        return beanFactory;
+    }
+}
@@ -0,0 +1,83 @@
+package com.codestackfoundry.starters.mapstruct.benchmark;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full {@link MapStructImplRegistrar#registerBeanDefinitions} path — property binding, discovery
+ * and bean definition registration — with and without instantiating the registered mappers afterwards.
+ *
+ * <p>The synthetic classpath carries a mapper index, so {@code index} compares resolving mappers from the
+ * compile-time index ({@code true}) with scanning the classpath for them ({@code false}).
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapperRegistrationBenchmark {
+
+    private static final AnnotationMetadata IMPORTING_CLASS = AnnotationMetadata.introspect(MapperRegistrationBenchmark.class);
+
+    @Param({ "10", "100", "1000" })
+    int mapperCount;
+
+    @Param({ "true", "false" })
+    String index;
+
+    private SyntheticMappers mappers;
+
+    private StandardEnvironment environment;
+
+    @Setup(Level.Trial)
+    public void generateMappers() throws IOException {
+        mappers = SyntheticMappers.generate(mapperCount, true);
+        environment = new StandardEnvironment();
+        // every invocation uses the same class loader, so sharing would reduce discovery to a cache lookup
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "mapstruct.base-packages", SyntheticMappers.BASE_PACKAGE,
+                "mapstruct.fail-if-no-mappers", "true",
+                "mapstruct.scan.shared", "false",
+                "mapstruct.index.enabled", index)));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteMappers() throws IOException {
+        mappers.close();
+    }
+
+    @Benchmark
+    public DefaultListableBeanFactory register() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setBeanClassLoader(mappers.classLoader());
+        MapStructImplRegistrar registrar = new MapStructImplRegistrar();
+        registrar.setEnvironment(environment);
+        registrar.setBeanClassLoader(mappers.classLoader());
+        registrar.registerBeanDefinitions(IMPORTING_CLASS, beanFactory);
+        return beanFactory;
+    }
+
+    @Benchmark
+    public DefaultListableBeanFactory registerAndInstantiate() {
+        DefaultListableBeanFactory beanFactory = register();
+        beanFactory.preInstantiateSingletons();
+        return beanFactory;
+    }
+}
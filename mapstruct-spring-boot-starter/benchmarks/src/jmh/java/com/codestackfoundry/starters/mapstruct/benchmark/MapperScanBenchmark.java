@@ -0,0 +1,56 @@
+package com.codestackfoundry.starters.mapstruct.benchmark;
+
+import com.codestackfoundry.starters.mapstruct.support.MapperScanOptions;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanResult;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MapperScanUtils#findMapperImpls(java.util.Collection, ClassLoader, MapperScanOptions)} against the size of
+ * the scanned package and the scan parallelism.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapperScanBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int mapperCount;
+
+    @Param({ "1", "4" })
+    int parallelism;
+
+    private SyntheticMappers mappers;
+
+    @Setup(Level.Trial)
+    public void generateMappers() throws IOException {
+        mappers = SyntheticMappers.generate(mapperCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteMappers() throws IOException {
+        mappers.close();
+    }
+
+    @Benchmark
+    public Map<String, MapperScanResult> findMapperImpls() {
+        return MapperScanUtils.findMapperImpls(List.of(SyntheticMappers.BASE_PACKAGE), mappers.classLoader(),
+                MapperScanOptions.defaults().withParallelism(parallelism));
+    }
+}
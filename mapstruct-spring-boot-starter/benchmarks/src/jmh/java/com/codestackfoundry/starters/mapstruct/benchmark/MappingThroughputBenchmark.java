@@ -0,0 +1,158 @@
+package com.codestackfoundry.starters.mapstruct.benchmark;
+
+import com.codestackfoundry.example.mapstruct.dto.UserDTO;
+import com.codestackfoundry.example.mapstruct.entity.Department;
+import com.codestackfoundry.example.mapstruct.entity.User;
+import com.codestackfoundry.example.mapstruct.mapper.UserMapper;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructMetricsAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.HandWrittenOrderMapper;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.HandWrittenUserMapper;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.OrderDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderMapper;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Order;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the mapping throughput of a mapper registered by the starter with the same mapper obtained through
+ * {@link Mappers#getMapper(Class)} and with a hand-written mapper, for the example application's
+ * {@link UserMapper} and for a larger order graph.
+ *
+ * <p>Run with the {@code gc} profiler (the build's default) to also compare the allocation rate per operation.
+ * The registered bean is measured with metrics disabled, which must match {@code Mappers.getMapper(...)} since the
+ * mapper is not proxied, and with metrics enabled at a 1% and a 100% {@code sample-rate}, which shows the cost of
+ * the invocation instrumentation.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappingThroughputBenchmark {
+
+    /**
+     * Mappers registered by the starter in a Spring application context.
+     */
+    @State(Scope.Benchmark)
+    public static class RegisteredMappers {
+
+        /**
+         * {@code disabled}, or the {@code mapstruct.metrics.sample-rate} to enable metrics with.
+         */
+        @Param({ "disabled", "0.01", "1.0" })
+        String metrics;
+
+        AnnotationConfigApplicationContext context;
+
+        UserMapper userMapper;
+
+        OrderMapper orderMapper;
+
+        @Setup
+        public void startContext() {
+            context = new AnnotationConfigApplicationContext();
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                    "mapstruct.base-packages", UserMapper.class.getPackageName() + "," + OrderMapper.class.getPackageName(),
+                    "mapstruct.metrics.enabled", String.valueOf(!metrics.equals("disabled")),
+                    "mapstruct.metrics.sample-rate", metrics.equals("disabled") ? "1.0" : metrics)));
+            context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+            context.register(MapStructAutoConfiguration.class, MapStructMetricsAutoConfiguration.class);
+            context.refresh();
+            userMapper = context.getBean(UserMapper.class);
+            orderMapper = context.getBean(OrderMapper.class);
+        }
+
+        @TearDown
+        public void closeContext() {
+            context.close();
+        }
+    }
+
+    /**
+     * Mappers instantiated directly, without Spring.
+     */
+    @State(Scope.Benchmark)
+    public static class PlainMappers {
+
+        final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+        final OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+
+        final HandWrittenUserMapper handWrittenUserMapper = new HandWrittenUserMapper();
+
+        final HandWrittenOrderMapper handWrittenOrderMapper = new HandWrittenOrderMapper();
+    }
+
+    /**
+     * The source objects to map.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+
+        @Param({ "20" })
+        int orderLines;
+
+        User user;
+
+        Order order;
+
+        @Setup
+        public void createSources() {
+            user = new User();
+            user.setId(1L);
+            user.setName("Jane Doe");
+            user.setEmail("jane.doe@example.com");
+            Department department = new Department();
+            department.setId(1L);
+            department.setName("Engineering");
+            user.setDepartment(department);
+            order = Orders.sample(orderLines);
+        }
+    }
+
+    @Benchmark
+    public UserDTO userRegisteredBean(RegisteredMappers mappers, Sources sources) {
+        return mappers.userMapper.toDto(sources.user);
+    }
+
+    @Benchmark
+    public UserDTO userMappersGetMapper(PlainMappers mappers, Sources sources) {
+        return mappers.userMapper.toDto(sources.user);
+    }
+
+    @Benchmark
+    public UserDTO userHandWritten(PlainMappers mappers, Sources sources) {
+        return mappers.handWrittenUserMapper.toDto(sources.user);
+    }
+
+    @Benchmark
+    public OrderDto orderRegisteredBean(RegisteredMappers mappers, Sources sources) {
+        return mappers.orderMapper.toDto(sources.order);
+    }
+
+    @Benchmark
+    public OrderDto orderMappersGetMapper(PlainMappers mappers, Sources sources) {
+        return mappers.orderMapper.toDto(sources.order);
+    }
+
+    @Benchmark
+    public OrderDto orderHandWritten(PlainMappers mappers, Sources sources) {
+        return mappers.handWrittenOrderMapper.toDto(sources.order);
+    }
+}
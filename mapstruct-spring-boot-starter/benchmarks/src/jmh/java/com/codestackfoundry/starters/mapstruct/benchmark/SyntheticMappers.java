@@ -0,0 +1,134 @@
+package com.codestackfoundry.starters.mapstruct.benchmark;
+
+import com.codestackfoundry.starters.mapstruct.support.MapperIndex;
+import org.mapstruct.Mapper;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a classpath directory of synthetic mappers for the scanning and registration benchmarks.
+ *
+ * <p>Every mapper consists of a {@code @Mapper} interface, its implementation named after MapStruct's
+ * default convention and one unrelated class, so that the scanner has to read three class files per mapper.
+ * Mappers are spread over sub-packages of {@value #MAPPERS_PER_PACKAGE} mappers each. Class files are written
+ * directly with ASM, which keeps the setup of large benchmarks fast. Optionally, the directory also carries the
+ * {@value MapperIndex#INDEX_LOCATION} resource the index annotation processor would have written for it.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class SyntheticMappers implements Closeable {
+
+    /**
+     * Base package of all generated classes.
+     */
+    static final String BASE_PACKAGE = "com.codestackfoundry.benchmark.synthetic";
+
+    private static final int MAPPERS_PER_PACKAGE = 50;
+
+    private static final String MAPPER_DESCRIPTOR = Type.getDescriptor(Mapper.class);
+
+    private final Path directory;
+
+    private final URLClassLoader classLoader;
+
+    private SyntheticMappers(Path directory) throws IOException {
+        this.directory = directory;
+        this.classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+                SyntheticMappers.class.getClassLoader());
+    }
+
+    /**
+     * Generates the given number of mappers into a new temporary directory.
+     *
+     * @param mapperCount the number of mappers to generate
+     * @return the generated classpath
+     * @throws IOException if the class files cannot be written
+     */
+    static SyntheticMappers generate(int mapperCount) throws IOException {
+        return generate(mapperCount, false);
+    }
+
+    /**
+     * Generates the given number of mappers into a new temporary directory, optionally with a mapper index.
+     *
+     * @param mapperCount the number of mappers to generate
+     * @param index       whether to write a {@value MapperIndex#INDEX_LOCATION} resource listing the mappers
+     * @return the generated classpath
+     * @throws IOException if the class files cannot be written
+     */
+    static SyntheticMappers generate(int mapperCount, boolean index) throws IOException {
+        Path directory = Files.createTempDirectory("mapstruct-benchmark");
+        List<String> indexLines = new ArrayList<>();
+        for (int i = 0; i < mapperCount; i++) {
+            String packagePath = BASE_PACKAGE.replace('.', '/') + "/p" + (i / MAPPERS_PER_PACKAGE);
+            String mapper = packagePath + "/Synthetic" + i + "Mapper";
+            write(directory, mapper, mapperInterface(mapper));
+            write(directory, mapper + "Impl", concreteClass(mapper + "Impl", mapper));
+            write(directory, packagePath + "/Synthetic" + i + "Dto", concreteClass(packagePath + "/Synthetic" + i + "Dto", null));
+            indexLines.add(mapper.replace('/', '.') + "=" + mapper.replace('/', '.') + "Impl");
+        }
+        if (index) {
+            Path indexFile = directory.resolve(MapperIndex.INDEX_LOCATION);
+            Files.createDirectories(indexFile.getParent());
+            Files.write(indexFile, indexLines);
+        }
+        return new SyntheticMappers(directory);
+    }
+
+    /**
+     * Returns a class loader that sees the generated classes on top of the benchmark classpath.
+     *
+     * @return the class loader
+     */
+    ClassLoader classLoader() {
+        return classLoader;
+    }
+
+    @Override
+    public void close() throws IOException {
+        classLoader.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    private static void write(Path directory, String internalName, byte[] classFile) throws IOException {
+        Path file = directory.resolve(internalName + ".class");
+        Files.createDirectories(file.getParent());
+        Files.write(file, classFile);
+    }
+
+    private static byte[] mapperInterface(String internalName) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE,
+                internalName, null, "java/lang/Object", null);
+        writer.visitAnnotation(MAPPER_DESCRIPTOR, false).visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] concreteClass(String internalName, String interfaceName) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object",
+                interfaceName != null ? new String[] { interfaceName } : null);
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
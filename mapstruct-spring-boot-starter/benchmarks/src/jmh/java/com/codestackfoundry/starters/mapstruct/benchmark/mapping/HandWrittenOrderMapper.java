@@ -0,0 +1,57 @@
+package com.codestackfoundry.starters.mapstruct.benchmark.mapping;
+
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.AddressDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.CustomerDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.OrderDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.OrderLineDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.ProductDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Address;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Customer;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Order;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.OrderLine;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written equivalent of {@link OrderMapper}, used as the baseline of the mapping throughput benchmark.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class HandWrittenOrderMapper {
+
+    public OrderDto toDto(Order order) {
+        if (order == null) {
+            return null;
+        }
+        List<OrderLineDto> lines = new ArrayList<>(order.lines().size());
+        for (OrderLine line : order.lines()) {
+            lines.add(toDto(line));
+        }
+        Customer customer = order.customer();
+        return new OrderDto(order.id(), order.number(), customer != null ? customer.email() : null, toDto(customer),
+                toDto(order.shippingAddress()), lines, order.status() != null ? order.status().name() : null,
+                order.createdAt());
+    }
+
+    private CustomerDto toDto(Customer customer) {
+        return customer != null
+                ? new CustomerDto(customer.id(), customer.name(), customer.email(), toDto(customer.billingAddress()))
+                : null;
+    }
+
+    private AddressDto toDto(Address address) {
+        return address != null
+                ? new AddressDto(address.street(), address.city(), address.postalCode(), address.country())
+                : null;
+    }
+
+    private OrderLineDto toDto(OrderLine line) {
+        return new OrderLineDto(line.position(), toDto(line.product()), line.quantity(), line.unitPrice());
+    }
+
+    private ProductDto toDto(Product product) {
+        return product != null ? new ProductDto(product.sku(), product.name(), product.category()) : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.codestackfoundry.starters.mapstruct.benchmark.mapping;
+
+import com.codestackfoundry.example.mapstruct.dto.UserDTO;
+import com.codestackfoundry.example.mapstruct.entity.Department;
+import com.codestackfoundry.example.mapstruct.entity.User;
+
+/**
+ * Hand-written equivalent of the example application's {@code UserMapper#toDto}, used as the baseline of the
+ * mapping throughput benchmark.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class HandWrittenUserMapper {
+
+    public UserDTO toDto(User user) {
+        if (user == null) {
+            return null;
+        }
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        Department department = user.getDepartment();
+        if (department != null) {
+            dto.setDepartmentName(department.getName());
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,26 @@
+package com.codestackfoundry.starters.mapstruct.benchmark.mapping;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Target side of the order graph used by the mapping throughput benchmark.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class OrderDtos {
+
+    private OrderDtos() { }
+
+    public record AddressDto(String street, String city, String postalCode, String country) { }
+
+    public record CustomerDto(long id, String name, String email, AddressDto billingAddress) { }
+
+    public record ProductDto(String sku, String name, String category) { }
+
+    public record OrderLineDto(int position, ProductDto product, int quantity, BigDecimal unitPrice) { }
+
+    public record OrderDto(long id, String number, String customerEmail, CustomerDto customer,
+                           AddressDto shippingAddress, List<OrderLineDto> lines, String status, Instant createdAt) { }
+}
@@ -0,0 +1,34 @@
+package com.codestackfoundry.starters.mapstruct.benchmark.mapping;
+
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.AddressDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.CustomerDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.OrderDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.OrderLineDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.OrderDtos.ProductDto;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Address;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Customer;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Order;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.OrderLine;
+import com.codestackfoundry.starters.mapstruct.benchmark.mapping.Orders.Product;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper for the benchmark order graph.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+@Mapper
+public interface OrderMapper {
+
+    @Mapping(target = "customerEmail", source = "customer.email")
+    OrderDto toDto(Order order);
+
+    CustomerDto toDto(Customer customer);
+
+    AddressDto toDto(Address address);
+
+    OrderLineDto toDto(OrderLine line);
+
+    ProductDto toDto(Product product);
+}
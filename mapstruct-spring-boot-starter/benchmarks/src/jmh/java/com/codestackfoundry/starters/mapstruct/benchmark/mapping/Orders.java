@@ -0,0 +1,47 @@
+package com.codestackfoundry.starters.mapstruct.benchmark.mapping;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Source side of the order graph used by the mapping throughput benchmark: an order with a customer,
+ * two addresses and a configurable number of lines, each referencing a product.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class Orders {
+
+    private Orders() { }
+
+    public enum OrderStatus { NEW, PAID, SHIPPED }
+
+    public record Address(String street, String city, String postalCode, String country) { }
+
+    public record Customer(long id, String name, String email, Address billingAddress) { }
+
+    public record Product(String sku, String name, String category) { }
+
+    public record OrderLine(int position, Product product, int quantity, BigDecimal unitPrice) { }
+
+    public record Order(long id, String number, Customer customer, Address shippingAddress, List<OrderLine> lines,
+                        OrderStatus status, Instant createdAt) { }
+
+    /**
+     * Creates an order with the given number of lines.
+     *
+     * @param lineCount the number of order lines
+     * @return the order
+     */
+    public static Order sample(int lineCount) {
+        Address address = new Address("1 Benchmark Way", "Springfield", "12345", "US");
+        Customer customer = new Customer(42L, "Jane Doe", "jane.doe@example.com", address);
+        List<OrderLine> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            Product product = new Product("SKU-" + i, "Product " + i, i % 2 == 0 ? "books" : "music");
+            lines.add(new OrderLine(i + 1, product, 1 + i % 5, BigDecimal.valueOf(995 + i, 2)));
+        }
+        return new Order(1L, "ORD-0001", customer, address, lines, OrderStatus.PAID, Instant.parse("2024-01-01T00:00:00Z"));
+    }
+}
@@ -10,7 +10,6 @@ version = project.property("projectVersion") as String
 val artifact = project.property("projectArtifact") as String
 val springBootVersion = project.property("springBootVersion") as String
 val mapstructVersion = project.property("mapstructVersion") as String
-val reflectionsVersion = project.property("reflectionsVersion") as String
 description = "A lightweight Spring Boot 3+ MapStruct Starter – Auto-registers MapStruct mappers without `componentModel = \"spring\"` in your `@Mapper` or `@MapperConfig`. Includes production-ready auto-configuration and customizable mapper scanning via `application.yml`."
 
 java {
@@ -35,10 +34,21 @@ dependencies {
     compileOnly("org.springframework.boot:spring-boot-autoconfigure")
     compileOnly("org.springframework.boot:spring-boot")
     api("org.mapstruct:mapstruct:${mapstructVersion}")
-    implementation("org.reflections:reflections:${reflectionsVersion}")
+    implementation("org.slf4j:slf4j-api")
+    compileOnly("io.micrometer:micrometer-core")
+    compileOnly("org.springframework.data:spring-data-commons")
+    compileOnly("io.projectreactor:reactor-core")
+    compileOnly("org.springframework.boot:spring-boot-actuator-autoconfigure")
+    compileOnly("org.hibernate.orm:hibernate-core")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("io.micrometer:micrometer-core")
+    testImplementation("org.springframework.data:spring-data-commons")
+    testImplementation("io.projectreactor:reactor-core")
+    testImplementation("io.projectreactor:reactor-test")
+    testImplementation("org.springframework.boot:spring-boot-actuator-autoconfigure")
     testAnnotationProcessor("org.mapstruct:mapstruct-processor:${mapstructVersion}")
+    testAnnotationProcessor(project(":mapstruct-spring-boot-starter:mapper-index-processor"))
 }
 
 tasks.matching { it.name == "bootJar" }.configureEach {
@@ -53,6 +63,118 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Large-scale startup test: thousands of synthetic mappers, run through the MapStruct processor at build time,
+// packaged into several jars and booted against configurable budgets. Tune with -Pstartup.mappers=...,
+// -Pstartup.packages=..., -Pstartup.jars=... and -Pstartup.budget.<wall-ms|classes-loaded|metaspace-mb|heap-mb>=...
+val syntheticMapperCount = (findProperty("startup.mappers") as String? ?: "1200").toInt()
+val syntheticPackageCount = (findProperty("startup.packages") as String? ?: "60").toInt()
+val syntheticJarCount = (findProperty("startup.jars") as String? ?: "6").toInt()
+
+val generateSyntheticMappers by tasks.registering {
+    description = "Generates the sources of the synthetic mappers used by the startup test."
+    val outputDir = layout.buildDirectory.dir("generated/sources/syntheticMappers")
+    inputs.property("mappers", syntheticMapperCount)
+    inputs.property("packages", syntheticPackageCount)
+    outputs.dir(outputDir)
+    doLast {
+        val root = outputDir.get().asFile
+        root.deleteRecursively()
+        for (p in 0 until syntheticPackageCount) {
+            val dir = root.resolve("com/codestackfoundry/synthetic/p$p").apply { mkdirs() }
+            dir.resolve("SyntheticSource.java").writeText(syntheticBean("p$p", "SyntheticSource", "name"))
+            dir.resolve("SyntheticTarget.java").writeText(syntheticBean("p$p", "SyntheticTarget", "label"))
+        }
+        for (i in 0 until syntheticMapperCount) {
+            val p = i % syntheticPackageCount
+            root.resolve("com/codestackfoundry/synthetic/p$p/Synthetic${i}Mapper.java").writeText("""
+                package com.codestackfoundry.synthetic.p$p;
+
+                import org.mapstruct.Mapper;
+                import org.mapstruct.Mapping;
+
+                @Mapper
+                public interface Synthetic${i}Mapper {
+
+                    @Mapping(target = "label", source = "name")
+                    SyntheticTarget toTarget(SyntheticSource source);
+
+                    @Mapping(target = "name", source = "label")
+                    SyntheticSource toSource(SyntheticTarget target);
+                }
+            """.trimIndent())
+        }
+    }
+}
+
+fun syntheticBean(packageSuffix: String, className: String, nameProperty: String): String {
+    val properties = listOf("Long" to "id", "String" to nameProperty, "String" to "email",
+            "java.time.Instant" to "createdAt", "boolean" to "active")
+    val members = properties.joinToString("\n") { (type, name) ->
+        val accessor = name.replaceFirstChar { it.uppercase() }
+        """
+            private $type $name;
+
+            public $type ${if (type == "boolean") "is" else "get"}$accessor() {
+                return $name;
+            }
+
+            public void set$accessor($type $name) {
+                this.$name = $name;
+            }
+        """.trimIndent().prependIndent("    ")
+    }
+    return "package com.codestackfoundry.synthetic.$packageSuffix;\n\npublic class $className {\n\n$members\n}\n"
+}
+
+val syntheticMappers = sourceSets.create("syntheticMappers") {
+    java.srcDir(generateSyntheticMappers)
+}
+
+dependencies {
+    "syntheticMappersImplementation"("org.mapstruct:mapstruct:${mapstructVersion}")
+    "syntheticMappersAnnotationProcessor"("org.mapstruct:mapstruct-processor:${mapstructVersion}")
+}
+
+// Packages are dealt out round-robin, so every jar holds mappers of several packages.
+val syntheticMapperJars = (0 until syntheticJarCount).map { jar ->
+    tasks.register<Jar>("syntheticMappersJar$jar") {
+        description = "Packages synthetic mapper jar $jar for the startup test."
+        archiveFileName.set("synthetic-mappers-$jar.jar")
+        destinationDirectory.set(layout.buildDirectory.dir("synthetic-mappers"))
+        from(syntheticMappers.output)
+        include((jar until syntheticPackageCount step syntheticJarCount).map { "com/codestackfoundry/synthetic/p$it/**" })
+    }
+}
+
+val startupTest = sourceSets.create("startupTest") {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations["startupTestImplementation"].extendsFrom(configurations.implementation.get(), configurations.testImplementation.get())
+configurations["startupTestRuntimeOnly"].extendsFrom(configurations.testRuntimeOnly.get())
+
+tasks.register<Test>("startupTest") {
+    description = "Boots an application context against thousands of synthetic mappers and enforces startup budgets."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = startupTest.output.classesDirs
+    classpath = startupTest.runtimeClasspath
+    useJUnitPlatform()
+
+    val jarFiles = files(syntheticMapperJars)
+    val report = layout.buildDirectory.file("reports/startup/startup.json")
+    inputs.files(jarFiles)
+    outputs.file(report)
+    systemProperty("startup.mappers", syntheticMapperCount)
+    listOf("wall-ms", "classes-loaded", "metaspace-mb", "heap-mb").forEach { budget ->
+        findProperty("startup.budget.$budget")?.let { systemProperty("startup.budget.$budget", it) }
+    }
+    jvmArgumentProviders.add(CommandLineArgumentProvider {
+        listOf("-Dstartup.jar-files=" + jarFiles.joinToString(File.pathSeparator) { it.absolutePath },
+                "-Dstartup.report=" + report.get().asFile.absolutePath)
+    })
+}
+
 publishing {
     publications {
         create<MavenPublication>("mavenJava") {
@@ -17,3 +17,7 @@ dependencies {
     annotationProcessor("org.mapstruct:mapstruct-processor:1.6.3")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
+
+tasks.test {
+    useJUnitPlatform()
+}
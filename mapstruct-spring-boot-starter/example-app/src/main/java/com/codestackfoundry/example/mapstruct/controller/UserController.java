@@ -4,12 +4,12 @@ import com.codestackfoundry.example.mapstruct.dto.UserDTO;
 import com.codestackfoundry.example.mapstruct.entity.User;
 import com.codestackfoundry.example.mapstruct.mapper.UserMapper;
 import com.codestackfoundry.example.mapstruct.repository.UserRepository;
+import com.codestackfoundry.starters.mapstruct.batch.MapperBatchExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/users")
@@ -19,10 +19,12 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final MapperBatchExecutor batchExecutor;
 
-    public UserController(UserRepository userRepository, UserMapper userMapper) {
+    public UserController(UserRepository userRepository, UserMapper userMapper, MapperBatchExecutor batchExecutor) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.batchExecutor = batchExecutor;
     }
 
     @PostMapping
@@ -35,9 +37,8 @@ public class UserController {
 
     @GetMapping
     public List<UserDTO> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+        // Chunks are mapped on other threads, which must not touch the request's Hibernate session:
+        // fetch the department with the users so that mapping never triggers a lazy load.
+        return batchExecutor.mapAll(userRepository.findAllWithDepartment(), userMapper::toDto);
     }
 }
\ No newline at end of file
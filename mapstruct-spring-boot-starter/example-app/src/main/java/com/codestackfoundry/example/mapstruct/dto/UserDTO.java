@@ -4,6 +4,7 @@ public class UserDTO {
     private Long id;
     private String name;
     private String email;
+    private String departmentName;
 
     public Long getId() {
         return id;
@@ -29,12 +30,21 @@ public class UserDTO {
         this.email = email;
     }
 
+    public String getDepartmentName() {
+        return departmentName;
+    }
+
+    public void setDepartmentName(String departmentName) {
+        this.departmentName = departmentName;
+    }
+
     @Override
     public String toString() {
         return "UserDTO{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", email='" + email + '\'' +
+                ", departmentName='" + departmentName + '\'' +
                 '}';
     }
 }
\ No newline at end of file
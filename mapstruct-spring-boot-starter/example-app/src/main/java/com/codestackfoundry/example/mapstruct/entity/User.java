@@ -11,6 +11,9 @@ public class User {
     private String name;
     private String email;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Department department;
+
     public Long getId() {
         return id;
     }
@@ -35,6 +38,14 @@ public class User {
         this.email = email;
     }
 
+    public Department getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(Department department) {
+        this.department = department;
+    }
+
     @Override
     public String toString() {
         return "User{" +
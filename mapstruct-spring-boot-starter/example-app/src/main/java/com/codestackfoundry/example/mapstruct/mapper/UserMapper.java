@@ -13,6 +13,7 @@ public interface UserMapper {
                     @Mapping(source = "id", target = "id"),
                     @Mapping(source = "name", target = "name"),
                     @Mapping(source = "email", target = "email"),
+                    @Mapping(source = "department.name", target = "departmentName"),
             }
     )
     UserDTO toDto(User user);
@@ -22,6 +23,7 @@ public interface UserMapper {
                     @Mapping(source = "id", target = "id"),
                     @Mapping(source = "name", target = "name"),
                     @Mapping(source = "email", target = "email"),
+                    @Mapping(target = "department", ignore = true),
             }
     )
     User toEntity(UserDTO dto);
@@ -2,6 +2,12 @@ package com.codestackfoundry.example.mapstruct.repository;
 
 import com.codestackfoundry.example.mapstruct.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-}
\ No newline at end of file
+
+    @Query("select u from users u left join fetch u.department")
+    List<User> findAllWithDepartment();
+}
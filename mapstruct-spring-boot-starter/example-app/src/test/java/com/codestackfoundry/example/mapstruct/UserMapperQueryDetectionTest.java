@@ -0,0 +1,93 @@
+package com.codestackfoundry.example.mapstruct;
+
+import com.codestackfoundry.example.mapstruct.dto.UserDTO;
+import com.codestackfoundry.example.mapstruct.entity.Department;
+import com.codestackfoundry.example.mapstruct.entity.User;
+import com.codestackfoundry.example.mapstruct.mapper.UserMapper;
+import com.codestackfoundry.example.mapstruct.repository.UserRepository;
+import com.codestackfoundry.starters.mapstruct.jpa.MapperQueryMonitor;
+import com.codestackfoundry.starters.mapstruct.jpa.MapperQueryStatistics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "mapstruct.jpa.query-detection=true")
+@Transactional
+class UserMapperQueryDetectionTest {
+
+    private static final List<String> DEPARTMENTS = List.of("Engineering", "Sales", "Support");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private MapperQueryMonitor monitor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void createUsers() {
+        for (String name : DEPARTMENTS) {
+            Department department = new Department();
+            department.setName(name);
+            entityManager.persist(department);
+
+            User user = new User();
+            user.setName(name + " Lead");
+            user.setEmail(name.toLowerCase() + "@example.com");
+            user.setDepartment(department);
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void countsLazyLoadsTriggeredWhileMapping() {
+        long statementsBefore = statements();
+        long exceededBefore = exceeded();
+
+        List<UserDTO> users = userRepository.findAll().stream().map(userMapper::toDto).toList();
+
+        assertThat(users).extracting(UserDTO::getDepartmentName).containsExactlyInAnyOrderElementsOf(DEPARTMENTS);
+        assertThat(statements() - statementsBefore).isEqualTo(DEPARTMENTS.size());
+        assertThat(exceeded() - exceededBefore).isEqualTo(DEPARTMENTS.size());
+        assertThat(monitor.getStatistics(UserMapper.class, "toDto").getMaxStatements()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotFlagAssociationsFetchedWithTheQuery() {
+        long statementsBefore = statements();
+        long exceededBefore = exceeded();
+
+        List<UserDTO> users = entityManager
+                .createQuery("select u from users u join fetch u.department", User.class)
+                .getResultList().stream().map(userMapper::toDto).toList();
+
+        assertThat(users).extracting(UserDTO::getDepartmentName).containsExactlyInAnyOrderElementsOf(DEPARTMENTS);
+        assertThat(statements() - statementsBefore).isZero();
+        assertThat(exceeded() - exceededBefore).isZero();
+    }
+
+    private long statements() {
+        MapperQueryStatistics statistics = monitor.getStatistics(UserMapper.class, "toDto");
+        return statistics != null ? statistics.getStatements() : 0;
+    }
+
+    private long exceeded() {
+        MapperQueryStatistics statistics = monitor.getStatistics(UserMapper.class, "toDto");
+        return statistics != null ? statistics.getExceededCount() : 0;
+    }
+}
@@ -0,0 +1,93 @@
+plugins {
+    id("java-library")
+    id("maven-publish")
+    signing
+}
+
+group = project.property("projectGroup") as String
+version = project.property("projectVersion") as String
+val artifact = project.property("projectArtifact") as String
+val mapstructVersion = project.property("mapstructVersion") as String
+description = "Optional annotation processor for the MapStruct Spring Boot Starter – writes a compile-time index of `@Mapper` interfaces and their generated implementations so the starter can skip classpath scanning at startup."
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    }
+    withJavadocJar()
+    withSourcesJar()
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    testImplementation("org.mapstruct:mapstruct:${mapstructVersion}")
+    testImplementation(platform("org.junit:junit-bom:5.10.1"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core:3.24.2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("mavenJava") {
+            from(components["java"])
+            groupId = group.toString()
+            artifactId = artifact
+            version = version.toString()
+            pom {
+                name.set("mapstruct-spring-boot-starter-index-processor")
+                description.set("Annotation processor that indexes MapStruct mappers at compile time for the MapStruct Spring Boot Starter.")
+                url.set("https://github.com/codestackfoundry/spring-boot-starters")
+                licenses {
+                    license {
+                        name.set("MIT License")
+                        url.set("https://opensource.org/licenses/MIT")
+                        distribution.set("repo")
+                    }
+                }
+                developers {
+                    developer {
+                        id = "codeswithritesh"
+                        name = "Ritesh Chopade"
+                        url.set("https://github.com/codeswithritesh")
+                    }
+                }
+                scm {
+                    connection.set("scm:git:git://github.com/codestackfoundry/spring-boot-starters.git")
+                    developerConnection.set("scm:git:ssh://github.com/codestackfoundry/spring-boot-starters.git")
+                    url.set("https://github.com/codestackfoundry/spring-boot-starters")
+                }
+            }
+        }
+    }
+    repositories {
+        maven {
+            val releasesRepoUrl = uri(layout.buildDirectory.dir("repos/releases"))
+            val snapshotsRepoUrl = uri(layout.buildDirectory.dir("repos/snapshots"))
+            url = if (version.toString().endsWith("SNAPSHOT")) snapshotsRepoUrl else releasesRepoUrl
+        }
+    }
+}
+
+signing {
+    val keyId: String? = findProperty("signing.keyId") as String?
+        ?: System.getenv("SIGNING_KEY_ID")
+
+    val secretKey: String? = findProperty("signing.secretKeyRingFile")?.let { file(it).readText() }
+        ?: System.getenv("SIGNING_KEY")
+
+    val password: String? = findProperty("signing.password") as String?
+        ?: System.getenv("SIGNING_PASSWORD")
+
+    if (keyId != null && secretKey != null && password != null) {
+        useInMemoryPgpKeys(keyId, secretKey, password)
+        sign(publishing.publications["mavenJava"])
+    }
+}
@@ -0,0 +1,193 @@
+package com.codestackfoundry.starters.mapstruct.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor that writes a compile-time index of MapStruct mappers.
+ *
+ * <p>The processor runs next to {@code mapstruct-processor} and records, for every type annotated
+ * with {@code @Mapper}, the name of the implementation class MapStruct generates for it. The result is
+ * written to {@value #INDEX_LOCATION} as {@code <mapper>=<implementation>} lines, using binary class names.
+ *
+ * <p>Implementation names follow MapStruct's own conventions: {@code <CLASS_NAME>Impl} in the mapper's package
+ * by default, or whatever is configured through {@code implementationName} / {@code implementationPackage}
+ * on {@code @Mapper} or the referenced {@code @MapperConfig}.
+ *
+ * <p>Mappers using {@code componentModel = "spring"} (directly, through their {@code @MapperConfig}, or through
+ * the {@code mapstruct.defaultComponentModel} processor option) are left out, because their implementations are
+ * already Spring components and the starter never registers them.
+ *
+ * <p>The processor never claims {@code @Mapper}, so {@code mapstruct-processor} still sees every mapper.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+@SupportedAnnotationTypes(MapperIndexProcessor.MAPPER_ANNOTATION)
+public class MapperIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the generated index, relative to the class output root.
+     */
+    public static final String INDEX_LOCATION = "META-INF/mapstruct/mappers.idx";
+
+    static final String MAPPER_ANNOTATION = "org.mapstruct.Mapper";
+
+    static final String MAPPER_CONFIG_ANNOTATION = "org.mapstruct.MapperConfig";
+
+    static final String DEFAULT_COMPONENT_MODEL_OPTION = "mapstruct.defaultComponentModel";
+
+    private static final String SPRING_COMPONENT_MODEL = "spring";
+
+    private static final String DEFAULT_IMPLEMENTATION_NAME = "<CLASS_NAME>Impl";
+
+    private static final String DEFAULT_IMPLEMENTATION_PACKAGE = "<PACKAGE_NAME>";
+
+    private final Map<String, String> entries = new TreeMap<>();
+
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    /**
+     * Public no-argument constructor, required by {@link java.util.ServiceLoader}.
+     */
+    public MapperIndexProcessor() { }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(DEFAULT_COMPONENT_MODEL_OPTION);
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        TypeElement mapperAnnotation = processingEnv.getElementUtils().getTypeElement(MAPPER_ANNOTATION);
+        if (mapperAnnotation == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(mapperAnnotation)) {
+            if (element instanceof TypeElement mapperType) {
+                index(mapperType);
+            }
+        }
+        return false;
+    }
+
+    private void index(TypeElement mapperType) {
+        AnnotationMirror mapper = findAnnotation(mapperType, MAPPER_ANNOTATION);
+        if (mapper == null) {
+            return;
+        }
+        AnnotationMirror config = findConfig(mapper);
+
+        String componentModel = resolve(mapper, config, "componentModel",
+                processingEnv.getOptions().getOrDefault(DEFAULT_COMPONENT_MODEL_OPTION, "default"));
+        if (SPRING_COMPONENT_MODEL.equals(componentModel)) {
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(mapperType).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(mapperType).toString();
+        String className = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+
+        String implementationName = resolve(mapper, config, "implementationName", DEFAULT_IMPLEMENTATION_NAME)
+                .replace("<CLASS_NAME>", className);
+        String implementationPackage = resolve(mapper, config, "implementationPackage", DEFAULT_IMPLEMENTATION_PACKAGE)
+                .replace("<PACKAGE_NAME>", packageName);
+
+        String implementation = implementationPackage.isEmpty()
+                ? implementationName
+                : implementationPackage + "." + implementationName;
+
+        entries.put(binaryName, implementation);
+        originatingElements.add(mapperType);
+    }
+
+    /**
+     * Resolves an attribute the way MapStruct does: an explicit value on {@code @Mapper} wins,
+     * then an explicit value on the referenced {@code @MapperConfig}, then the given default.
+     */
+    private String resolve(AnnotationMirror mapper, AnnotationMirror config, String attribute, String defaultValue) {
+        String value = explicitValue(mapper, attribute);
+        if (value == null && config != null) {
+            value = explicitValue(config, attribute);
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    private AnnotationMirror findConfig(AnnotationMirror mapper) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mapper.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("config")
+                    && entry.getValue().getValue() instanceof DeclaredType declaredType) {
+                return findAnnotation((TypeElement) declaredType.asElement(), MAPPER_CONFIG_ANNOTATION);
+            }
+        }
+        return null;
+    }
+
+    private static String explicitValue(AnnotationMirror annotation, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return null;
+    }
+
+    private static AnnotationMirror findAnnotation(TypeElement type, String annotationName) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private void writeIndex() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    INDEX_LOCATION, originatingElements.toArray(new Element[0]));
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Generated by " + MapperIndexProcessor.class.getName() + " - do not edit\n");
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to write MapStruct mapper index " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+}
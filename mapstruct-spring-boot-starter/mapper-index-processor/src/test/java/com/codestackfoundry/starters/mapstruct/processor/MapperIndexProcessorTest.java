@@ -0,0 +1,98 @@
+package com.codestackfoundry.starters.mapstruct.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperIndexProcessorTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void writesIndexUsingMapStructNamingConventions() throws IOException {
+        Path index = compile("""
+                package com.acme.mapper;
+
+                import org.mapstruct.Mapper;
+                import org.mapstruct.MapperConfig;
+
+                @Mapper
+                interface PlainMapper {}
+
+                @Mapper(implementationName = "<CLASS_NAME>Generated", implementationPackage = "<PACKAGE_NAME>.impl")
+                interface CustomNameMapper {}
+
+                @MapperConfig(implementationName = "<CLASS_NAME>FromConfig")
+                interface SharedConfig {}
+
+                @Mapper(config = SharedConfig.class)
+                interface ConfiguredMapper {}
+
+                class Outer {
+                    @Mapper
+                    interface NestedMapper {}
+                }
+                """);
+
+        assertThat(Files.readAllLines(index)).contains(
+                "com.acme.mapper.PlainMapper=com.acme.mapper.PlainMapperImpl",
+                "com.acme.mapper.CustomNameMapper=com.acme.mapper.impl.CustomNameMapperGenerated",
+                "com.acme.mapper.ConfiguredMapper=com.acme.mapper.ConfiguredMapperFromConfig",
+                "com.acme.mapper.Outer$NestedMapper=com.acme.mapper.Outer$NestedMapperImpl");
+    }
+
+    @Test
+    void skipsMappersUsingSpringComponentModel() throws IOException {
+        Path index = compile("""
+                package com.acme.mapper;
+
+                import org.mapstruct.Mapper;
+                import org.mapstruct.MapperConfig;
+
+                @Mapper(componentModel = "spring")
+                interface SpringMapper {}
+
+                @MapperConfig(componentModel = "spring")
+                interface SpringConfig {}
+
+                @Mapper(config = SpringConfig.class)
+                interface ConfiguredSpringMapper {}
+
+                @Mapper(config = SpringConfig.class, componentModel = "jakarta")
+                interface OverriddenMapper {}
+                """);
+
+        assertThat(Files.readAllLines(index))
+                .contains("com.acme.mapper.OverriddenMapper=com.acme.mapper.OverriddenMapperImpl")
+                .noneMatch(line -> line.contains("SpringMapper"));
+    }
+
+    private Path compile(String source) throws IOException {
+        Path sourceFile = workDir.resolve("src/com/acme/mapper/Mappers.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source);
+        Path classes = Files.createDirectories(workDir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int exitCode = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", MapperIndexProcessor.class.getName(),
+                "-proc:only",
+                "-d", classes.toString(),
+                sourceFile.toString());
+
+        assertThat(exitCode).isZero();
+        Path index = classes.resolve(MapperIndexProcessor.INDEX_LOCATION);
+        assertThat(index).exists();
+        return index;
+    }
+}
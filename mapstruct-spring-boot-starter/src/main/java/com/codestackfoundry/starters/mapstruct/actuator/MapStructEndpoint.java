@@ -0,0 +1,220 @@
+package com.codestackfoundry.starters.mapstruct.actuator;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.BasePackageSource;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.DiscoverySource;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.Registration;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperInvocationStatistics;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperInvocationStatistics.AllocationStatistics;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperInvocationStatistics.MethodStatistics;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanResult;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanStatistics.RootScan;
+import com.codestackfoundry.starters.mapstruct.warmup.MapperWarmupRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@link Endpoint @Endpoint} exposing how mappers were discovered, registered and warmed up at startup, and,
+ * when the mapper instrumentation is enabled, how often each mapper method has been invoked since.
+ *
+ * <p>The discovery and registration details come from the {@link MapperRegistrationReport}. They are
+ * {@code null} when the application was started from AOT-generated artifacts, since mappers are then not
+ * discovered at runtime. Invocation statistics are {@code null} unless {@code mapstruct.metrics.enabled=true},
+ * warm-up results unless {@code mapstruct.warmup.enabled=true}. The top allocating methods are listed when
+ * {@code mapstruct.metrics.allocations=true} as well.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructEndpointAutoConfiguration
+ */
+@Endpoint(id = "mapstruct")
+public class MapStructEndpoint {
+
+    private static final String UNKNOWN_PACKAGE = "(unknown)";
+
+    private static final int TOP_ALLOCATING = 10;
+
+    private final ObjectProvider<MapperRegistrationReport> report;
+
+    private final ObjectProvider<MapperInvocationStatistics> invocationStatistics;
+
+    private final ObjectProvider<MapperWarmupRunner> warmupRunner;
+
+    /**
+     * Creates the endpoint.
+     *
+     * @param report               provider of the registration report
+     * @param invocationStatistics provider of the invocation statistics, available when instrumentation is active
+     * @param warmupRunner         provider of the warm-up runner, available when the warm-up is enabled
+     */
+    public MapStructEndpoint(ObjectProvider<MapperRegistrationReport> report,
+                             ObjectProvider<MapperInvocationStatistics> invocationStatistics,
+                             ObjectProvider<MapperWarmupRunner> warmupRunner) {
+        this.report = report;
+        this.invocationStatistics = invocationStatistics;
+        this.warmupRunner = warmupRunner;
+    }
+
+    /**
+     * Describes mapper discovery, registration, warm-up and invocations.
+     *
+     * @return the description
+     */
+    @ReadOperation
+    public MapStructDescriptor mapstruct() {
+        MapperInvocationStatistics statistics = invocationStatistics.getIfAvailable();
+        Map<String, Map<String, MethodStatistics>> invocations = statistics != null ? statistics.snapshot() : null;
+        List<AllocationStatistics> topAllocating = statistics != null ? statistics.topAllocating(TOP_ALLOCATING) : null;
+        MapperWarmupRunner runner = warmupRunner.getIfAvailable();
+        Map<String, WarmupDescriptor> warmup = runner != null ? warmup(runner) : null;
+
+        MapperRegistrationReport report = this.report.getIfAvailable();
+        if (report == null) {
+            return new MapStructDescriptor(null, null, null, warmup, invocations, topAllocating);
+        }
+        return new MapStructDescriptor(
+                new BasePackagesDescriptor(report.getBasePackages(), report.getBasePackageSource()),
+                discovery(report),
+                report.getRegistrations(),
+                warmup,
+                invocations,
+                topAllocating);
+    }
+
+    private static Map<String, WarmupDescriptor> warmup(MapperWarmupRunner runner) {
+        Map<String, WarmupDescriptor> warmup = new TreeMap<>();
+        runner.getResults().forEach(result -> warmup.put(result.mapper(), new WarmupDescriptor(result.methods(),
+                result.invocations(), result.failures(), toMillis(result.duration().toNanos()), result.completed())));
+        return warmup;
+    }
+
+    private static DiscoveryDescriptor discovery(MapperRegistrationReport report) {
+        Map<String, PackageDescriptor> packages = new TreeMap<>();
+        report.getResults().forEach((basePackage, result) -> packages.put(basePackage, new PackageDescriptor(
+                report.getDiscoverySources().get(basePackage), result.hasAnyMappers(),
+                new TreeSet<>(result.implementationClassNames()))));
+
+        Map<String, List<RootScan>> rootsByPackage = new TreeMap<>();
+        for (RootScan root : report.getScanStatistics().getRoots()) {
+            String scanPackage = root.scanPackage() != null ? root.scanPackage() : UNKNOWN_PACKAGE;
+            rootsByPackage.computeIfAbsent(scanPackage, key -> new ArrayList<>()).add(root);
+        }
+        Map<String, ScanDescriptor> scans = new TreeMap<>();
+        rootsByPackage.forEach((scanPackage, roots) -> scans.put(scanPackage, new ScanDescriptor(
+                roots.stream().mapToInt(RootScan::classesRead).sum(),
+                toMillis(roots.stream().mapToLong(RootScan::scanNanos).sum()),
+                roots.stream().map(root -> new RootDescriptor(root.root(), root.classesRead(),
+                        toMillis(root.scanNanos()), root.cached())).toList())));
+
+        return new DiscoveryDescriptor(report.isAheadOfTime(), report.isEarlyScan(), report.isSharedScan(),
+                toMillis(report.getDiscoveryNanos()), packages, scans,
+                new TreeSet<>(report.getScanStatistics().getComponentImplementations()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Description of the MapStruct integration.
+     *
+     * @param basePackages  the resolved base packages
+     * @param discovery     how mappers were discovered
+     * @param registrations the registration decision for every discovered mapper implementation
+     * @param warmup        the warm-up per {@code @Mapper} type, if the warm-up is enabled
+     * @param invocations   the statistics per method, per {@code @Mapper} type, if instrumentation is active
+     * @param topAllocating the methods allocating the most, if instrumentation is active
+     */
+    public record MapStructDescriptor(BasePackagesDescriptor basePackages,
+                                      DiscoveryDescriptor discovery,
+                                      List<Registration> registrations,
+                                      Map<String, WarmupDescriptor> warmup,
+                                      Map<String, Map<String, MethodStatistics>> invocations,
+                                      List<AllocationStatistics> topAllocating)
+            implements OperationResponseBody {
+    }
+
+    /**
+     * Description of the resolved base packages.
+     *
+     * @param packages the base packages
+     * @param source   whether they were configured or inferred from the main class
+     */
+    public record BasePackagesDescriptor(List<String> packages, BasePackageSource source) {
+    }
+
+    /**
+     * Description of mapper discovery.
+     *
+     * @param aheadOfTime              whether discovery ran at build time, during AOT processing
+     * @param earlyScan                whether the early background scan was used
+     * @param sharedScan               whether the result was discovered by another context and shared
+     * @param durationMillis           the wall-clock time discovery took
+     * @param packages                 the discovery result per base package
+     * @param scans                    the classpath scan per scanned package
+     * @param componentImplementations implementations left out because they are already Spring components
+     */
+    public record DiscoveryDescriptor(boolean aheadOfTime, boolean earlyScan, boolean sharedScan,
+                                      double durationMillis,
+                                      Map<String, PackageDescriptor> packages,
+                                      Map<String, ScanDescriptor> scans,
+                                      Set<String> componentImplementations) {
+    }
+
+    /**
+     * Description of the mappers found in one base package.
+     *
+     * @param source          whether they were read from the index or found by scanning
+     * @param mapperTypes     whether any {@code @Mapper} type was found
+     * @param implementations the implementations found for registration
+     *
+     * @see MapperScanResult
+     */
+    public record PackageDescriptor(DiscoverySource source, boolean mapperTypes, Set<String> implementations) {
+    }
+
+    /**
+     * Description of the classpath scan of one package.
+     *
+     * @param classesRead the number of class files read
+     * @param scanMillis  the time spent reading them, summed over all roots
+     * @param roots       the classpath roots scanned
+     */
+    public record ScanDescriptor(int classesRead, double scanMillis, List<RootDescriptor> roots) {
+    }
+
+    /**
+     * Description of the scan of one classpath root.
+     *
+     * @param root        the URL of the package location within the classpath entry
+     * @param classesRead the number of class files read
+     * @param scanMillis  the time spent reading them; {@code 0} for cached roots
+     * @param cached      whether the result was served from the persistent scan cache
+     */
+    public record RootDescriptor(String root, int classesRead, double scanMillis, boolean cached) {
+    }
+
+    /**
+     * Description of the warm-up of one mapper.
+     *
+     * @param methods        the number of methods that had warm-up inputs
+     * @param invocations    the number of method invocations performed
+     * @param failures       the number of methods dropped because they threw
+     * @param durationMillis the time spent warming up the mapper
+     * @param completed      whether all iterations ran, rather than being cut short by the duration or budget
+     *
+     * @see MapperWarmupRunner.MapperWarmup
+     */
+    public record WarmupDescriptor(int methods, long invocations, int failures, double durationMillis,
+                                   boolean completed) {
+    }
+}
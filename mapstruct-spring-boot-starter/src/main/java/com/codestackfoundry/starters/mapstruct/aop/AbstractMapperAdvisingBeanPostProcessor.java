@@ -0,0 +1,70 @@
+package com.codestackfoundry.starters.mapstruct.aop;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * Base class for bean post-processors that apply an advisor to the mapper beans registered by
+ * {@link MapStructImplRegistrar}, and to no other bean.
+ *
+ * <p>Mapper beans are recognized by the {@link MapStructImplRegistrar#MAPPER_BEAN_ATTRIBUTE} on their bean
+ * definition. They are proxied with class-based proxies, so they stay injectable by their {@code @Mapper}
+ * interface, their abstract {@code @Mapper} class and their implementation class alike. When several
+ * subclasses apply to the same mapper, their advisors are added to a single proxy.
+ *
+ * <p>Subclasses set the advisor in their constructor. Features that are disabled should not register their
+ * post-processor at all, so that unadvised mappers are never proxied.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public abstract class AbstractMapperAdvisingBeanPostProcessor extends AbstractAdvisingBeanPostProcessor
+        implements BeanFactoryAware {
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    /**
+     * Creates a post-processor that proxies mapper beans by class.
+     */
+    protected AbstractMapperAdvisingBeanPostProcessor() {
+        setProxyTargetClass(true);
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory instanceof ConfigurableListableBeanFactory listableBeanFactory
+                ? listableBeanFactory
+                : null;
+    }
+
+    @Override
+    public Class<?> determineBeanType(Class<?> beanClass, String beanName) {
+        if (!isMapperBean(beanName)) {
+            return beanClass;
+        }
+        return super.determineBeanType(beanClass, beanName);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!isMapperBean(beanName)) {
+            return bean;
+        }
+        return super.postProcessAfterInitialization(bean, beanName);
+    }
+
+    /**
+     * Returns whether the named bean is a mapper registered by {@link MapStructImplRegistrar}.
+     *
+     * @param beanName the bean name
+     * @return {@code true} for registered mapper beans
+     */
+    protected boolean isMapperBean(String beanName) {
+        return beanFactory != null
+                && beanFactory.containsBeanDefinition(beanName)
+                && Boolean.TRUE.equals(beanFactory.getMergedBeanDefinition(beanName)
+                        .getAttribute(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE));
+    }
+}
@@ -0,0 +1,117 @@
+package com.codestackfoundry.starters.mapstruct.aot;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.Registration;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanResult;
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.CodeBlock;
+
+import javax.lang.model.element.Modifier;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Ahead-of-time processor that carries over what {@link MapStructImplRegistrar} computed at build time and would
+ * otherwise have to be recomputed, or could not be computed at all, at runtime.
+ *
+ * <p>The generated bean factory initialization code
+ * <ul>
+ *     <li>records the {@code @Mapper} types of every registered mapper implementation with
+ *         {@link MapperTypes#registerAheadOfTime(String, java.util.List)}, since they are recognized by reading
+ *         class files, which a native image does not have</li>
+ *     <li>recreates the {@link MapperRegistrationReport} with
+ *         {@link MapperRegistrationReport#registerAheadOfTime}, since the registrar does not run and the report
+ *         singleton is not part of the generated bean registrations</li>
+ * </ul>
+ *
+ * <p>Registered through {@code META-INF/spring/aot.factories}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapStructBeanRegistrationAotProcessor
+ */
+class MapStructBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Map<String, List<String>> mapperTypes = new LinkedHashMap<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            if (!Boolean.TRUE.equals(beanFactory.getMergedBeanDefinition(beanName)
+                    .getAttribute(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE))) {
+                continue;
+            }
+            Class<?> implClass = beanFactory.getType(beanName, false);
+            if (implClass != null) {
+                mapperTypes.put(implClass.getName(),
+                        MapperTypes.findMapperTypes(implClass).stream().map(Class::getName).toList());
+            }
+        }
+        MapperRegistrationReport report = beanFactory.containsSingleton(MapperRegistrationReport.BEAN_NAME)
+                ? (MapperRegistrationReport) beanFactory.getSingleton(MapperRegistrationReport.BEAN_NAME)
+                : null;
+        if (mapperTypes.isEmpty() && report == null) {
+            return null;
+        }
+
+        return (generationContext, beanFactoryInitializationCode) -> beanFactoryInitializationCode.addInitializer(
+                beanFactoryInitializationCode.getMethods().add("registerMapStructMappers", method -> {
+                    method.addJavadoc("Registers what MapStruct mapper discovery found at build time.");
+                    method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+                    method.addParameter(DefaultListableBeanFactory.class,
+                            BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE);
+                    mapperTypes.forEach((implClassName, types) -> method.addStatement("$T.registerAheadOfTime($S, $L)",
+                            MapperTypes.class, implClassName, list(types, type -> CodeBlock.of("$S", type))));
+                    if (report != null) {
+                        method.addStatement(registerReport(report));
+                    }
+                }).toMethodReference());
+    }
+
+    private static CodeBlock registerReport(MapperRegistrationReport report) {
+        Map<String, CodeBlock> discoverySources = new LinkedHashMap<>();
+        report.getDiscoverySources().forEach((basePackage, source) ->
+                discoverySources.put(basePackage, constant(source)));
+        Map<String, CodeBlock> results = new LinkedHashMap<>();
+        report.getResults().forEach((basePackage, result) -> results.put(basePackage,
+                CodeBlock.of("new $T($L, $T.of($L))", MapperScanResult.class, result.hasAnyMappers(), Set.class,
+                        join(result.implementationClassNames(), name -> CodeBlock.of("$S", name)))));
+        return CodeBlock.of("$T.registerAheadOfTime($L, $L, $L, $L, $L, $LL, $L)",
+                MapperRegistrationReport.class,
+                BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                list(report.getBasePackages(), basePackage -> CodeBlock.of("$S", basePackage)),
+                constant(report.getBasePackageSource()),
+                map(discoverySources),
+                map(results),
+                report.getDiscoveryNanos(),
+                list(report.getRegistrations(), registration -> CodeBlock.of("new $T($S, $S, $L, $L)",
+                        Registration.class, registration.implementation(), registration.beanName(),
+                        constant(registration.decision()), constant(registration.mode()))));
+    }
+
+    private static CodeBlock constant(Enum<?> value) {
+        return value != null ? CodeBlock.of("$T.$L", value.getDeclaringClass(), value.name()) : CodeBlock.of("null");
+    }
+
+    private static <T> CodeBlock list(Collection<T> values, Function<T, CodeBlock> element) {
+        return CodeBlock.of("$T.of($L)", List.class, join(values, element));
+    }
+
+    private static CodeBlock map(Map<String, CodeBlock> entries) {
+        return CodeBlock.of("$T.ofEntries($L)", Map.class, join(entries.entrySet(),
+                entry -> CodeBlock.of("$T.entry($S, $L)", Map.class, entry.getKey(), entry.getValue())));
+    }
+
+    private static <T> CodeBlock join(Collection<T> values, Function<T, CodeBlock> element) {
+        return CodeBlock.join(values.stream().map(element).toList(), ", ");
+    }
+}
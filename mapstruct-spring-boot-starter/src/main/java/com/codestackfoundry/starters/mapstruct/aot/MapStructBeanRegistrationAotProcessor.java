@@ -0,0 +1,83 @@
+package com.codestackfoundry.starters.mapstruct.aot;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.aot.BeanRegistrationCodeFragments;
+import org.springframework.beans.factory.aot.BeanRegistrationCodeFragmentsDecorator;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.javapoet.CodeBlock;
+
+import java.util.function.Predicate;
+
+/**
+ * Ahead-of-time processor for the mapper beans registered by {@link MapStructImplRegistrar}.
+ *
+ * <p>During Spring AOT processing the registrar runs once at build time, so the classpath scan happens
+ * there and its result is turned into generated bean registrations that instantiate each mapper
+ * implementation directly. At runtime (JVM with AOT or GraalVM native image) the registrar is not invoked
+ * at all.
+ *
+ * <p>Spring does not carry bean definition attributes over into the generated registrations, so this processor
+ * adds {@link MapStructImplRegistrar#MAPPER_BEAN_ATTRIBUTE} to the generated code of every mapper bean: the
+ * {@code MapperRegistry}, the mapper-advising post-processors and the warm-up recognize mappers by it.
+ *
+ * <p>It also contributes the {@code RuntimeHints} those mappers need in a native image:
+ * <ul>
+ *     <li>the mapper implementation, with its declared constructors, so that MapStruct's
+ *         {@code Mappers.getMapper(...)} (used by generated code for {@code uses = ...}) can still instantiate it</li>
+ *     <li>every {@code @Mapper} type the implementation implements or extends, with its public methods, so that
+ *         the {@code MapperRegistry} can index and invoke them</li>
+ * </ul>
+ *
+ * <p>Registered through {@code META-INF/spring/aot.factories}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapStructImplRegistrar#MAPPER_BEAN_ATTRIBUTE
+ * @see MapStructBeanFactoryInitializationAotProcessor
+ */
+class MapStructBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        if (!Boolean.TRUE.equals(registeredBean.getMergedBeanDefinition().getAttribute(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE))) {
+            return null;
+        }
+
+        Class<?> implClass = registeredBean.getBeanClass();
+        return new BeanRegistrationAotContribution() {
+
+            @Override
+            public BeanRegistrationCodeFragments customizeBeanRegistrationCodeFragments(
+                    GenerationContext generationContext, BeanRegistrationCodeFragments codeFragments) {
+                return new BeanRegistrationCodeFragmentsDecorator(codeFragments) {
+
+                    @Override
+                    public CodeBlock generateSetBeanDefinitionPropertiesCode(GenerationContext generationContext,
+                                                                             BeanRegistrationCode beanRegistrationCode,
+                                                                             RootBeanDefinition beanDefinition,
+                                                                             Predicate<String> attributeFilter) {
+                        return super.generateSetBeanDefinitionPropertiesCode(generationContext, beanRegistrationCode,
+                                beanDefinition, attributeFilter.or(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE::equals));
+                    }
+                };
+            }
+
+            @Override
+            public void applyTo(GenerationContext generationContext, BeanRegistrationCode beanRegistrationCode) {
+                ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+                reflection.registerType(implClass, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+                for (Class<?> mapperType : MapperTypes.findMapperTypes(implClass)) {
+                    reflection.registerType(mapperType, MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            }
+        };
+    }
+}
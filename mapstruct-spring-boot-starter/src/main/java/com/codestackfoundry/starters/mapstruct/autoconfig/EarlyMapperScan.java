@@ -0,0 +1,116 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Mapper discovery started by {@link MapperScanRunListener} on a background thread, before the application
+ * context is refreshed, and joined by {@link MapStructImplRegistrar}.
+ *
+ * <p>The scan is only reused if it was started for the same configured base packages and the same class loader
+ * the registrar sees; otherwise, or if it failed, the registrar discovers mappers inline as before.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class EarlyMapperScan {
+
+    /**
+     * Name of the singleton under which the early scan is handed over to the bean factory.
+     */
+    static final String BEAN_NAME = EarlyMapperScan.class.getName();
+
+    private static final Logger log = LoggerFactory.getLogger(EarlyMapperScan.class);
+
+    private final List<String> configuredBasePackages;
+
+    private final List<String> basePackages;
+
+    private final ClassLoader classLoader;
+
+    private final CompletableFuture<Map<String, MapperScanResult>> result = new CompletableFuture<>();
+
+    private final MapperRegistrationReport report = new MapperRegistrationReport();
+
+    private EarlyMapperScan(List<String> configuredBasePackages, List<String> basePackages, ClassLoader classLoader) {
+        this.configuredBasePackages = configuredBasePackages;
+        this.basePackages = basePackages;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Starts mapper discovery on a new daemon thread.
+     *
+     * @param configuredBasePackages the value of {@code mapstruct.base-packages}, possibly empty
+     * @param basePackages           the resolved base packages to scan
+     * @param props                  the bound configuration properties
+     * @param classLoader            the class loader used to locate the index and mapper implementations
+     * @return the running scan
+     */
+    static EarlyMapperScan start(List<String> configuredBasePackages, List<String> basePackages,
+                                 MapStructProperties props, ClassLoader classLoader) {
+        EarlyMapperScan scan = new EarlyMapperScan(configuredBasePackages, basePackages, classLoader);
+        Thread thread = new Thread(() -> {
+            try {
+                scan.result.complete(MapperDiscovery.discover(basePackages, props, classLoader, scan.report));
+            } catch (Throwable ex) {
+                scan.result.completeExceptionally(ex);
+            }
+        }, "mapstruct-early-scan");
+        thread.setDaemon(true);
+        thread.setContextClassLoader(classLoader);
+        thread.start();
+        log.debug("Started early mapper scan of {}", basePackages);
+        return scan;
+    }
+
+    /**
+     * Returns the resolved base packages this scan was started for.
+     *
+     * @return the base packages
+     */
+    List<String> basePackages() {
+        return basePackages;
+    }
+
+    /**
+     * Returns the report filled by the scan; complete once {@link #join(List, ClassLoader)} has returned a result.
+     *
+     * @return the registration report
+     */
+    MapperRegistrationReport report() {
+        return report;
+    }
+
+    /**
+     * Waits for the scan to finish and returns its result, provided it matches the caller's configuration.
+     *
+     * @param configuredBasePackages the value of {@code mapstruct.base-packages} seen by the caller
+     * @param classLoader            the class loader used by the caller
+     * @return the scan result per base package, or {@code null} if it cannot be reused
+     */
+    Map<String, MapperScanResult> join(List<String> configuredBasePackages, ClassLoader classLoader) {
+        if (!Objects.equals(this.configuredBasePackages, configuredBasePackages) || this.classLoader != classLoader) {
+            log.debug("Discarding early mapper scan: configuration changed since it was started");
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            Map<String, MapperScanResult> results = result.join();
+            log.debug("Joined early mapper scan after waiting {} ms", (System.nanoTime() - start) / 1_000_000);
+            return results;
+        } catch (CompletionException | CancellationException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            log.warn("Early mapper scan failed, scanning inline instead: {}", cause.getMessage());
+            return null;
+        }
+    }
+}
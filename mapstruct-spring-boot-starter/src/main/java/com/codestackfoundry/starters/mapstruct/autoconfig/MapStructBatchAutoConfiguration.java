@@ -0,0 +1,61 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.batch.MapperBatchExecutor;
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperBatchExecutorMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Auto-configuration of the {@link MapperBatchExecutor} used to map large collections in parallel.
+ *
+ * <p>Active unless {@code mapstruct.batch.enabled=false}. The executor's threads are only started on first
+ * parallel use. When Micrometer is on the classpath, the executor's pool and queue metrics are exposed through
+ * a {@link MapperBatchExecutorMetrics} binder.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperBatchExecutor
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "mapstruct.batch", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MapStructBatchAutoConfiguration {
+
+    private MapStructBatchAutoConfiguration() {}
+
+    /**
+     * Registers the batch executor.
+     *
+     * @param environment the environment holding the {@code mapstruct.batch} settings
+     * @return the batch executor
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    MapperBatchExecutor mapperBatchExecutor(Environment environment) {
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+        return new MapperBatchExecutor(props.getBatch());
+    }
+
+    /**
+     * Exposes batch executor metrics when Micrometer is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class BatchMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        MapperBatchExecutorMetrics mapperBatchExecutorMetrics(MapperBatchExecutor mapperBatchExecutor) {
+            return new MapperBatchExecutorMetrics(mapperBatchExecutor);
+        }
+    }
+}
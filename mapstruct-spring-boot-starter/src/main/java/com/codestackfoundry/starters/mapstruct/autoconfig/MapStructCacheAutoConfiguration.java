@@ -0,0 +1,73 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.cache.MapperCacheBeanPostProcessor;
+import com.codestackfoundry.starters.mapstruct.cache.MapperCacheManager;
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Auto-configuration of result caching for mapper methods annotated with
+ * {@link com.codestackfoundry.starters.mapstruct.cache.CachedMapping @CachedMapping}.
+ *
+ * <p>Active unless {@code mapstruct.cache.enabled=false}. Only mappers that declare {@code @CachedMapping}
+ * methods are proxied. When Micrometer is on the classpath, cache statistics are exposed through a
+ * {@link MapperCacheMetrics} binder.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperCacheBeanPostProcessor
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "mapstruct.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MapStructCacheAutoConfiguration {
+
+    private MapStructCacheAutoConfiguration() {}
+
+    /**
+     * Registers the manager holding the caches and offering invalidation.
+     *
+     * @return the cache manager
+     */
+    @Bean
+    static MapperCacheManager mapperCacheManager() {
+        return new MapperCacheManager();
+    }
+
+    /**
+     * Registers the post-processor that decorates mappers with result caches.
+     *
+     * @param cacheManager provider of the cache manager
+     * @param environment  the environment holding the {@code mapstruct.cache} settings
+     * @return the post-processor
+     */
+    @Bean
+    static MapperCacheBeanPostProcessor mapperCacheBeanPostProcessor(ObjectProvider<MapperCacheManager> cacheManager,
+                                                                     Environment environment) {
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+        return new MapperCacheBeanPostProcessor(cacheManager, props.getCache());
+    }
+
+    /**
+     * Exposes cache metrics when Micrometer is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class CacheMetricsConfiguration {
+
+        @Bean
+        MapperCacheMetrics mapperCacheMetrics(MapperCacheManager mapperCacheManager) {
+            return new MapperCacheMetrics(mapperCacheManager);
+        }
+    }
+}
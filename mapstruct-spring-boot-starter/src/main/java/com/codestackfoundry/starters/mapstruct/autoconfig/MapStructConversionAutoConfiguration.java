@@ -0,0 +1,38 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.conversion.MapperConverterRegistryPostProcessor;
+import com.codestackfoundry.starters.mapstruct.registry.MapperRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration that lets Spring's {@code ConversionService}s convert with the registered mappers.
+ *
+ * <p>Opt-in with {@code mapstruct.conversion.enabled=true}. Every single-argument mapper method indexed by the
+ * {@link MapperRegistry} then backs {@code conversionService.convert(...)}, request parameter binding and any
+ * other conversion between its source and target types.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperConverterRegistryPostProcessor
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "mapstruct.conversion", name = "enabled", havingValue = "true")
+public class MapStructConversionAutoConfiguration {
+
+    private MapStructConversionAutoConfiguration() {}
+
+    /**
+     * Registers the post-processor that adds the mapper converter to converter registries.
+     *
+     * @param mapperRegistry provider of the mapper registry
+     * @return the post-processor
+     */
+    @Bean
+    static MapperConverterRegistryPostProcessor mapperConverterRegistryPostProcessor(
+            ObjectProvider<MapperRegistry> mapperRegistry) {
+        return new MapperConverterRegistryPostProcessor(mapperRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.context.CycleTrackingContext;
+import com.codestackfoundry.starters.mapstruct.context.CycleTrackingContextBeanPostProcessor;
+import com.codestackfoundry.starters.mapstruct.metrics.CycleTrackingContextMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration that supplies a pooled {@link CycleTrackingContext} to mapper methods invoked with
+ * {@code null} for their {@code CycleTrackingContext} parameter.
+ *
+ * <p>Active unless {@code mapstruct.cycle-context.enabled=false}. Only mappers declaring such a parameter are
+ * proxied. When Micrometer is on the classpath, context usage is exposed through a
+ * {@link CycleTrackingContextMetrics} binder.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "mapstruct.cycle-context", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class MapStructCycleTrackingAutoConfiguration {
+
+    private MapStructCycleTrackingAutoConfiguration() {}
+
+    /**
+     * Registers the post-processor that supplies contexts to mapper beans.
+     *
+     * @return the post-processor
+     */
+    @Bean
+    static CycleTrackingContextBeanPostProcessor cycleTrackingContextBeanPostProcessor() {
+        return new CycleTrackingContextBeanPostProcessor();
+    }
+
+    /**
+     * Exposes context usage when Micrometer is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class CycleTrackingMetricsConfiguration {
+
+        @Bean
+        CycleTrackingContextMetrics cycleTrackingContextMetrics() {
+            return new CycleTrackingContextMetrics();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.actuator.MapStructEndpoint;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperInvocationStatistics;
+import com.codestackfoundry.starters.mapstruct.warmup.MapperWarmupRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration of the {@code mapstruct} actuator endpoint.
+ *
+ * <p>Activated when Spring Boot Actuator is on the classpath and the endpoint is available, i.e. enabled and
+ * exposed through {@code management.endpoints.web.exposure.include} or JMX.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapStructEndpoint
+ */
+@AutoConfiguration(after = {MapStructAutoConfiguration.class, MapStructMetricsAutoConfiguration.class,
+        MapStructWarmupAutoConfiguration.class})
+@ConditionalOnClass(Endpoint.class)
+public class MapStructEndpointAutoConfiguration {
+
+    private MapStructEndpointAutoConfiguration() {}
+
+    /**
+     * Registers the endpoint.
+     *
+     * @param report               provider of the registration report
+     * @param invocationStatistics provider of the invocation statistics
+     * @param warmupRunner         provider of the warm-up runner
+     * @return the endpoint
+     */
+    @Bean
+    @ConditionalOnAvailableEndpoint(endpoint = MapStructEndpoint.class)
+    static MapStructEndpoint mapStructEndpoint(ObjectProvider<MapperRegistrationReport> report,
+                                               ObjectProvider<MapperInvocationStatistics> invocationStatistics,
+                                               ObjectProvider<MapperWarmupRunner> warmupRunner) {
+        return new MapStructEndpoint(report, invocationStatistics, warmupRunner);
+    }
+
+    /**
+     * Exposes invocation statistics when the mapper instrumentation is active.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "mapstruct.metrics", name = "enabled", havingValue = "true")
+    static class InvocationStatisticsConfiguration {
+
+        @Bean
+        MapperInvocationStatistics mapperInvocationStatistics(ObjectProvider<MeterRegistry> registry) {
+            return new MapperInvocationStatistics(registry);
+        }
+    }
+}
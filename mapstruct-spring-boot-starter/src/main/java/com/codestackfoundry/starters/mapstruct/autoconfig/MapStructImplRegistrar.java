@@ -1,23 +1,32 @@
 package com.codestackfoundry.starters.mapstruct.autoconfig;
 
 import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.config.MapperRegistrationMode;
 import com.codestackfoundry.starters.mapstruct.internal.MapStructBasePackageResolver;
+import com.codestackfoundry.starters.mapstruct.jfr.FlightRecorderSupport;
+import com.codestackfoundry.starters.mapstruct.jfr.MapperRegistrationEvent;
+import com.codestackfoundry.starters.mapstruct.registry.MapperRegistry;
 import com.codestackfoundry.starters.mapstruct.support.MapperScanResult;
-import com.codestackfoundry.starters.mapstruct.support.MapperScanUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
-import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
 
 import java.beans.Introspector;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -32,6 +41,19 @@ import java.util.Set;
  * Then it scans for generated MapStruct implementation classes (those not annotated with {@code @Component})
  * and registers them as Spring beans, avoiding duplicates.
  *
+ * <p>Packages covered by a compile-time {@link com.codestackfoundry.starters.mapstruct.support.MapperIndex}
+ * are resolved from the index instead of being scanned, unless {@code mapstruct.index.enabled=false}.
+ * All remaining packages are scanned together in a single, parallel pass over the classpath, optionally backed
+ * by a persistent {@link com.codestackfoundry.starters.mapstruct.support.MapperScanCache}. When the application
+ * is started through {@code SpringApplication}, that discovery has usually already been started in the background
+ * by {@link MapperScanRunListener}, and this registrar only joins its result.
+ *
+ * <p>Each mapper is registered eagerly, lazily or for background initialization depending on
+ * {@code mapstruct.registration.mode} and its per-package overrides. A {@link MapperRegistry} that dispatches
+ * by source and target type is registered alongside them, unless {@code mapstruct.registry.enabled=false}.
+ *
+ * <p>What was discovered and decided is kept in a {@link MapperRegistrationReport} singleton for diagnostics.
+ *
  * <p>If no mappers are found and {@code mapstruct.fail-if-no-mappers=true}, it throws an error to fail fast.
  *
  * @author Ritesh Chopade(codeswithritesh)
@@ -40,10 +62,25 @@ import java.util.Set;
  * @see com.codestackfoundry.starters.mapstruct.config.MapStructProperties
  * @see com.codestackfoundry.starters.mapstruct.support.MapperScanUtils
  */
-public class MapStructImplRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+public class MapStructImplRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware, BeanClassLoaderAware {
+
+    /**
+     * Name of the bean definition attribute that marks mapper implementations registered by this registrar.
+     *
+     * <p>Other parts of the starter (e.g. ahead-of-time processing) use it to tell registered mappers
+     * apart from ordinary beans.
+     */
+    public static final String MAPPER_BEAN_ATTRIBUTE = MapStructImplRegistrar.class.getName() + ".mapper";
 
     private static final Logger log = LoggerFactory.getLogger(MapStructImplRegistrar.class);
+
+    /**
+     * System property set by Spring's AOT processor while the application is processed ahead of time.
+     */
+    private static final String AOT_PROCESSING = "spring.aot.processing";
+
     private Environment environment;
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
 
     /**
      * Public no-argument constructor.
@@ -63,23 +100,42 @@ public class MapStructImplRegistrar implements ImportBeanDefinitionRegistrar, En
      */
     @Override
     public void registerBeanDefinitions(AnnotationMetadata metadata, BeanDefinitionRegistry registry) {
-        MapStructBasePackageResolver resolver = new MapStructBasePackageResolver();
-
         MapStructProperties props = Binder.get(environment)
                 .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
 
-        List<String> basePackages = resolver.resolveBasePackages(props);
-        Set<Class<?>> mapperImpls = new HashSet<>();
+        List<String> basePackages;
+        MapperRegistrationReport report;
+        EarlyMapperScan earlyScan = findEarlyScan(registry);
+        Map<String, MapperScanResult> results = earlyScan != null
+                ? earlyScan.join(props.getBasePackages(), classLoader)
+                : null;
+        if (results != null) {
+            basePackages = earlyScan.basePackages();
+            report = earlyScan.report();
+            report.earlyScan();
+        } else {
+            basePackages = new MapStructBasePackageResolver().resolveBasePackages(props);
+            report = new MapperRegistrationReport();
+            results = MapperDiscovery.discover(basePackages, props, classLoader, report);
+        }
+        report.basePackages(basePackages, props.getBasePackages() != null && !props.getBasePackages().isEmpty()
+                ? MapperRegistrationReport.BasePackageSource.CONFIGURED
+                : MapperRegistrationReport.BasePackageSource.INFERRED);
+        if (registry instanceof SingletonBeanRegistry singletons
+                && !singletons.containsSingleton(MapperRegistrationReport.BEAN_NAME)) {
+            singletons.registerSingleton(MapperRegistrationReport.BEAN_NAME, report);
+        }
+        Set<String> mapperImpls = new HashSet<>();
         boolean hasAnyMappers = false;
 
         for (String basePackage : basePackages) {
-            MapperScanResult result = MapperScanUtils.findMapperImpls(basePackage);
+            MapperScanResult result = results.get(basePackage);
             hasAnyMappers |= result.hasAnyMappers();
-            mapperImpls.addAll(result.implementationClasses());
+            mapperImpls.addAll(result.implementationClassNames());
 
             if (log.isDebugEnabled()) {
-                result.implementationClasses().forEach(mapper ->
-                        log.debug("Found mapper implementation: {}", mapper.getName())
+                result.implementationClassNames().forEach(mapper ->
+                        log.debug("Found mapper implementation: {}", mapper)
                 );
             }
         }
@@ -97,21 +153,50 @@ public class MapStructImplRegistrar implements ImportBeanDefinitionRegistrar, En
             }
         }
 
-        for (Class<?> implClass : mapperImpls) {
-            String beanName = Introspector.decapitalize(implClass.getSimpleName());
+        MapperRegistrationEvent event = FlightRecorderSupport.isAvailable() ? new MapperRegistrationEvent() : null;
+        int skipped = 0;
+        for (String implClassName : mapperImpls) {
+            String beanName = beanNameFor(implClassName);
 
             if (registry.containsBeanDefinition(beanName)) {
                 log.warn("Skipping registration of duplicate bean: {}", beanName);
+                report.registration(new MapperRegistrationReport.Registration(implClassName, beanName,
+                        MapperRegistrationReport.Decision.SKIPPED_DUPLICATE, null));
+                skipped++;
                 continue;
             }
 
-            GenericBeanDefinition def = new GenericBeanDefinition();
-            def.setBeanClass(implClass);
-            def.setAutowireCandidate(true);
-            def.setAutowireMode(GenericBeanDefinition.AUTOWIRE_BY_TYPE);
+            RootBeanDefinition def = mapperBeanDefinition(implClassName);
+            MapperRegistrationMode mode = props.getRegistration().resolveMode(implClassName);
+            applyRegistrationMode(def, mode);
 
             registry.registerBeanDefinition(beanName, def);
-            log.debug("Registered mapper : {}", beanName);
+            report.registration(new MapperRegistrationReport.Registration(implClassName, beanName,
+                    MapperRegistrationReport.Decision.REGISTERED, mode));
+            log.debug("Registered mapper : {} ({})", beanName, mode);
+        }
+        if (event != null) {
+            event.complete(mapperImpls.size() - skipped, skipped, report.isEarlyScan());
+        }
+
+        if (props.getRegistry().isEnabled() && !registry.containsBeanDefinition(MapperRegistry.BEAN_NAME)) {
+            RootBeanDefinition def = new RootBeanDefinition(MapperRegistry.class);
+            def.getConstructorArgumentValues().addIndexedArgumentValue(0, props.getRegistry().isFailOnAmbiguity());
+            registry.registerBeanDefinition(MapperRegistry.BEAN_NAME, def);
+        }
+
+        if (!MapStructProperties.Registration.isBackgroundInitSupported()) {
+            long backgroundFallback = report.getRegistrations().stream()
+                    .filter(r -> r.decision() == MapperRegistrationReport.Decision.REGISTERED
+                            && r.mode() == MapperRegistrationMode.EAGER)
+                    .filter(r -> props.getRegistration().resolveConfiguredMode(r.implementation())
+                            == MapperRegistrationMode.BACKGROUND)
+                    .count();
+            if (backgroundFallback > 0) {
+                log.warn("{} mapper(s) configured with registration mode BACKGROUND were registered eagerly: "
+                        + "background bean initialization requires Spring Framework 6.2 or later",
+                        backgroundFallback);
+            }
         }
 
         if (!mapperImpls.isEmpty() && log.isInfoEnabled()) {
@@ -121,6 +206,69 @@ public class MapStructImplRegistrar implements ImportBeanDefinitionRegistrar, En
         }
     }
 
+    /**
+     * Returns the scan started ahead of context refresh by {@link MapperScanRunListener}, if any.
+     *
+     * @param registry the bean definition registry, normally also the bean factory's singleton registry
+     * @return the early scan, or {@code null} if none was started
+     */
+    private static EarlyMapperScan findEarlyScan(BeanDefinitionRegistry registry) {
+        if (registry instanceof SingletonBeanRegistry singletons
+                && singletons.getSingleton(EarlyMapperScan.BEAN_NAME) instanceof EarlyMapperScan earlyScan) {
+            return earlyScan;
+        }
+        return null;
+    }
+
+    /**
+     * Creates the bean definition of a mapper implementation.
+     *
+     * <p>The definition carries an instance supplier that instantiates the mapper with explicit constructor
+     * injection, so Spring neither resolves constructors reflectively nor introspects property setters.
+     * While the application is processed ahead of time the supplier is omitted: the generated bean
+     * registrations instantiate the mapper directly.
+     *
+     * @param implClassName the binary name of the mapper implementation class
+     * @return the bean definition
+     */
+    static RootBeanDefinition mapperBeanDefinition(String implClassName) {
+        RootBeanDefinition def = new RootBeanDefinition(implClassName);
+        def.setAttribute(MAPPER_BEAN_ATTRIBUTE, Boolean.TRUE);
+        if (!Boolean.getBoolean(AOT_PROCESSING)) {
+            def.setInstanceSupplier(new MapperInstanceSupplier(implClassName));
+        }
+        return def;
+    }
+
+    /**
+     * Applies a registration mode, as resolved by
+     * {@link MapStructProperties.Registration#resolveMode(String)}, to a mapper bean definition.
+     *
+     * <p>{@link MapperRegistrationMode#BACKGROUND} is only resolved on Spring Framework 6.2 or later, so the
+     * {@code backgroundInit} property is set through a bean wrapper rather than compiled against.
+     *
+     * @param def  the mapper bean definition
+     * @param mode the registration mode to apply
+     */
+    private static void applyRegistrationMode(AbstractBeanDefinition def, MapperRegistrationMode mode) {
+        switch (mode) {
+            case LAZY -> def.setLazyInit(true);
+            case BACKGROUND -> new BeanWrapperImpl(def).setPropertyValue("backgroundInit", true);
+            default -> { }
+        }
+    }
+
+    /**
+     * Derives the bean name of a mapper implementation from its binary class name,
+     * e.g. {@code com.example.UserMapperImpl} becomes {@code userMapperImpl}.
+     *
+     * @param implClassName the binary name of the implementation class
+     * @return the bean name
+     */
+    private static String beanNameFor(String implClassName) {
+        return Introspector.decapitalize(implClassName.substring(implClassName.lastIndexOf('.') + 1));
+    }
+
     /**
      * Injects the Spring {@link Environment} used to bind external configuration properties.
      *
@@ -130,4 +278,14 @@ public class MapStructImplRegistrar implements ImportBeanDefinitionRegistrar, En
     public void setEnvironment(Environment environment) {
         this.environment = environment;
     }
+
+    /**
+     * Injects the {@link ClassLoader} used to locate the compile-time mapper index and mapper implementations.
+     *
+     * @param classLoader the bean class loader
+     */
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
 }
@@ -0,0 +1,42 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.jfr.MapperInvocationEventBeanPostProcessor;
+import jdk.jfr.Event;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Auto-configuration for the opt-in JDK Flight Recorder events of slow mapper invocations.
+ *
+ * <p>Activated when {@code mapstruct.jfr.invocation-events=true} on a JDK that includes Flight Recorder.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperInvocationEventBeanPostProcessor
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnClass(Event.class)
+@ConditionalOnProperty(prefix = "mapstruct.jfr", name = "invocation-events", havingValue = "true")
+public class MapStructJfrAutoConfiguration {
+
+    private MapStructJfrAutoConfiguration() {}
+
+    /**
+     * Registers the post-processor that makes mapper beans emit invocation events.
+     *
+     * @param environment the environment holding the {@code mapstruct.jfr} settings
+     * @return the post-processor
+     */
+    @Bean
+    static MapperInvocationEventBeanPostProcessor mapperInvocationEventBeanPostProcessor(Environment environment) {
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+        return new MapperInvocationEventBeanPostProcessor(props.getJfr().getInvocationThreshold());
+    }
+}
@@ -0,0 +1,109 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.jpa.MapperQueryCountingBeanPostProcessor;
+import com.codestackfoundry.starters.mapstruct.jpa.MapperQueryMonitor;
+import com.codestackfoundry.starters.mapstruct.jpa.MapperStatementInspector;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperQueryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Auto-configuration of the opt-in detection of mappers that execute SQL, typically by initializing lazy
+ * associations of JPA entities while mapping them.
+ *
+ * <p>Activated when Hibernate is on the classpath and {@code mapstruct.jpa.query-detection=true}. Installs a
+ * {@link MapperStatementInspector} into Hibernate, chained with any inspector configured through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}, and wraps the mapper beans to
+ * attribute the statements to the invoked mapper method. When Micrometer is on the classpath, the counts are
+ * exposed through a {@link MapperQueryMetrics} binder.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperQueryMonitor
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnClass({StatementInspector.class, HibernatePropertiesCustomizer.class})
+@ConditionalOnProperty(prefix = "mapstruct.jpa", name = "query-detection", havingValue = "true")
+public class MapStructJpaAutoConfiguration {
+
+    private static final String STATEMENT_INSPECTOR = "hibernate.session_factory.statement_inspector";
+
+    private MapStructJpaAutoConfiguration() {}
+
+    /**
+     * Registers the monitor that keeps the statement counts per mapper method.
+     *
+     * @param environment the environment holding the {@code mapstruct.jpa} settings
+     * @return the query monitor
+     */
+    @Bean
+    static MapperQueryMonitor mapperQueryMonitor(Environment environment) {
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+        return new MapperQueryMonitor(props.getJpa().getQueryThreshold());
+    }
+
+    /**
+     * Registers the post-processor that attributes statements to mapper invocations.
+     *
+     * @param monitor provider of the query monitor
+     * @return the post-processor
+     */
+    @Bean
+    static MapperQueryCountingBeanPostProcessor mapperQueryCountingBeanPostProcessor(
+            ObjectProvider<MapperQueryMonitor> monitor) {
+        return new MapperQueryCountingBeanPostProcessor(monitor);
+    }
+
+    /**
+     * Installs the statement inspector into the Hibernate session factory.
+     *
+     * @return the customizer
+     */
+    @Bean
+    static HibernatePropertiesCustomizer mapperStatementInspectorCustomizer() {
+        return properties -> properties.put(STATEMENT_INSPECTOR,
+                new MapperStatementInspector(configuredInspector(properties.get(STATEMENT_INSPECTOR))));
+    }
+
+    private static StatementInspector configuredInspector(Object configured) {
+        if (configured == null || configured instanceof StatementInspector) {
+            return (StatementInspector) configured;
+        }
+        Class<?> type = configured instanceof Class<?> configuredClass
+                ? configuredClass
+                : ClassUtils.resolveClassName(configured.toString(),
+                        MapStructJpaAutoConfiguration.class.getClassLoader());
+        if (!StatementInspector.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("Configured " + STATEMENT_INSPECTOR + " " + type.getName()
+                    + " is not a " + StatementInspector.class.getName());
+        }
+        return (StatementInspector) BeanUtils.instantiateClass(type);
+    }
+
+    /**
+     * Exposes statement counts when Micrometer is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class QueryMetricsConfiguration {
+
+        @Bean
+        MapperQueryMetrics mapperQueryMetrics(MapperQueryMonitor mapperQueryMonitor) {
+            return new MapperQueryMetrics(mapperQueryMonitor);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperMetricsBeanPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Auto-configuration for the opt-in Micrometer instrumentation of registered mappers.
+ *
+ * <p>Activated when Micrometer is on the classpath and {@code mapstruct.metrics.enabled=true}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperMetricsBeanPostProcessor
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "mapstruct.metrics", name = "enabled", havingValue = "true")
+public class MapStructMetricsAutoConfiguration {
+
+    private MapStructMetricsAutoConfiguration() {}
+
+    /**
+     * Registers the post-processor that instruments mapper beans.
+     *
+     * @param registry    provider of the meter registry to record to
+     * @param environment the environment holding the {@code mapstruct.metrics} settings
+     * @return the post-processor
+     */
+    @Bean
+    static MapperMetricsBeanPostProcessor mapperMetricsBeanPostProcessor(ObjectProvider<MeterRegistry> registry,
+                                                                         Environment environment) {
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+        return new MapperMetricsBeanPostProcessor(registry, props.getMetrics().getSampleRate(),
+                props.getMetrics().isAllocations());
+    }
+}
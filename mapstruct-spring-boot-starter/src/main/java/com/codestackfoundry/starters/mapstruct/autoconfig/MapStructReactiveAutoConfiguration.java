@@ -0,0 +1,44 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.reactive.ReactiveMapperAdapter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import reactor.core.publisher.Flux;
+
+/**
+ * Auto-configuration of the {@link ReactiveMapperAdapter}, active when Project Reactor is on the classpath
+ * and {@code mapstruct.reactive.enabled=true}. It is opt-in because the adapter starts its own scheduler threads,
+ * which most applications that merely have Reactor on the classpath do not need.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see ReactiveMapperAdapter
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnClass(Flux.class)
+@ConditionalOnProperty(prefix = "mapstruct.reactive", name = "enabled", havingValue = "true")
+public class MapStructReactiveAutoConfiguration {
+
+    private MapStructReactiveAutoConfiguration() {}
+
+    /**
+     * Registers the reactive mapping adapter.
+     *
+     * @param environment the environment holding the {@code mapstruct.reactive} settings
+     * @return the adapter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    ReactiveMapperAdapter reactiveMapperAdapter(Environment environment) {
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+        return new ReactiveMapperAdapter(props.getReactive());
+    }
+}
@@ -0,0 +1,46 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.warmup.MapperWarmupRunner;
+import com.codestackfoundry.starters.mapstruct.warmup.MapperWarmupSamples;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Auto-configuration of the opt-in mapper warm-up that runs before the application reports readiness.
+ *
+ * <p>Activated when {@code mapstruct.warmup.enabled=true}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperWarmupRunner
+ */
+@AutoConfiguration(after = MapStructAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "mapstruct.warmup", name = "enabled", havingValue = "true")
+public class MapStructWarmupAutoConfiguration {
+
+    private MapStructWarmupAutoConfiguration() {}
+
+    /**
+     * Registers the runner that warms up the mappers.
+     *
+     * @param beanFactory the bean factory holding the mapper beans
+     * @param samples     provider of the user-supplied sample inputs
+     * @param environment the environment holding the {@code mapstruct.warmup} settings
+     * @return the warm-up runner
+     */
+    @Bean
+    static MapperWarmupRunner mapperWarmupRunner(ConfigurableListableBeanFactory beanFactory,
+                                                 ObjectProvider<MapperWarmupSamples> samples,
+                                                 Environment environment) {
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+        return new MapperWarmupRunner(beanFactory, samples, props.getWarmup());
+    }
+}
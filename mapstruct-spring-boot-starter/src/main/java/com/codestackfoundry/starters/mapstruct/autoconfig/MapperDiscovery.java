@@ -0,0 +1,162 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.jfr.ClasspathScanEvent;
+import com.codestackfoundry.starters.mapstruct.jfr.FlightRecorderSupport;
+import com.codestackfoundry.starters.mapstruct.jfr.MapperIndexLookupEvent;
+import com.codestackfoundry.starters.mapstruct.support.ClasspathFilter;
+import com.codestackfoundry.starters.mapstruct.support.MapperIndex;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanCache;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanOptions;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanResult;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanStatistics;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanUtils;
+import com.codestackfoundry.starters.mapstruct.support.SharedMapperScanCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the mappers of a set of base packages, from the compile-time {@link MapperIndex} where it covers
+ * a package and otherwise through a single classpath scan shared by all remaining packages.
+ *
+ * <p>The index only lists the mappers of the classpath entries it was compiled into. When a package is spread
+ * over indexed and unindexed entries, its indexed mappers are read from the index and the unindexed entries are
+ * scanned alongside the remaining packages.
+ *
+ * <p>Results are shared through the {@link SharedMapperScanCache} by all contexts using the same class loader,
+ * unless {@code mapstruct.scan.shared=false}.
+ *
+ * <p>Used inline by {@link MapStructImplRegistrar} and ahead of it by {@link MapperScanRunListener}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class MapperDiscovery {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperDiscovery.class);
+
+    private MapperDiscovery() { }
+
+    /**
+     * Resolves the mappers of every base package.
+     *
+     * @param basePackages the resolved base packages
+     * @param props        the bound configuration properties
+     * @param classLoader  the class loader used to locate the index and mapper implementations
+     * @param report       the report recording how each package was discovered
+     * @return the scan result per base package
+     * @throws IllegalStateException if marker-only scanning is combined with the mapper index
+     */
+    static Map<String, MapperScanResult> discover(List<String> basePackages, MapStructProperties props,
+                                                  ClassLoader classLoader, MapperRegistrationReport report) {
+        if (props.getScan().isMarkerOnly() && props.getIndex().isEnabled()) {
+            // the marker is the index itself: every marked entry would be resolved from the index, none scanned
+            throw new IllegalStateException("mapstruct.scan.marker-only=true requires mapstruct.index.enabled=false: "
+                    + "classpath entries carrying the marker are resolved from the mapper index and never scanned");
+        }
+        if (!props.getScan().isShared()) {
+            return discoverUncached(basePackages, props, classLoader, report);
+        }
+        MapStructProperties.Scan scan = props.getScan();
+        List<Object> key = List.of(Set.copyOf(basePackages), props.getIndex().isEnabled(), scan.getResolution(),
+                filter(scan).toString());
+        boolean[] discovered = new boolean[1];
+        long start = System.nanoTime();
+        Map<String, MapperScanResult> results = SharedMapperScanCache.shared().get(classLoader, key, () -> {
+            discovered[0] = true;
+            return discoverUncached(basePackages, props, classLoader, report);
+        });
+        if (!discovered[0]) {
+            report.sharedScan();
+            report.discovered(results, System.nanoTime() - start);
+            log.debug("Reused mappers in {} discovered by another application context", basePackages);
+        }
+        return results;
+    }
+
+    private static Map<String, MapperScanResult> discoverUncached(List<String> basePackages, MapStructProperties props,
+                                                                  ClassLoader classLoader,
+                                                                  MapperRegistrationReport report) {
+        MapperIndex index = props.getIndex().isEnabled() ? MapperIndex.load(classLoader) : MapperIndex.empty();
+        Map<String, MapperScanResult> results = new HashMap<>();
+        Map<String, MapperScanResult> indexed = new HashMap<>();
+        List<String> packagesToScan = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (String basePackage : basePackages) {
+            if (index.covers(basePackage)) {
+                MapperIndexLookupEvent event = FlightRecorderSupport.isAvailable()
+                        ? new MapperIndexLookupEvent()
+                        : null;
+                MapperScanResult result = index.findMapperImpls(basePackage, classLoader, report.scanStatistics());
+                if (event != null) {
+                    event.complete(basePackage, result.implementationClassNames().size());
+                }
+                List<String> unindexed = index.unindexedLocations(basePackage, classLoader);
+                if (unindexed.isEmpty()) {
+                    results.put(basePackage, result);
+                    report.discoverySource(basePackage, MapperRegistrationReport.DiscoverySource.INDEX);
+                    log.debug("Resolved mappers in '{}' from compile-time index", basePackage);
+                } else {
+                    indexed.put(basePackage, result);
+                    packagesToScan.add(basePackage);
+                    report.discoverySource(basePackage, MapperRegistrationReport.DiscoverySource.INDEX_AND_SCAN);
+                    log.debug("Resolved mappers in '{}' from compile-time index, scanning unindexed locations {}",
+                            basePackage, unindexed);
+                }
+            } else {
+                packagesToScan.add(basePackage);
+                report.discoverySource(basePackage, MapperRegistrationReport.DiscoverySource.SCAN);
+            }
+        }
+
+        if (!packagesToScan.isEmpty()) {
+            ClasspathScanEvent event = FlightRecorderSupport.isAvailable() ? new ClasspathScanEvent() : null;
+            MapperScanCache cache = props.getScanCache().isEnabled()
+                    ? new MapperScanCache(props.getScanCache().getDir().toPath())
+                    : null;
+            MapStructProperties.Scan scan = props.getScan();
+            MapperScanOptions options = MapperScanOptions.defaults()
+                    .withParallelism(scan.getParallelism())
+                    .withCache(cache)
+                    .withResolution(scan.getResolution())
+                    .withFilter(filter(scan))
+                    .withStatistics(report.scanStatistics())
+                    .withIndex(index);
+            MapperScanUtils.findMapperImpls(packagesToScan, classLoader, options)
+                    .forEach((basePackage, result) -> results.put(basePackage, merge(indexed.get(basePackage), result)));
+            List<MapperScanStatistics.RootScan> roots = report.scanStatistics().getRoots();
+            if (event != null) {
+                event.complete(packagesToScan, roots.size(),
+                        roots.stream().mapToInt(MapperScanStatistics.RootScan::classesRead).sum(),
+                        packagesToScan.stream().mapToInt(basePackage ->
+                                results.get(basePackage).implementationClassNames().size()).sum());
+            }
+            log.debug("Resolved mappers in {} from classpath scan", packagesToScan);
+        }
+        long discoveryNanos = System.nanoTime() - start;
+        report.discovered(results, discoveryNanos);
+        log.debug("Mapper discovery took {} ms", discoveryNanos / 1_000_000);
+        return results;
+    }
+
+    private static MapperScanResult merge(MapperScanResult indexed, MapperScanResult scanned) {
+        if (indexed == null) {
+            return scanned;
+        }
+        Set<String> implementations = new LinkedHashSet<>(indexed.implementationClassNames());
+        implementations.addAll(scanned.implementationClassNames());
+        return new MapperScanResult(indexed.hasAnyMappers() || scanned.hasAnyMappers(), implementations);
+    }
+
+    private static ClasspathFilter filter(MapStructProperties.Scan scan) {
+        return ClasspathFilter.of(scan.getIncludeJars(), scan.getExcludeJars(),
+                scan.getExcludePackages(), scan.isMarkerOnly());
+    }
+}
@@ -0,0 +1,109 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.TypeConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.InstanceSupplier;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Instance supplier for the mapper beans registered by {@link MapStructImplRegistrar}.
+ *
+ * <p>Instantiates a mapper implementation without going through Spring's reflective constructor resolution
+ * and property autowiring:
+ * <ul>
+ *     <li>implementations with a no-argument constructor (every MapStruct-generated mapper without
+ *         constructor injection) are instantiated directly, with no further introspection</li>
+ *     <li>implementations whose constructor takes arguments get them resolved explicitly from the bean factory,
+ *         one dependency per parameter</li>
+ * </ul>
+ *
+ * <p>The implementation class is only loaded when the first instance is requested, and the selected constructor
+ * is cached for subsequent requests.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class MapperInstanceSupplier implements InstanceSupplier<Object> {
+
+    private final String implClassName;
+
+    private volatile Constructor<?> constructor;
+
+    /**
+     * Creates a supplier for the given mapper implementation.
+     *
+     * @param implClassName the binary name of the mapper implementation class
+     */
+    MapperInstanceSupplier(String implClassName) {
+        this.implClassName = implClassName;
+    }
+
+    @Override
+    public Object get(RegisteredBean registeredBean) throws Exception {
+        Constructor<?> ctor = resolveConstructor(registeredBean.getBeanFactory());
+        if (ctor.getParameterCount() == 0) {
+            return ctor.newInstance();
+        }
+        return BeanUtils.instantiateClass(ctor, resolveArguments(ctor, registeredBean));
+    }
+
+    private Constructor<?> resolveConstructor(ConfigurableListableBeanFactory beanFactory) throws ClassNotFoundException {
+        Constructor<?> ctor = this.constructor;
+        if (ctor == null) {
+            Class<?> implClass = ClassUtils.forName(implClassName, beanFactory.getBeanClassLoader());
+            ctor = findConstructor(implClass);
+            ReflectionUtils.makeAccessible(ctor);
+            this.constructor = ctor;
+        }
+        return ctor;
+    }
+
+    /**
+     * Selects the constructor to instantiate a mapper with: the only declared constructor, the one annotated
+     * with {@link Autowired}, or the no-argument constructor, in that order.
+     */
+    private static Constructor<?> findConstructor(Class<?> implClass) {
+        Constructor<?>[] constructors = implClass.getDeclaredConstructors();
+        if (constructors.length == 1) {
+            return constructors[0];
+        }
+        for (Constructor<?> candidate : constructors) {
+            if (candidate.isAnnotationPresent(Autowired.class)) {
+                return candidate;
+            }
+        }
+        for (Constructor<?> candidate : constructors) {
+            if (candidate.getParameterCount() == 0) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No unique constructor found on mapper implementation " + implClass.getName()
+                + "; declare a single constructor or annotate one with @Autowired");
+    }
+
+    private static Object[] resolveArguments(Constructor<?> ctor, RegisteredBean registeredBean) {
+        ConfigurableListableBeanFactory beanFactory = registeredBean.getBeanFactory();
+        String beanName = registeredBean.getBeanName();
+        TypeConverter typeConverter = beanFactory.getTypeConverter();
+        Set<String> autowiredBeanNames = new LinkedHashSet<>(ctor.getParameterCount());
+
+        Object[] arguments = new Object[ctor.getParameterCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            DependencyDescriptor descriptor = new DependencyDescriptor(MethodParameter.forExecutable(ctor, i), true);
+            arguments[i] = beanFactory.resolveDependency(descriptor, beanName, autowiredBeanNames, typeConverter);
+        }
+        for (String autowiredBeanName : autowiredBeanNames) {
+            beanFactory.registerDependentBean(autowiredBeanName, beanName);
+        }
+        return arguments;
+    }
+}
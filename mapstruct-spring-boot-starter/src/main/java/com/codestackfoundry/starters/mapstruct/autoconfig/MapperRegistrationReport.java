@@ -0,0 +1,268 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapperRegistrationMode;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanResult;
+import com.codestackfoundry.starters.mapstruct.support.MapperScanStatistics;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What {@link MapStructImplRegistrar} found and decided during startup, kept for diagnostics such as the
+ * {@code mapstruct} actuator endpoint.
+ *
+ * <p>Registered as a singleton under {@link #BEAN_NAME} whenever the registrar runs. Applications started from
+ * AOT-generated artifacts do not run the registrar; for them the report of the build-time registration is
+ * recreated by the generated code through {@link #registerAheadOfTime}, without scan statistics.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class MapperRegistrationReport {
+
+    /**
+     * Name of the singleton under which the report is registered.
+     */
+    public static final String BEAN_NAME = MapperRegistrationReport.class.getName();
+
+    private final MapperScanStatistics scanStatistics = new MapperScanStatistics();
+
+    private final Map<String, DiscoverySource> discoverySources = new LinkedHashMap<>();
+
+    private final List<Registration> registrations = new ArrayList<>();
+
+    private List<String> basePackages = List.of();
+
+    private BasePackageSource basePackageSource;
+
+    private Map<String, MapperScanResult> results = Map.of();
+
+    private long discoveryNanos;
+
+    private boolean earlyScan;
+
+    private boolean sharedScan;
+
+    private boolean aheadOfTime;
+
+    MapperRegistrationReport() {}
+
+    /**
+     * Registers the report of a registration that ran when the application was processed ahead of time.
+     *
+     * <p>Called by the bean factory initialization code generated during AOT processing; applications do not
+     * need to call it.
+     *
+     * @param registry          the registry to register the report in, under {@link #BEAN_NAME}
+     * @param basePackages      the resolved base packages
+     * @param basePackageSource how the base packages were resolved
+     * @param discoverySources  how the mappers of each base package were discovered
+     * @param results           the discovery result per base package
+     * @param discoveryNanos    the wall-clock time discovery took at build time, in nanoseconds
+     * @param registrations     the registration decision for every discovered mapper implementation
+     */
+    public static void registerAheadOfTime(SingletonBeanRegistry registry, List<String> basePackages,
+                                           BasePackageSource basePackageSource,
+                                           Map<String, DiscoverySource> discoverySources,
+                                           Map<String, MapperScanResult> results, long discoveryNanos,
+                                           List<Registration> registrations) {
+        MapperRegistrationReport report = new MapperRegistrationReport();
+        report.aheadOfTime = true;
+        report.basePackages(basePackages, basePackageSource);
+        discoverySources.forEach(report::discoverySource);
+        report.discovered(results, discoveryNanos);
+        registrations.forEach(report::registration);
+        registry.registerSingleton(BEAN_NAME, report);
+    }
+
+    void basePackages(List<String> basePackages, BasePackageSource source) {
+        this.basePackages = List.copyOf(basePackages);
+        this.basePackageSource = source;
+    }
+
+    void discoverySource(String basePackage, DiscoverySource source) {
+        discoverySources.put(basePackage, source);
+    }
+
+    void discovered(Map<String, MapperScanResult> results, long discoveryNanos) {
+        this.results = Map.copyOf(results);
+        this.discoveryNanos = discoveryNanos;
+    }
+
+    void earlyScan() {
+        this.earlyScan = true;
+    }
+
+    void sharedScan() {
+        this.sharedScan = true;
+    }
+
+    void registration(Registration registration) {
+        registrations.add(registration);
+    }
+
+    MapperScanStatistics scanStatistics() {
+        return scanStatistics;
+    }
+
+    /**
+     * Returns the resolved base packages.
+     *
+     * @return the base packages
+     */
+    public List<String> getBasePackages() {
+        return basePackages;
+    }
+
+    /**
+     * Returns how the base packages were resolved.
+     *
+     * @return the base package source
+     */
+    public BasePackageSource getBasePackageSource() {
+        return basePackageSource;
+    }
+
+    /**
+     * Returns how the mappers of each base package were discovered.
+     *
+     * @return the discovery source per base package
+     */
+    public Map<String, DiscoverySource> getDiscoverySources() {
+        return Collections.unmodifiableMap(discoverySources);
+    }
+
+    /**
+     * Returns the discovery result per base package.
+     *
+     * @return the scan results
+     */
+    public Map<String, MapperScanResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the classpath roots scanned and the component implementations left out.
+     *
+     * @return the scan statistics
+     */
+    public MapperScanStatistics getScanStatistics() {
+        return scanStatistics;
+    }
+
+    /**
+     * Returns the wall-clock time mapper discovery took, in nanoseconds.
+     *
+     * @return the discovery time
+     */
+    public long getDiscoveryNanos() {
+        return discoveryNanos;
+    }
+
+    /**
+     * Returns whether the mappers were discovered by the early background scan.
+     *
+     * @return {@code true} if the early scan was used
+     */
+    public boolean isEarlyScan() {
+        return earlyScan;
+    }
+
+    /**
+     * Returns whether the mappers were discovered by another application context using the same class loader,
+     * in which case no scan statistics were collected.
+     *
+     * @return {@code true} if the discovery result was shared
+     */
+    public boolean isSharedScan() {
+        return sharedScan;
+    }
+
+    /**
+     * Returns whether the mappers were discovered and registered when the application was processed ahead of
+     * time, in which case this report was recreated at runtime from the build-time one.
+     *
+     * @return {@code true} if the application runs from AOT-generated artifacts
+     */
+    public boolean isAheadOfTime() {
+        return aheadOfTime;
+    }
+
+    /**
+     * Returns the registration decision made for every discovered mapper implementation.
+     *
+     * @return the registrations, in registration order
+     */
+    public List<Registration> getRegistrations() {
+        return Collections.unmodifiableList(registrations);
+    }
+
+    /**
+     * How the base packages were resolved.
+     */
+    public enum BasePackageSource {
+
+        /**
+         * Taken from {@code mapstruct.base-packages}.
+         */
+        CONFIGURED,
+
+        /**
+         * Inferred from the package of the {@code @SpringBootApplication} main class.
+         */
+        INFERRED
+    }
+
+    /**
+     * How the mappers of a base package were discovered.
+     */
+    public enum DiscoverySource {
+
+        /**
+         * Read from the compile-time mapper index.
+         */
+        INDEX,
+
+        /**
+         * Found by scanning the classpath.
+         */
+        SCAN,
+
+        /**
+         * Read from the compile-time mapper index for the classpath entries that carry one, and found by
+         * scanning the entries of the package that do not.
+         */
+        INDEX_AND_SCAN
+    }
+
+    /**
+     * The outcome of registering one mapper implementation.
+     */
+    public enum Decision {
+
+        /**
+         * The mapper was registered as a bean.
+         */
+        REGISTERED,
+
+        /**
+         * A bean of the same name already existed, so the mapper was not registered.
+         */
+        SKIPPED_DUPLICATE
+    }
+
+    /**
+     * The registration decision for one mapper implementation.
+     *
+     * @param implementation the binary name of the mapper implementation
+     * @param beanName       the bean name it was, or would have been, registered under
+     * @param decision       whether it was registered
+     * @param mode           the registration mode applied, or {@code null} if it was not registered
+     */
+    public record Registration(String implementation, String beanName, Decision decision,
+                               MapperRegistrationMode mode) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.internal.MapStructBasePackageResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.ConfigurableBootstrapContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringApplicationRunListener;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Starts mapper discovery as soon as the environment is prepared, so that it overlaps with banner printing,
+ * context creation and configuration class parsing instead of running on the critical path inside
+ * {@link MapStructImplRegistrar}.
+ *
+ * <p>The running {@link EarlyMapperScan} is handed to the bean factory once the context is prepared, where the
+ * registrar picks it up. Nothing is started, and nothing is handed over, when {@code mapstruct.scan.early=false},
+ * when MapStruct is not on the classpath, when {@link MapStructAutoConfiguration} is excluded through
+ * {@code spring.autoconfigure.exclude} or the {@code exclude} attributes of {@link EnableAutoConfiguration},
+ * when the application runs with AOT-generated artifacts (the registrar is not invoked then), or when no base
+ * package can be resolved yet.
+ *
+ * <p>Registered through {@code META-INF/spring.factories}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+class MapperScanRunListener implements SpringApplicationRunListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperScanRunListener.class);
+
+    private static final String EARLY_PROPERTY = "mapstruct.scan.early";
+
+    private static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+
+    private static final String MAPPER_CLASS = "org.mapstruct.Mapper";
+
+    private final SpringApplication application;
+
+    private EarlyMapperScan earlyScan;
+
+    /**
+     * Creates the listener for a {@link SpringApplication} run.
+     *
+     * @param application the application being run
+     * @param args        the command line arguments
+     */
+    MapperScanRunListener(SpringApplication application, String[] args) {
+        this.application = application;
+    }
+
+    @Override
+    public void environmentPrepared(ConfigurableBootstrapContext bootstrapContext, ConfigurableEnvironment environment) {
+        if (!environment.getProperty(EARLY_PROPERTY, Boolean.class, true)
+                || AotDetector.useGeneratedArtifacts()
+                || !ClassUtils.isPresent(MAPPER_CLASS, application.getClassLoader())
+                || isAutoConfigurationExcluded(environment)) {
+            return;
+        }
+        MapStructProperties props = Binder.get(environment)
+                .bind("mapstruct", Bindable.of(MapStructProperties.class)).orElse(new MapStructProperties());
+
+        List<String> basePackages;
+        try {
+            basePackages = new MapStructBasePackageResolver().resolveBasePackages(props);
+        } catch (IllegalStateException ex) {
+            log.debug("Skipping early mapper scan: {}", ex.getMessage());
+            return;
+        }
+        earlyScan = EarlyMapperScan.start(props.getBasePackages(), basePackages, props, application.getClassLoader());
+    }
+
+    @Override
+    public void contextPrepared(ConfigurableApplicationContext context) {
+        if (earlyScan != null) {
+            context.getBeanFactory().registerSingleton(EarlyMapperScan.BEAN_NAME, earlyScan);
+        }
+    }
+
+    /**
+     * Returns whether {@link MapStructAutoConfiguration} is excluded, either through
+     * {@code spring.autoconfigure.exclude} or through the {@code exclude} and {@code excludeName} attributes of an
+     * {@link EnableAutoConfiguration} (or {@code @SpringBootApplication}) on one of the application's sources.
+     *
+     * @param environment the prepared environment
+     * @return {@code true} if the auto-configuration is excluded
+     */
+    private boolean isAutoConfigurationExcluded(ConfigurableEnvironment environment) {
+        Set<String> excluded = new HashSet<>(Binder.get(environment)
+                .bind(EXCLUDE_PROPERTY, String[].class).map(Arrays::asList).orElse(List.of()));
+        for (Object source : application.getAllSources()) {
+            if (source instanceof Class<?> type) {
+                MergedAnnotation<EnableAutoConfiguration> annotation = MergedAnnotations
+                        .from(type, SearchStrategy.TYPE_HIERARCHY).get(EnableAutoConfiguration.class);
+                if (annotation.isPresent()) {
+                    Arrays.stream(annotation.getClassArray("exclude")).map(Class::getName).forEach(excluded::add);
+                    excluded.addAll(Arrays.asList(annotation.getStringArray("excludeName")));
+                }
+            }
+        }
+        return excluded.contains(MapStructAutoConfiguration.class.getName());
+    }
+}
@@ -0,0 +1,268 @@
+package com.codestackfoundry.starters.mapstruct.batch;
+
+import com.codestackfoundry.starters.mapstruct.config.BatchExecutorType;
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Maps large collections with any mapper method in parallel chunks, preserving input order.
+ *
+ * <p>Typical use with a registered mapper:
+ * <pre>{@code
+ * List<UserDTO> dtos = batchExecutor.mapAll(userRepository.findAllWithDepartment(), userMapper::toDto);
+ * }</pre>
+ *
+ * <p>Inputs smaller than {@code mapstruct.batch.sequential-threshold} are mapped on the calling thread, so small
+ * collections never pay for the hand-off. Larger inputs are split into chunks whose size adapts to the input: about
+ * {@code chunks-per-thread} chunks per thread, but never smaller than {@code min-chunk-size}. The calling thread
+ * maps the first chunk itself while the others run on a dedicated fork-join pool or on virtual threads.
+ *
+ * <p>Chunks run on other threads, so the mapper method must be safe to call concurrently and its sources must
+ * be safe to read from other threads. A generated mapper is stateless, but it reads whatever its sources expose:
+ * JPA entities still attached to a persistence context must not be passed in when mapping can reach an
+ * uninitialized lazy association, since initializing it would use the {@code EntityManager} of the calling
+ * thread, which is not thread-safe. Fetch the associations the mapper reads with the query (for example with a
+ * {@code join fetch}), map detached or fully initialized entities, or map such inputs on the calling thread.
+ * Mappers taking a mutable {@code @Context} object shared between calls are not safe either.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperBatchPages
+ * @see MapStructProperties.Batch
+ */
+public class MapperBatchExecutor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperBatchExecutor.class);
+
+    /**
+     * {@code Executors#newVirtualThreadPerTaskExecutor()}, available as of Java 21.
+     */
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+            ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+    private final BatchExecutorType executorType;
+
+    private final ExecutorService executorService;
+
+    private final int parallelism;
+
+    private final int sequentialThreshold;
+
+    private final int minChunkSize;
+
+    private final int chunksPerThread;
+
+    private final AtomicInteger queuedChunks = new AtomicInteger();
+
+    private final AtomicInteger activeChunks = new AtomicInteger();
+
+    private final LongAdder sequentialBatches = new LongAdder();
+
+    private final LongAdder parallelBatches = new LongAdder();
+
+    /**
+     * Creates a batch executor with the given settings.
+     *
+     * @param settings the {@code mapstruct.batch} settings
+     */
+    public MapperBatchExecutor(MapStructProperties.Batch settings) {
+        Assert.isTrue(settings.getParallelism() > 0, "mapstruct.batch.parallelism must be at least 1");
+        Assert.isTrue(settings.getMinChunkSize() > 0, "mapstruct.batch.min-chunk-size must be at least 1");
+        Assert.isTrue(settings.getChunksPerThread() > 0, "mapstruct.batch.chunks-per-thread must be at least 1");
+        this.parallelism = settings.getParallelism();
+        this.sequentialThreshold = settings.getSequentialThreshold();
+        this.minChunkSize = settings.getMinChunkSize();
+        this.chunksPerThread = settings.getChunksPerThread();
+        if (settings.getExecutor() == BatchExecutorType.VIRTUAL_THREADS && NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            log.warn("mapstruct.batch.executor=virtual-threads requires Java 21 or later, using a fork-join pool instead");
+            this.executorType = BatchExecutorType.FORK_JOIN;
+        } else {
+            this.executorType = settings.getExecutor();
+        }
+        this.executorService = executorType == BatchExecutorType.VIRTUAL_THREADS
+                ? (ExecutorService) ReflectionUtils.invokeMethod(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR, null)
+                : new ForkJoinPool(parallelism, MapperBatchExecutor::newWorkerThread, null, false);
+    }
+
+    /**
+     * Maps every element of the given sources with the given mapper method.
+     *
+     * @param sources the elements to map; {@code null} elements are passed to the mapper as is
+     * @param mapper  the mapper method, e.g. {@code userMapper::toDto}
+     * @param <S>     the source type
+     * @param <T>     the target type
+     * @return a fixed-size list of the mapped elements, in input order
+     * @throws RuntimeException the first exception thrown by the mapper
+     */
+    public <S, T> List<T> mapAll(Iterable<? extends S> sources, Function<? super S, ? extends T> mapper) {
+        List<? extends S> list = toRandomAccessList(sources);
+        int size = list.size();
+        Object[] results = new Object[size];
+
+        int chunkCount = size < sequentialThreshold ? 1 : Math.min(parallelism * chunksPerThread, ceilDiv(size, minChunkSize));
+        if (chunkCount <= 1) {
+            sequentialBatches.increment();
+            mapChunk(list, mapper, results, 0, size);
+            return asList(results);
+        }
+
+        parallelBatches.increment();
+        int chunkSize = ceilDiv(size, chunkCount);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>(chunkCount - 1);
+        for (int from = chunkSize; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            queuedChunks.incrementAndGet();
+            chunks.add(CompletableFuture.runAsync(() -> runChunk(list, mapper, results, start, end), executorService));
+        }
+        mapChunk(list, mapper, results, 0, Math.min(size, chunkSize));
+        try {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        return asList(results);
+    }
+
+    private void runChunk(List<?> sources, Function<?, ?> mapper, Object[] results, int from, int to) {
+        queuedChunks.decrementAndGet();
+        activeChunks.incrementAndGet();
+        try {
+            mapChunk(sources, mapper, results, from, to);
+        } finally {
+            activeChunks.decrementAndGet();
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void mapChunk(List<?> sources, Function mapper, Object[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = mapper.apply(sources.get(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> asList(Object[] results) {
+        return (List<T>) Arrays.asList(results);
+    }
+
+    private static <S> List<? extends S> toRandomAccessList(Iterable<? extends S> sources) {
+        Assert.notNull(sources, "Sources must not be null");
+        if (sources instanceof List<? extends S> list && sources instanceof RandomAccess) {
+            return list;
+        }
+        if (sources instanceof Collection<? extends S> collection) {
+            return new ArrayList<>(collection);
+        }
+        List<S> list = new ArrayList<>();
+        sources.forEach(list::add);
+        return list;
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("mapstruct-batch-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    /**
+     * Returns the threads chunks actually run on, which may differ from the configured type when virtual threads
+     * are not available.
+     *
+     * @return the effective executor type
+     */
+    public BatchExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    /**
+     * Returns the maximum number of threads chunks are mapped on, including the calling thread.
+     *
+     * @return the configured parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the executor service chunks are submitted to.
+     *
+     * @return the executor service
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Returns the number of chunks submitted but not yet started.
+     *
+     * @return the queued chunks
+     */
+    public int getQueuedChunks() {
+        return queuedChunks.get();
+    }
+
+    /**
+     * Returns the number of chunks currently being mapped on the executor.
+     *
+     * @return the active chunks
+     */
+    public int getActiveChunks() {
+        return activeChunks.get();
+    }
+
+    /**
+     * Returns the number of batches, i.e. {@code mapAll} calls, mapped on the calling thread only.
+     *
+     * @return the sequential batch count
+     */
+    public long getSequentialBatches() {
+        return sequentialBatches.sum();
+    }
+
+    /**
+     * Returns the number of batches, i.e. {@code mapAll} calls, split into parallel chunks.
+     *
+     * @return the parallel batch count
+     */
+    public long getParallelBatches() {
+        return parallelBatches.sum();
+    }
+
+    /**
+     * Shuts the executor service down; chunks already submitted are still completed.
+     */
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+}
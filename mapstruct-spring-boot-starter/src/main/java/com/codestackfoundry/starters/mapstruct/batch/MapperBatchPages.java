@@ -0,0 +1,33 @@
+package com.codestackfoundry.starters.mapstruct.batch;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.function.Function;
+
+/**
+ * Maps the content of Spring Data {@link Page}s with a {@link MapperBatchExecutor}.
+ *
+ * <p>Kept apart from {@link MapperBatchExecutor} so that Spring Data stays an optional dependency.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class MapperBatchPages {
+
+    private MapperBatchPages() { }
+
+    /**
+     * Maps the content of a page, keeping its paging information.
+     *
+     * @param executor the batch executor
+     * @param page     the page to map
+     * @param mapper   the mapper method, e.g. {@code userMapper::toDto}
+     * @param <S>      the source type
+     * @param <T>      the target type
+     * @return a page of mapped elements with the same pageable and total
+     */
+    public static <S, T> Page<T> map(MapperBatchExecutor executor, Page<? extends S> page,
+                                     Function<? super S, ? extends T> mapper) {
+        return new PageImpl<>(executor.<S, T>mapAll(page.getContent(), mapper), page.getPageable(), page.getTotalElements());
+    }
+}
@@ -0,0 +1,76 @@
+package com.codestackfoundry.starters.mapstruct.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a single-argument mapper method whose results are memoized in a bounded cache.
+ *
+ * <p>Intended for mapping immutable reference data (countries, currencies, catalog entries) that is converted
+ * over and over again into identical DTOs. Put it on the method of the {@code @Mapper} interface or abstract
+ * class; the mapper bean registered by the starter is then decorated with a cache that evicts the least recently
+ * used entries beyond {@link #maxSize()} and entries older than {@link #ttl()}. The same DTO instance is handed
+ * to every caller, so cached DTOs must not be modified.
+ *
+ * <pre>{@code
+ * @Mapper
+ * public interface CountryMapper {
+ *
+ *     @CachedMapping(key = CachedMapping.Key.ID, ttl = "1h")
+ *     CountryDto toDto(Country country);
+ * }
+ * }</pre>
+ *
+ * <p>Entries can be invalidated through the {@link MapperCacheManager} bean.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperCacheManager
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CachedMapping {
+
+    /**
+     * How the source object is turned into a cache key.
+     *
+     * @return the key strategy
+     */
+    Key key() default Key.IDENTITY;
+
+    /**
+     * Maximum number of cached results; {@code -1} uses {@code mapstruct.cache.default-max-size}.
+     *
+     * @return the maximum cache size
+     */
+    int maxSize() default -1;
+
+    /**
+     * Time to live of a cached result, e.g. {@code "30s"} or {@code "PT10M"}; empty uses
+     * {@code mapstruct.cache.default-ttl}.
+     *
+     * @return the time to live
+     */
+    String ttl() default "";
+
+    /**
+     * Strategies for deriving a cache key from the source object.
+     */
+    enum Key {
+
+        /**
+         * The source object itself, compared by identity. Suits reference data that is loaded once and shared.
+         */
+        IDENTITY,
+
+        /**
+         * The source type and the value of its {@code getId()} or {@code id()} accessor. Suits entities that
+         * are loaded again for every request. Sources without an id are not cached.
+         */
+        ID
+    }
+}
@@ -0,0 +1,77 @@
+package com.codestackfoundry.starters.mapstruct.cache;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers invocations of {@link CachedMapping} methods from their {@link MappingCache}.
+ *
+ * <p>Only invocations with a single non-{@code null} argument are cached; results that are {@code null}
+ * are never cached.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class CachedMappingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MapperCacheManager> cacheManagerProvider;
+
+    private final MapStructProperties.Cache settings;
+
+    private final Map<Method, MappingCache> caches = new ConcurrentHashMap<>();
+
+    CachedMappingInterceptor(ObjectProvider<MapperCacheManager> cacheManagerProvider, MapStructProperties.Cache settings) {
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.settings = settings;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        if (arguments.length != 1 || arguments[0] == null) {
+            return invocation.proceed();
+        }
+        MappingCache cache = caches.get(invocation.getMethod());
+        if (cache == null) {
+            cache = caches.computeIfAbsent(invocation.getMethod(), method -> createCache(method, invocation.getThis()));
+        }
+        Object key = cache.keyFor(arguments[0]);
+        if (key == null) {
+            return invocation.proceed();
+        }
+        Object result = cache.get(key);
+        if (result == null) {
+            result = invocation.proceed();
+            if (result != null) {
+                cache.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    private MappingCache createCache(Method method, Object target) {
+        Class<?> targetClass = AopUtils.getTargetClass(target);
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        CachedMapping cachedMapping = AnnotatedElementUtils.findMergedAnnotation(specificMethod, CachedMapping.class);
+        int maxSize = cachedMapping.maxSize() >= 0 ? cachedMapping.maxSize() : settings.getDefaultMaxSize();
+        Duration ttl = StringUtils.hasText(cachedMapping.ttl())
+                ? DurationStyle.detectAndParse(cachedMapping.ttl())
+                : settings.getDefaultTtl();
+        Class<?> mapperType = MapperTypes.primaryMapperType(targetClass);
+        MapperCacheManager cacheManager = cacheManagerProvider.getIfAvailable(MapperCacheManager::new);
+        String name = mapperType.getName() + "#" + method.getName() + "(" + method.getParameterTypes()[0].getName() + ")";
+        return cacheManager.getCache(name,
+                () -> new MappingCache(mapperType, method.getName(), cachedMapping.key(), maxSize, ttl.toNanos()));
+    }
+}
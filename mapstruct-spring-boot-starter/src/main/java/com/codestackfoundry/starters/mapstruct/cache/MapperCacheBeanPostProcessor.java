@@ -0,0 +1,32 @@
+package com.codestackfoundry.starters.mapstruct.cache;
+
+import com.codestackfoundry.starters.mapstruct.aop.AbstractMapperAdvisingBeanPostProcessor;
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Decorates registered mapper beans that declare {@link CachedMapping} methods with result caches.
+ *
+ * <p>Mappers without {@code @CachedMapping} methods are left unproxied. The annotation is found on the
+ * {@code @Mapper} interface or abstract class, so existing mappers get caching without any change to the
+ * generated implementations.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructCacheAutoConfiguration
+ */
+public class MapperCacheBeanPostProcessor extends AbstractMapperAdvisingBeanPostProcessor {
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param cacheManager provider of the manager holding the caches
+     * @param settings     the {@code mapstruct.cache} settings supplying default size and time to live
+     */
+    public MapperCacheBeanPostProcessor(ObjectProvider<MapperCacheManager> cacheManager, MapStructProperties.Cache settings) {
+        this.advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, CachedMapping.class, true),
+                new CachedMappingInterceptor(cacheManager, settings));
+    }
+}
@@ -0,0 +1,108 @@
+package com.codestackfoundry.starters.mapstruct.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds the caches of all {@link CachedMapping} methods and offers explicit invalidation.
+ *
+ * <p>Caches are created on the first invocation of their method. Inject this bean to invalidate entries when
+ * reference data changes:
+ * <pre>{@code
+ * cacheManager.invalidate(updatedCountry);          // one source, in every cache
+ * cacheManager.invalidate(CountryMapper.class);     // every cache of one mapper
+ * cacheManager.invalidateAll();
+ * }</pre>
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public class MapperCacheManager {
+
+    private final Map<String, MappingCache> caches = new ConcurrentHashMap<>();
+
+    private final List<Consumer<MappingCache>> listeners = new ArrayList<>();
+
+    /**
+     * Default no-argument constructor.
+     */
+    public MapperCacheManager() { }
+
+    /**
+     * Returns the cache of the given name, creating it on first use.
+     */
+    MappingCache getCache(String name, Supplier<MappingCache> factory) {
+        MappingCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        synchronized (listeners) {
+            cache = caches.get(name);
+            if (cache == null) {
+                cache = factory.get();
+                caches.put(name, cache);
+                for (Consumer<MappingCache> listener : listeners) {
+                    listener.accept(cache);
+                }
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Registers a callback for every cache, both those already created and those created later.
+     *
+     * @param listener the callback, e.g. binding the cache's metrics
+     */
+    public void onCacheCreated(Consumer<MappingCache> listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            caches.values().forEach(listener);
+        }
+    }
+
+    /**
+     * Returns all caches created so far.
+     *
+     * @return the caches
+     */
+    public Collection<MappingCache> getCaches() {
+        return List.copyOf(caches.values());
+    }
+
+    /**
+     * Removes the cached results of the given source object from every cache.
+     *
+     * @param source the source object
+     * @return {@code true} if any cached result was removed
+     */
+    public boolean invalidate(Object source) {
+        boolean invalidated = false;
+        for (MappingCache cache : caches.values()) {
+            invalidated |= cache.invalidate(source);
+        }
+        return invalidated;
+    }
+
+    /**
+     * Clears every cache of the given mapper type.
+     *
+     * @param mapperType the {@code @Mapper} type
+     */
+    public void invalidate(Class<?> mapperType) {
+        caches.values().stream()
+                .filter(cache -> mapperType.isAssignableFrom(cache.getMapperType()))
+                .forEach(MappingCache::invalidateAll);
+    }
+
+    /**
+     * Clears every cache.
+     */
+    public void invalidateAll() {
+        caches.values().forEach(MappingCache::invalidateAll);
+    }
+}
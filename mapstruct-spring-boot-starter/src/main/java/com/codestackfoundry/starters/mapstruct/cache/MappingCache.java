@@ -0,0 +1,264 @@
+package com.codestackfoundry.starters.mapstruct.cache;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The bounded result cache of a single {@link CachedMapping} method.
+ *
+ * <p>Entries are spread by key hash over independently locked segments, so that concurrent lookups of different
+ * sources rarely contend. Each segment holds its share of {@code maxSize} entries in least-recently-used order and
+ * evicts its least recently used entry once it is full; entries older than the time to live are evicted when they
+ * are next looked up. Hit, miss and eviction counts are kept for monitoring.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class MappingCache {
+
+    private static final ClassValue<Optional<Method>> ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            Method accessor = ReflectionUtils.findMethod(type, "getId");
+            if (accessor == null) {
+                accessor = ReflectionUtils.findMethod(type, "id");
+            }
+            if (accessor == null || accessor.getReturnType() == void.class) {
+                return Optional.empty();
+            }
+            ReflectionUtils.makeAccessible(accessor);
+            return Optional.of(accessor);
+        }
+    };
+
+    /**
+     * Upper bound of the number of segments, reached on machines with 16 or more processors.
+     */
+    private static final int MAX_SEGMENTS = 64;
+
+    /**
+     * Minimum number of entries per segment, so that small caches keep a single, exact LRU order.
+     */
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Class<?> mapperType;
+
+    private final String methodName;
+
+    private final CachedMapping.Key keyStrategy;
+
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final Segment[] segments;
+
+    MappingCache(Class<?> mapperType, String methodName, CachedMapping.Key keyStrategy, int maxSize, long ttlNanos) {
+        this.mapperType = mapperType;
+        this.methodName = methodName;
+        this.keyStrategy = keyStrategy;
+        this.ttlNanos = ttlNanos;
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(Math.min(maxSize / MIN_SEGMENT_SIZE, MAX_SEGMENTS),
+                4 * Runtime.getRuntime().availableProcessors())));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the cache key of the given source, or {@code null} if the source cannot be cached.
+     *
+     * @throws IllegalStateException if ids are used as keys and the source has no id accessor
+     */
+    Object keyFor(Object source) {
+        if (keyStrategy == CachedMapping.Key.IDENTITY) {
+            return new IdentityKey(source);
+        }
+        Method accessor = ID_ACCESSORS.get(source.getClass()).orElseThrow(() -> new IllegalStateException(
+                "@CachedMapping(key = ID) requires a getId() or id() accessor on " + source.getClass().getName()));
+        Object id = ReflectionUtils.invokeMethod(accessor, source);
+        return id != null ? new IdKey(ClassUtils.getUserClass(source), id) : null;
+    }
+
+    /**
+     * Returns the cached result for the given key, or {@code null} on a miss.
+     */
+    Object get(Object key) {
+        Segment segment = segmentFor(key);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if (entry != null && System.nanoTime() - entry.createdNanos() > ttlNanos) {
+                segment.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    void put(Object key, Object value) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, new Entry(value, System.nanoTime()));
+        }
+    }
+
+    private Segment segmentFor(Object key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Removes the cached result of the given source object.
+     *
+     * @param source the source object
+     * @return {@code true} if a result was cached
+     */
+    public boolean invalidate(Object source) {
+        if (keyStrategy == CachedMapping.Key.ID && ID_ACCESSORS.get(source.getClass()).isEmpty()) {
+            return false;
+        }
+        Object key = keyFor(source);
+        if (key == null) {
+            return false;
+        }
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key) != null;
+        }
+    }
+
+    /**
+     * Removes every cached result.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code @Mapper} type declaring the cached method.
+     *
+     * @return the mapper type
+     */
+    public Class<?> getMapperType() {
+        return mapperType;
+    }
+
+    /**
+     * Returns the name of the cached method.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to map the source.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of results evicted for exceeding the size limit or the time to live.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry(Object value, long createdNanos) {
+    }
+
+    /**
+     * An access-ordered map of a share of the entries, guarded by its own monitor.
+     */
+    private final class Segment extends LinkedHashMap<Object, Entry> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private record IdKey(Class<?> type, Object id) {
+    }
+
+    private static final class IdentityKey {
+
+        private final Object source;
+
+        private IdentityKey(Object source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey key && key.source == source;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(source);
+        }
+    }
+}
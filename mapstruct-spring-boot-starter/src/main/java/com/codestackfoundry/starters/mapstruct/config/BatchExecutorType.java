@@ -0,0 +1,24 @@
+package com.codestackfoundry.starters.mapstruct.config;
+
+/**
+ * Threads used by the {@code MapperBatchExecutor} to map chunks of large collections in parallel.
+ *
+ * <p>Configured through {@code mapstruct.batch.executor}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapStructProperties.Batch
+ */
+public enum BatchExecutorType {
+
+    /**
+     * A dedicated fork-join pool sized by {@code mapstruct.batch.parallelism}. This is the default.
+     */
+    FORK_JOIN,
+
+    /**
+     * One virtual thread per chunk. Requires Java 21; on older runtimes the batch executor falls back to
+     * {@link #FORK_JOIN}.
+     */
+    VIRTUAL_THREADS
+}
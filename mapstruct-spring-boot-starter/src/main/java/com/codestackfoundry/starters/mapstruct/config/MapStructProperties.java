@@ -1,8 +1,16 @@
 package com.codestackfoundry.starters.mapstruct.config;
 
+import com.codestackfoundry.starters.mapstruct.support.ImplementationResolution;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.ClassUtils;
 
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Configuration properties for MapStruct Spring Boot integration.
@@ -20,6 +28,53 @@ import java.util.List;
  *     - com.example.demo.mapper
  *     - com.shared.mapper
  *   fail-if-no-mappers: true
+ *   index:
+ *     enabled: true
+ *   scan:
+ *     parallelism: 4
+ *     resolution: convention
+ *     early: true
+ *     exclude-jars:
+ *       - "spring-*.jar"
+ *     exclude-packages:
+ *       - "com.example.legacy.**"
+ *   scan-cache:
+ *     enabled: true
+ *     dir: /var/cache/my-app/mapstruct
+ *   registration:
+ *     mode: lazy
+ *     package-modes:
+ *       "[com.example.demo.mapper.hot]": eager
+ *   metrics:
+ *     enabled: true
+ *     sample-rate: 0.1
+ *     allocations: true
+ *   batch:
+ *     executor: virtual-threads
+ *     sequential-threshold: 2000
+ *   reactive:
+ *     enabled: true
+ *     batch-size: 512
+ *     max-batch-delay: 20ms
+ *     parallelism: 4
+ *   cache:
+ *     default-max-size: 500
+ *     default-ttl: 30m
+ *   registry:
+ *     fail-on-ambiguity: true
+ *   conversion:
+ *     enabled: true
+ *   jfr:
+ *     invocation-events: true
+ *     invocation-threshold: 250us
+ *   warmup:
+ *     enabled: true
+ *     budget: 5s
+ *   jpa:
+ *     query-detection: true
+ *     query-threshold: 0
+ *   cycle-context:
+ *     enabled: true
  * }</pre>
  *
  * @author Ritesh Chopade(codeswithritesh)
@@ -43,6 +98,76 @@ public class MapStructProperties {
      */
     private boolean failIfNoMappers = false;
 
+    /**
+     * Settings for the compile-time mapper index.
+     */
+    private final Index index = new Index();
+
+    /**
+     * Settings for classpath scanning of base packages.
+     */
+    private final Scan scan = new Scan();
+
+    /**
+     * Settings for the persistent scan-result cache.
+     */
+    private final ScanCache scanCache = new ScanCache();
+
+    /**
+     * Settings for how mapper beans are registered.
+     */
+    private final Registration registration = new Registration();
+
+    /**
+     * Settings for the Micrometer instrumentation of mapper beans.
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Settings for the parallel batch mapping of large collections.
+     */
+    private final Batch batch = new Batch();
+
+    /**
+     * Settings for the reactive mapping adapter.
+     */
+    private final Reactive reactive = new Reactive();
+
+    /**
+     * Settings for {@code @CachedMapping} result caches.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * Settings for the {@code MapperRegistry} type-pair dispatch.
+     */
+    private final Registry registry = new Registry();
+
+    /**
+     * Settings for converting through Spring's {@code ConversionService} with the registered mappers.
+     */
+    private final Conversion conversion = new Conversion();
+
+    /**
+     * Settings for the JDK Flight Recorder events of mapper invocations.
+     */
+    private final Jfr jfr = new Jfr();
+
+    /**
+     * Settings for warming up mappers before the application accepts traffic.
+     */
+    private final Warmup warmup = new Warmup();
+
+    /**
+     * Settings for detecting mappers that execute SQL through JPA.
+     */
+    private final Jpa jpa = new Jpa();
+
+    /**
+     * Settings for supplying cycle-tracking contexts to mapper methods.
+     */
+    private final CycleContext cycleContext = new CycleContext();
+
     /**
      * Default no-argument constructor.
      * <p>
@@ -90,4 +215,1373 @@ public class MapStructProperties {
     public void setFailIfNoMappers(boolean failIfNoMappers) {
         this.failIfNoMappers = failIfNoMappers;
     }
+
+    /**
+     * Returns the settings for the compile-time mapper index.
+     *
+     * @return the index settings
+     */
+    public Index getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the settings for classpath scanning of base packages.
+     *
+     * @return the scan settings
+     */
+    public Scan getScan() {
+        return scan;
+    }
+
+    /**
+     * Returns the settings for the persistent scan-result cache.
+     *
+     * @return the scan cache settings
+     */
+    public ScanCache getScanCache() {
+        return scanCache;
+    }
+
+    /**
+     * Returns the settings for how mapper beans are registered.
+     *
+     * @return the registration settings
+     */
+    public Registration getRegistration() {
+        return registration;
+    }
+
+    /**
+     * Returns the settings for the Micrometer instrumentation of mapper beans.
+     *
+     * @return the metrics settings
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the settings for the parallel batch mapping of large collections.
+     *
+     * @return the batch settings
+     */
+    public Batch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Returns the settings for the reactive mapping adapter.
+     *
+     * @return the reactive settings
+     */
+    public Reactive getReactive() {
+        return reactive;
+    }
+
+    /**
+     * Returns the settings for {@code @CachedMapping} result caches.
+     *
+     * @return the cache settings
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the settings for the {@code MapperRegistry} type-pair dispatch.
+     *
+     * @return registry settings
+     */
+    public Registry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns the settings for converting through Spring's {@code ConversionService} with the registered mappers.
+     *
+     * @return conversion settings
+     */
+    public Conversion getConversion() {
+        return conversion;
+    }
+
+    /**
+     * Returns the settings for the JDK Flight Recorder events of mapper invocations.
+     *
+     * @return JFR settings
+     */
+    public Jfr getJfr() {
+        return jfr;
+    }
+
+    /**
+     * Returns the settings for warming up mappers before the application accepts traffic.
+     *
+     * @return warm-up settings
+     */
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Returns the settings for detecting mappers that execute SQL through JPA.
+     *
+     * @return JPA settings
+     */
+    public Jpa getJpa() {
+        return jpa;
+    }
+
+    /**
+     * Returns the settings for supplying cycle-tracking contexts to mapper methods.
+     *
+     * @return cycle-tracking context settings
+     */
+    public CycleContext getCycleContext() {
+        return cycleContext;
+    }
+
+    /**
+     * Settings for the compile-time mapper index written by the
+     * {@code mapstruct-spring-boot-starter-index-processor} annotation processor.
+     */
+    public static class Index {
+
+        /**
+         * Whether to resolve mappers from {@code META-INF/mapstruct/mappers.idx} when present,
+         * instead of scanning the base packages.
+         *
+         * <p>Defaults to {@code true}. Packages not covered by any index are always scanned.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Index() {}
+
+        /**
+         * Indicates whether the compile-time mapper index is used when present.
+         *
+         * @return {@code true} if the index is used; {@code false} to always scan
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the compile-time mapper index is used when present.
+         *
+         * @param enabled {@code true} to use the index; {@code false} to always scan
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Settings for classpath scanning of base packages not covered by a compile-time index.
+     */
+    public static class Scan {
+
+        /**
+         * Maximum number of threads used to read class files while scanning.
+         *
+         * <p>Defaults to the number of available processors. Set to {@code 1} to scan on the startup thread.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Strategy used to find the implementation of each scanned mapper.
+         * Defaults to {@link ImplementationResolution#CONVENTION}.
+         */
+        private ImplementationResolution resolution = ImplementationResolution.CONVENTION;
+
+        /**
+         * Whether to start mapper discovery on a background thread as soon as the environment is prepared,
+         * overlapping it with the rest of application startup. Defaults to {@code true}.
+         */
+        private boolean early = true;
+
+        /**
+         * File name globs of the jars to restrict scanning to, e.g. {@code acme-*.jar}. When empty, all jars
+         * are scanned. Directories, such as the application's own classes, are always scanned.
+         */
+        private List<String> includeJars = new ArrayList<>();
+
+        /**
+         * File name globs of jars that are never scanned, e.g. {@code acme-shared-*.jar}.
+         */
+        private List<String> excludeJars = new ArrayList<>();
+
+        /**
+         * Package globs, separated by {@code .}, whose class files are never read, e.g. {@code com.acme.legacy.**}.
+         */
+        private List<String> excludePackages = new ArrayList<>();
+
+        /**
+         * Whether to scan only classpath entries that carry the marker written by the mapper index
+         * annotation processor. The marker is the index itself, so this requires {@code mapstruct.index.enabled=false},
+         * and entries compiled without the index processor are never scanned. Defaults to {@code false}.
+         */
+        private boolean markerOnly = false;
+
+        /**
+         * Whether discovery results are shared by all application contexts of the JVM that use the same
+         * class loader. Defaults to {@code true}.
+         */
+        private boolean shared = true;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Scan() {}
+
+        /**
+         * Returns the maximum number of threads used to read class files while scanning.
+         *
+         * @return the scan parallelism
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the maximum number of threads used to read class files while scanning.
+         *
+         * @param parallelism the scan parallelism; values below {@code 2} disable parallel scanning
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Returns the strategy used to find the implementation of each scanned mapper.
+         *
+         * @return the implementation resolution strategy
+         */
+        public ImplementationResolution getResolution() {
+            return resolution;
+        }
+
+        /**
+         * Sets the strategy used to find the implementation of each scanned mapper.
+         *
+         * @param resolution the implementation resolution strategy
+         */
+        public void setResolution(ImplementationResolution resolution) {
+            this.resolution = resolution;
+        }
+
+        /**
+         * Returns whether mapper discovery starts early, on a background thread.
+         *
+         * @return {@code true} if early discovery is enabled
+         */
+        public boolean isEarly() {
+            return early;
+        }
+
+        /**
+         * Sets whether mapper discovery starts early, on a background thread.
+         *
+         * @param early {@code true} to enable early discovery
+         */
+        public void setEarly(boolean early) {
+            this.early = early;
+        }
+
+        /**
+         * Returns the file name globs of the jars to restrict scanning to.
+         *
+         * @return the jar globs to include; empty to scan all jars
+         */
+        public List<String> getIncludeJars() {
+            return includeJars;
+        }
+
+        /**
+         * Sets the file name globs of the jars to restrict scanning to.
+         *
+         * @param includeJars the jar globs to include
+         */
+        public void setIncludeJars(List<String> includeJars) {
+            this.includeJars = includeJars;
+        }
+
+        /**
+         * Returns the file name globs of jars that are never scanned.
+         *
+         * @return the jar globs to exclude
+         */
+        public List<String> getExcludeJars() {
+            return excludeJars;
+        }
+
+        /**
+         * Sets the file name globs of jars that are never scanned.
+         *
+         * @param excludeJars the jar globs to exclude
+         */
+        public void setExcludeJars(List<String> excludeJars) {
+            this.excludeJars = excludeJars;
+        }
+
+        /**
+         * Returns the package globs whose class files are never read.
+         *
+         * @return the package globs to exclude
+         */
+        public List<String> getExcludePackages() {
+            return excludePackages;
+        }
+
+        /**
+         * Sets the package globs whose class files are never read.
+         *
+         * @param excludePackages the package globs to exclude
+         */
+        public void setExcludePackages(List<String> excludePackages) {
+            this.excludePackages = excludePackages;
+        }
+
+        /**
+         * Returns whether only classpath entries carrying a mapper index marker are scanned.
+         *
+         * @return {@code true} if marker-only scanning is enabled
+         */
+        public boolean isMarkerOnly() {
+            return markerOnly;
+        }
+
+        /**
+         * Sets whether only classpath entries carrying a mapper index marker are scanned.
+         *
+         * @param markerOnly {@code true} to enable marker-only scanning
+         */
+        public void setMarkerOnly(boolean markerOnly) {
+            this.markerOnly = markerOnly;
+        }
+
+        /**
+         * Returns whether discovery results are shared by application contexts using the same class loader.
+         *
+         * @return {@code true} if discovery results are shared
+         */
+        public boolean isShared() {
+            return shared;
+        }
+
+        /**
+         * Sets whether discovery results are shared by application contexts using the same class loader.
+         *
+         * @param shared {@code true} to share discovery results
+         */
+        public void setShared(boolean shared) {
+            this.shared = shared;
+        }
+    }
+
+    /**
+     * Settings for the persistent cache of classpath scan results.
+     *
+     * <p>The cache stores the mappers found in every classpath root together with a fingerprint of that root,
+     * so restarts on an unchanged classpath skip the scan and only changed roots are read again.
+     */
+    public static class ScanCache {
+
+        /**
+         * Whether to cache classpath scan results on disk. Defaults to {@code false}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory in which cache files are stored. Defaults to {@code mapstruct-scan-cache}
+         * in the system temporary directory.
+         */
+        private File dir = new File(System.getProperty("java.io.tmpdir"), "mapstruct-scan-cache");
+
+        /**
+         * Default no-argument constructor.
+         */
+        public ScanCache() {}
+
+        /**
+         * Indicates whether classpath scan results are cached on disk.
+         *
+         * @return {@code true} if the scan cache is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether classpath scan results are cached on disk.
+         *
+         * @param enabled {@code true} to enable the scan cache
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the directory in which cache files are stored.
+         *
+         * @return the cache directory
+         */
+        public File getDir() {
+            return dir;
+        }
+
+        /**
+         * Sets the directory in which cache files are stored.
+         *
+         * @param dir the cache directory
+         */
+        public void setDir(File dir) {
+            this.dir = dir;
+        }
+    }
+
+    /**
+     * Settings for how the mapper beans found by the starter are registered.
+     */
+    public static class Registration {
+
+        /**
+         * Whether the running Spring Framework supports background bean initialization (6.2 or later).
+         */
+        private static final boolean BACKGROUND_INIT_SUPPORTED =
+                ClassUtils.hasMethod(AbstractBeanDefinition.class, "setBackgroundInit", boolean.class);
+
+        /**
+         * When mapper beans are instantiated. Defaults to {@link MapperRegistrationMode#EAGER}.
+         */
+        private MapperRegistrationMode mode = MapperRegistrationMode.EAGER;
+
+        /**
+         * Per-package overrides of {@link #mode}, keyed by package name. The most specific matching
+         * package wins, e.g. keep hot-path mappers eager while everything else is lazy.
+         */
+        private Map<String, MapperRegistrationMode> packageModes = new LinkedHashMap<>();
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Registration() {}
+
+        /**
+         * Returns the default registration mode for mapper beans.
+         *
+         * @return the registration mode
+         */
+        public MapperRegistrationMode getMode() {
+            return mode;
+        }
+
+        /**
+         * Sets the default registration mode for mapper beans.
+         *
+         * @param mode the registration mode
+         */
+        public void setMode(MapperRegistrationMode mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * Returns the per-package registration mode overrides.
+         *
+         * @return registration modes keyed by package name
+         */
+        public Map<String, MapperRegistrationMode> getPackageModes() {
+            return packageModes;
+        }
+
+        /**
+         * Sets the per-package registration mode overrides.
+         *
+         * @param packageModes registration modes keyed by package name
+         */
+        public void setPackageModes(Map<String, MapperRegistrationMode> packageModes) {
+            this.packageModes = packageModes;
+        }
+
+        /**
+         * Returns whether the running Spring Framework supports {@link MapperRegistrationMode#BACKGROUND}.
+         *
+         * @return {@code true} on Spring Framework 6.2 or later
+         */
+        public static boolean isBackgroundInitSupported() {
+            return BACKGROUND_INIT_SUPPORTED;
+        }
+
+        /**
+         * Resolves the registration mode configured for a mapper implementation class, using the most specific
+         * matching entry of {@link #getPackageModes()} and falling back to {@link #getMode()}.
+         *
+         * @param className the binary name of the mapper implementation class
+         * @return the configured registration mode, before any fallback
+         */
+        public MapperRegistrationMode resolveConfiguredMode(String className) {
+            MapperRegistrationMode resolved = mode;
+            int matchedLength = -1;
+            for (Map.Entry<String, MapperRegistrationMode> entry : packageModes.entrySet()) {
+                String packageName = entry.getKey();
+                if (className.startsWith(packageName + ".") && packageName.length() > matchedLength) {
+                    resolved = entry.getValue();
+                    matchedLength = packageName.length();
+                }
+            }
+            return resolved;
+        }
+
+        /**
+         * Resolves the registration mode actually applied to a mapper implementation class.
+         *
+         * <p>This is {@link #resolveConfiguredMode(String)}, except that {@link MapperRegistrationMode#BACKGROUND}
+         * falls back to {@link MapperRegistrationMode#EAGER} when {@link #isBackgroundInitSupported()} is
+         * {@code false}.
+         *
+         * @param className the binary name of the mapper implementation class
+         * @return the registration mode to apply
+         */
+        public MapperRegistrationMode resolveMode(String className) {
+            MapperRegistrationMode resolved = resolveConfiguredMode(className);
+            if (resolved == MapperRegistrationMode.BACKGROUND && !BACKGROUND_INIT_SUPPORTED) {
+                return MapperRegistrationMode.EAGER;
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Settings for the Micrometer instrumentation of mapper beans.
+     *
+     * <p>When enabled, every registered mapper is proxied and records an invocation counter, a timer and
+     * a collection-size distribution per mapper method.
+     */
+    public static class Metrics {
+
+        /**
+         * Whether mapper invocations are instrumented. Defaults to {@code false}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of invocations, between {@code 0.0} and {@code 1.0}, whose duration is timed.
+         * Invocation counts and collection sizes are always recorded. Defaults to {@code 1.0}.
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * Whether the heap bytes allocated by sampled invocations are recorded, using the JVM's per-thread
+         * allocation counters. Defaults to {@code false}.
+         */
+        private boolean allocations = false;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Metrics() {}
+
+        /**
+         * Returns whether mapper invocations are instrumented.
+         *
+         * @return {@code true} if instrumentation is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether mapper invocations are instrumented.
+         *
+         * @param enabled {@code true} to instrument mapper invocations
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the fraction of invocations whose duration is timed.
+         *
+         * @return the sample rate
+         */
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        /**
+         * Sets the fraction of invocations whose duration is timed.
+         *
+         * @param sampleRate the sample rate, between {@code 0.0} and {@code 1.0}
+         */
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        /**
+         * Returns whether the heap bytes allocated by sampled invocations are recorded.
+         *
+         * @return {@code true} if allocations are recorded
+         */
+        public boolean isAllocations() {
+            return allocations;
+        }
+
+        /**
+         * Sets whether the heap bytes allocated by sampled invocations are recorded.
+         *
+         * @param allocations {@code true} to record allocations
+         */
+        public void setAllocations(boolean allocations) {
+            this.allocations = allocations;
+        }
+    }
+
+    /**
+     * Settings for the {@code MapperBatchExecutor}, which maps large collections in parallel chunks.
+     *
+     * <p>Inputs smaller than {@link #getSequentialThreshold()} are mapped on the calling thread. Larger inputs are
+     * split into about {@link #getChunksPerThread()} chunks per thread, but never into chunks smaller than
+     * {@link #getMinChunkSize()}.
+     */
+    public static class Batch {
+
+        /**
+         * Whether the {@code MapperBatchExecutor} bean is registered. Defaults to {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The threads used to map chunks. Defaults to {@link BatchExecutorType#FORK_JOIN}.
+         */
+        private BatchExecutorType executor = BatchExecutorType.FORK_JOIN;
+
+        /**
+         * Number of threads of the fork-join pool. Defaults to the number of available processors.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Inputs with fewer elements are mapped sequentially on the calling thread. Defaults to {@code 1000}.
+         */
+        private int sequentialThreshold = 1000;
+
+        /**
+         * Smallest number of elements mapped by one chunk. Defaults to {@code 256}.
+         */
+        private int minChunkSize = 256;
+
+        /**
+         * Number of chunks created per thread, which balances load when elements differ in cost. Defaults to {@code 4}.
+         */
+        private int chunksPerThread = 4;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Batch() {}
+
+        /**
+         * Returns whether the {@code MapperBatchExecutor} bean is registered.
+         *
+         * @return {@code true} if the batch executor is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the {@code MapperBatchExecutor} bean is registered.
+         *
+         * @param enabled {@code true} to register the batch executor
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the threads used to map chunks.
+         *
+         * @return the executor type
+         */
+        public BatchExecutorType getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Sets the threads used to map chunks.
+         *
+         * @param executor the executor type
+         */
+        public void setExecutor(BatchExecutorType executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Returns the number of threads of the fork-join pool.
+         *
+         * @return the parallelism
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the number of threads of the fork-join pool.
+         *
+         * @param parallelism the parallelism, at least {@code 1}
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Returns the input size below which elements are mapped sequentially.
+         *
+         * @return the sequential threshold
+         */
+        public int getSequentialThreshold() {
+            return sequentialThreshold;
+        }
+
+        /**
+         * Sets the input size below which elements are mapped sequentially.
+         *
+         * @param sequentialThreshold the sequential threshold
+         */
+        public void setSequentialThreshold(int sequentialThreshold) {
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        /**
+         * Returns the smallest number of elements mapped by one chunk.
+         *
+         * @return the minimum chunk size
+         */
+        public int getMinChunkSize() {
+            return minChunkSize;
+        }
+
+        /**
+         * Sets the smallest number of elements mapped by one chunk.
+         *
+         * @param minChunkSize the minimum chunk size, at least {@code 1}
+         */
+        public void setMinChunkSize(int minChunkSize) {
+            this.minChunkSize = minChunkSize;
+        }
+
+        /**
+         * Returns the number of chunks created per thread.
+         *
+         * @return the chunks per thread
+         */
+        public int getChunksPerThread() {
+            return chunksPerThread;
+        }
+
+        /**
+         * Sets the number of chunks created per thread.
+         *
+         * @param chunksPerThread the chunks per thread, at least {@code 1}
+         */
+        public void setChunksPerThread(int chunksPerThread) {
+            this.chunksPerThread = chunksPerThread;
+        }
+    }
+
+    /**
+     * Settings for the {@code ReactiveMapperAdapter}, which maps {@code Flux} and {@code Stream} sources in
+     * micro-batches on a bounded parallel scheduler.
+     *
+     * <p>At most {@link #getParallelism()} batches of {@link #getBatchSize()} elements are mapped at a time, and
+     * {@code Stream} sources are pulled {@link #getPrefetch()} elements at a time, so memory use does not depend on
+     * the size of the result set.
+     */
+    public static class Reactive {
+
+        /**
+         * Whether the {@code ReactiveMapperAdapter} bean is registered when Reactor is on the classpath.
+         * Defaults to {@code false}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of elements mapped together in one scheduler task. Defaults to {@code 256}.
+         */
+        private int batchSize = 256;
+
+        /**
+         * Maximum time the first element of a batch waits for the batch to fill up before the partial batch
+         * is mapped. Defaults to {@code 50ms}.
+         */
+        private Duration maxBatchDelay = Duration.ofMillis(50);
+
+        /**
+         * Number of threads of the mapping scheduler, and the number of batches mapped concurrently.
+         * Defaults to the number of available processors.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Number of elements requested from a {@code Stream} source at a time. Defaults to {@code 1024}.
+         */
+        private int prefetch = 1024;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Reactive() {}
+
+        /**
+         * Returns whether the {@code ReactiveMapperAdapter} bean is registered.
+         *
+         * @return {@code true} if the reactive adapter is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the {@code ReactiveMapperAdapter} bean is registered.
+         *
+         * @param enabled {@code true} to register the reactive adapter
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the number of elements mapped together in one scheduler task.
+         *
+         * @return the batch size
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the number of elements mapped together in one scheduler task.
+         *
+         * @param batchSize the batch size, at least {@code 1}
+         */
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Returns the maximum time the first element of a batch waits for the batch to fill up.
+         *
+         * @return the maximum batch delay
+         */
+        public Duration getMaxBatchDelay() {
+            return maxBatchDelay;
+        }
+
+        /**
+         * Sets the maximum time the first element of a batch waits for the batch to fill up.
+         *
+         * @param maxBatchDelay the maximum batch delay, positive
+         */
+        public void setMaxBatchDelay(Duration maxBatchDelay) {
+            this.maxBatchDelay = maxBatchDelay;
+        }
+
+        /**
+         * Returns the number of threads of the mapping scheduler.
+         *
+         * @return the parallelism
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the number of threads of the mapping scheduler.
+         *
+         * @param parallelism the parallelism, at least {@code 1}
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Returns the number of elements requested from a {@code Stream} source at a time.
+         *
+         * @return the prefetch
+         */
+        public int getPrefetch() {
+            return prefetch;
+        }
+
+        /**
+         * Sets the number of elements requested from a {@code Stream} source at a time.
+         *
+         * @param prefetch the prefetch, at least {@code 1}
+         */
+        public void setPrefetch(int prefetch) {
+            this.prefetch = prefetch;
+        }
+    }
+
+    /**
+     * Settings for the result caches of mapper methods annotated with {@code @CachedMapping}.
+     *
+     * <p>The defaults apply to methods whose annotation does not set {@code maxSize} or {@code ttl}.
+     */
+    public static class Cache {
+
+        /**
+         * Whether {@code @CachedMapping} methods are cached. Defaults to {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of results cached per method. Defaults to {@code 1000}.
+         */
+        private int defaultMaxSize = 1000;
+
+        /**
+         * Time to live of a cached result. Defaults to 10 minutes.
+         */
+        private Duration defaultTtl = Duration.ofMinutes(10);
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Cache() {}
+
+        /**
+         * Returns whether {@code @CachedMapping} methods are cached.
+         *
+         * @return {@code true} if caching is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether {@code @CachedMapping} methods are cached.
+         *
+         * @param enabled {@code true} to cache {@code @CachedMapping} methods
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the maximum number of results cached per method.
+         *
+         * @return the default maximum size
+         */
+        public int getDefaultMaxSize() {
+            return defaultMaxSize;
+        }
+
+        /**
+         * Sets the maximum number of results cached per method.
+         *
+         * @param defaultMaxSize the default maximum size
+         */
+        public void setDefaultMaxSize(int defaultMaxSize) {
+            this.defaultMaxSize = defaultMaxSize;
+        }
+
+        /**
+         * Returns the time to live of a cached result.
+         *
+         * @return the default time to live
+         */
+        public Duration getDefaultTtl() {
+            return defaultTtl;
+        }
+
+        /**
+         * Sets the time to live of a cached result.
+         *
+         * @param defaultTtl the default time to live
+         */
+        public void setDefaultTtl(Duration defaultTtl) {
+            this.defaultTtl = defaultTtl;
+        }
+    }
+
+    /**
+     * Settings for the {@code MapperRegistry}, which dispatches {@code map(source, targetType)} calls to the
+     * mapper method converting between the two types.
+     */
+    public static class Registry {
+
+        /**
+         * Whether the {@code MapperRegistry} bean is registered. Defaults to {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Whether startup fails when several mapper methods convert the same source type to the same target type.
+         * Defaults to {@code false}, which only logs a warning.
+         */
+        private boolean failOnAmbiguity = false;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Registry() {}
+
+        /**
+         * Returns whether the {@code MapperRegistry} bean is registered.
+         *
+         * @return {@code true} if the registry is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the {@code MapperRegistry} bean is registered.
+         *
+         * @param enabled {@code true} to register the registry
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns whether startup fails on ambiguous source and target type pairs.
+         *
+         * @return {@code true} to fail on ambiguity
+         */
+        public boolean isFailOnAmbiguity() {
+            return failOnAmbiguity;
+        }
+
+        /**
+         * Sets whether startup fails on ambiguous source and target type pairs.
+         *
+         * @param failOnAmbiguity {@code true} to fail on ambiguity
+         */
+        public void setFailOnAmbiguity(boolean failOnAmbiguity) {
+            this.failOnAmbiguity = failOnAmbiguity;
+        }
+    }
+
+    /**
+     * Settings for converting through Spring's {@code ConversionService} with the registered mappers.
+     */
+    public static class Conversion {
+
+        /**
+         * Whether every single-argument mapper method is added as a converter to the application's converter
+         * registries. Defaults to {@code false}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Conversion() {}
+
+        /**
+         * Returns whether mapper methods are added to the application's converter registries.
+         *
+         * @return {@code true} if mapper conversions are enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether mapper methods are added to the application's converter registries.
+         *
+         * @param enabled {@code true} to enable mapper conversions
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Settings for the JDK Flight Recorder events of mapper invocations.
+     *
+     * <p>Discovery and registration events are always emitted; they cost nothing unless recorded.
+     */
+    public static class Jfr {
+
+        /**
+         * Whether mapper beans emit an event for slow invocations. Defaults to {@code false}.
+         */
+        private boolean invocationEvents = false;
+
+        /**
+         * Minimum duration of an invocation to be recorded. Defaults to 100 microseconds.
+         */
+        private Duration invocationThreshold = Duration.ofNanos(100_000);
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Jfr() {}
+
+        /**
+         * Returns whether mapper beans emit an event for slow invocations.
+         *
+         * @return {@code true} if invocation events are enabled
+         */
+        public boolean isInvocationEvents() {
+            return invocationEvents;
+        }
+
+        /**
+         * Sets whether mapper beans emit an event for slow invocations.
+         *
+         * @param invocationEvents {@code true} to enable invocation events
+         */
+        public void setInvocationEvents(boolean invocationEvents) {
+            this.invocationEvents = invocationEvents;
+        }
+
+        /**
+         * Returns the minimum duration of an invocation to be recorded.
+         *
+         * @return the invocation threshold
+         */
+        public Duration getInvocationThreshold() {
+            return invocationThreshold;
+        }
+
+        /**
+         * Sets the minimum duration of an invocation to be recorded.
+         *
+         * @param invocationThreshold the invocation threshold
+         */
+        public void setInvocationThreshold(Duration invocationThreshold) {
+            this.invocationThreshold = invocationThreshold;
+        }
+    }
+
+    /**
+     * Settings for warming up mappers before the application accepts traffic.
+     */
+    public static class Warmup {
+
+        /**
+         * Whether mapper methods are invoked with sample inputs before the application reports readiness.
+         * Defaults to {@code false}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of rounds over all methods of a mapper. Defaults to 10000.
+         */
+        private int iterations = 10_000;
+
+        /**
+         * Maximum time spent warming up a single mapper. Defaults to 2 seconds.
+         */
+        private Duration duration = Duration.ofSeconds(2);
+
+        /**
+         * Maximum total time the warm-up may delay startup. Defaults to 10 seconds.
+         */
+        private Duration budget = Duration.ofSeconds(10);
+
+        /**
+         * Number of mappers warmed up concurrently. Defaults to the number of available processors.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Warmup() {}
+
+        /**
+         * Returns whether mappers are warmed up before the application reports readiness.
+         *
+         * @return {@code true} if the warm-up is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether mappers are warmed up before the application reports readiness.
+         *
+         * @param enabled {@code true} to enable the warm-up
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the number of rounds over all methods of a mapper.
+         *
+         * @return the number of iterations
+         */
+        public int getIterations() {
+            return iterations;
+        }
+
+        /**
+         * Sets the number of rounds over all methods of a mapper.
+         *
+         * @param iterations the number of iterations
+         */
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+
+        /**
+         * Returns the maximum time spent warming up a single mapper.
+         *
+         * @return the per-mapper duration
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Sets the maximum time spent warming up a single mapper.
+         *
+         * @param duration the per-mapper duration
+         */
+        public void setDuration(Duration duration) {
+            this.duration = duration;
+        }
+
+        /**
+         * Returns the maximum total time the warm-up may delay startup.
+         *
+         * @return the warm-up budget
+         */
+        public Duration getBudget() {
+            return budget;
+        }
+
+        /**
+         * Sets the maximum total time the warm-up may delay startup.
+         *
+         * @param budget the warm-up budget
+         */
+        public void setBudget(Duration budget) {
+            this.budget = budget;
+        }
+
+        /**
+         * Returns the number of mappers warmed up concurrently.
+         *
+         * @return the warm-up parallelism
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the number of mappers warmed up concurrently.
+         *
+         * @param parallelism the warm-up parallelism
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * Settings for detecting mappers that execute SQL through JPA, e.g. by initializing lazy associations.
+     */
+    public static class Jpa {
+
+        /**
+         * Whether the SQL statements executed during mapper invocations are counted. Requires Hibernate.
+         * Defaults to {@code false}.
+         */
+        private boolean queryDetection = false;
+
+        /**
+         * Number of SQL statements a single mapper invocation may execute before it is flagged. Defaults to
+         * {@code 0}, i.e. any statement is flagged.
+         */
+        private int queryThreshold = 0;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public Jpa() {}
+
+        /**
+         * Returns whether the SQL statements executed during mapper invocations are counted.
+         *
+         * @return {@code true} if query detection is enabled
+         */
+        public boolean isQueryDetection() {
+            return queryDetection;
+        }
+
+        /**
+         * Sets whether the SQL statements executed during mapper invocations are counted.
+         *
+         * @param queryDetection {@code true} to enable query detection
+         */
+        public void setQueryDetection(boolean queryDetection) {
+            this.queryDetection = queryDetection;
+        }
+
+        /**
+         * Returns the number of SQL statements a single mapper invocation may execute before it is flagged.
+         *
+         * @return the query threshold
+         */
+        public int getQueryThreshold() {
+            return queryThreshold;
+        }
+
+        /**
+         * Sets the number of SQL statements a single mapper invocation may execute before it is flagged.
+         *
+         * @param queryThreshold the query threshold
+         */
+        public void setQueryThreshold(int queryThreshold) {
+            this.queryThreshold = queryThreshold;
+        }
+    }
+
+    /**
+     * Settings for supplying a pooled
+     * {@link com.codestackfoundry.starters.mapstruct.context.CycleTrackingContext CycleTrackingContext} to mapper
+     * methods invoked with {@code null} for their context parameter.
+     */
+    public static class CycleContext {
+
+        /**
+         * Whether mapper beans supply a pooled context when {@code null} is passed for it. Defaults to
+         * {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Default no-argument constructor.
+         */
+        public CycleContext() {}
+
+        /**
+         * Returns whether mapper beans supply a pooled context when {@code null} is passed for it.
+         *
+         * @return {@code true} if contexts are supplied
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether mapper beans supply a pooled context when {@code null} is passed for it.
+         *
+         * @param enabled {@code true} to supply contexts
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
 }
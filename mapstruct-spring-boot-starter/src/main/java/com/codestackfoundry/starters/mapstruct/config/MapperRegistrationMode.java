@@ -0,0 +1,31 @@
+package com.codestackfoundry.starters.mapstruct.config;
+
+/**
+ * Controls when the mapper beans registered by the starter are instantiated.
+ *
+ * <p>Configured globally through {@code mapstruct.registration.mode} and per package through
+ * {@code mapstruct.registration.package-modes}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapStructProperties.Registration
+ */
+public enum MapperRegistrationMode {
+
+    /**
+     * Mappers are instantiated during context refresh, like any other singleton. This is the default.
+     */
+    EAGER,
+
+    /**
+     * Mappers are instantiated on first use (lazy-init bean definitions).
+     */
+    LAZY,
+
+    /**
+     * Mappers are instantiated in parallel with the rest of the context, using Spring Framework 6.2's
+     * background bean initialization. Requires a {@code bootstrapExecutor} bean; on older Spring versions
+     * mappers fall back to {@link #EAGER}.
+     */
+    BACKGROUND
+}
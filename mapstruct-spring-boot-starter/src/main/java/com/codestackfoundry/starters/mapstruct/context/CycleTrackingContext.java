@@ -0,0 +1,250 @@
+package com.codestackfoundry.starters.mapstruct.context;
+
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.Context;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.TargetType;
+
+/**
+ * MapStruct {@link Context @Context} that maps every source object of a graph only once, so that bidirectional
+ * and otherwise cyclic graphs can be mapped without endless recursion, and shared objects stay shared.
+ *
+ * <pre>{@code
+ * @Mapper
+ * public interface OrderMapper {
+ *     OrderDto toDto(Order order, @Context CycleTrackingContext context);
+ *     OrderLineDto toDto(OrderLine line, @Context CycleTrackingContext context);
+ * }
+ * }</pre>
+ *
+ * <p>Mapped instances are kept in an open-addressing identity table that is cleared in proportion to the
+ * number of entries rather than reallocated. Contexts taken with {@link #acquire()} come from a small lock-free
+ * pool and return to it on {@link #close()}, so steady-state mapping allocates no tracking structures. A pooled
+ * context is owned exclusively by its caller until it is closed, so it is safe on virtual threads that move
+ * between carriers mid-mapping.
+ *
+ * <p>Registered mapper beans acquire and close a pooled context themselves when {@code null} is passed for a
+ * {@code CycleTrackingContext} parameter: {@code orderMapper.toDto(order, null)}.
+ *
+ * <p>A context is not thread-safe and must not be shared by concurrent mappings.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see CycleTrackingStatistics
+ */
+public final class CycleTrackingContext implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Tables grown beyond this many slots by a very large graph are dropped on {@link #clear()}, so that a pooled
+     * context does not pin a large array for the rest of the application's life.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 14;
+
+    private final boolean pooled;
+
+    private boolean acquired;
+
+    private Object[] keys;
+
+    private Object[] values;
+
+    /**
+     * Indexes of the occupied slots, in insertion order; lets {@link #clear()} and resizing touch only those.
+     */
+    private int[] occupied;
+
+    private int size;
+
+    /**
+     * Creates a context that is not pooled.
+     */
+    public CycleTrackingContext() {
+        this(false);
+    }
+
+    private CycleTrackingContext(boolean pooled) {
+        this.pooled = pooled;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Takes an empty context from the pool, or creates one if the pool has none to spare. Close it when the
+     * mapping is done to return it to the pool.
+     *
+     * @return an empty context owned by the caller
+     */
+    public static CycleTrackingContext acquire() {
+        CycleTrackingContext context = CycleTrackingContextPool.INSTANCE.poll();
+        if (context == null) {
+            context = new CycleTrackingContext(true);
+        }
+        context.acquired = true;
+        return context;
+    }
+
+    /**
+     * Returns the usage statistics of all contexts.
+     *
+     * @return the statistics
+     */
+    public static CycleTrackingStatistics statistics() {
+        return CycleTrackingStatistics.INSTANCE;
+    }
+
+    /**
+     * Returns the target already mapped from the given source, so that MapStruct returns it instead of mapping
+     * the source again.
+     *
+     * @param source     the source about to be mapped
+     * @param targetType the target type of the mapping
+     * @param <T>        the target type
+     * @return the target mapped from {@code source} before, or {@code null}
+     */
+    @BeforeMapping
+    public <T> T getMappedInstance(Object source, @TargetType Class<T> targetType) {
+        Object mapped = get(source);
+        return targetType.isInstance(mapped) ? targetType.cast(mapped) : null;
+    }
+
+    /**
+     * Remembers the target mapped from the given source, before its properties are mapped.
+     *
+     * @param source the source being mapped
+     * @param target the target being mapped to
+     */
+    @BeforeMapping
+    public void storeMappedInstance(Object source, @MappingTarget Object target) {
+        put(source, target);
+    }
+
+    /**
+     * Returns the value stored for the given key, compared by identity.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if none is stored
+     */
+    public Object get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Object[] keys = this.keys;
+        int mask = keys.length - 1;
+        for (int i = indexFor(key, mask); ; i = (i + 1) & mask) {
+            Object candidate = keys[i];
+            if (candidate == key) {
+                return values[i];
+            }
+            if (candidate == null) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Stores a value for the given key, compared by identity.
+     *
+     * @param key   the key; {@code null} is ignored
+     * @param value the value
+     */
+    public void put(Object key, Object value) {
+        if (key == null) {
+            return;
+        }
+        if (size >= keys.length >>> 1) {
+            resize(keys.length << 1);
+        }
+        int mask = keys.length - 1;
+        for (int i = indexFor(key, mask); ; i = (i + 1) & mask) {
+            Object candidate = keys[i];
+            if (candidate == key) {
+                values[i] = value;
+                return;
+            }
+            if (candidate == null) {
+                keys[i] = key;
+                values[i] = value;
+                occupied[size++] = i;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of source objects tracked, i.e. the size of the graph mapped so far.
+     *
+     * @return the number of tracked objects
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Forgets all tracked objects, in time proportional to their number.
+     */
+    public void clear() {
+        if (keys.length > MAX_RETAINED_CAPACITY) {
+            allocate(INITIAL_CAPACITY);
+            size = 0;
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            keys[occupied[i]] = null;
+            values[occupied[i]] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Records the size of the mapped graph, clears the context and, if it was {@linkplain #acquire() acquired},
+     * returns it to the pool. The context must not be used afterwards.
+     *
+     * @throws IllegalStateException if an acquired context is closed twice
+     */
+    @Override
+    public void close() {
+        if (pooled) {
+            if (!acquired) {
+                throw new IllegalStateException("CycleTrackingContext has already been returned to the pool");
+            }
+            acquired = false;
+        }
+        CycleTrackingStatistics.INSTANCE.recordGraph(size);
+        clear();
+        if (pooled) {
+            CycleTrackingContextPool.INSTANCE.offer(this);
+        }
+    }
+
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldOccupied = occupied;
+        int oldSize = size;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldSize; j++) {
+            int slot = oldOccupied[j];
+            int i = indexFor(oldKeys[slot], mask);
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = oldKeys[slot];
+            values[i] = oldValues[slot];
+            occupied[j] = i;
+        }
+        size = oldSize;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        occupied = new int[capacity >>> 1];
+    }
+
+    private static int indexFor(Object key, int mask) {
+        int hash = System.identityHashCode(key);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,42 @@
+package com.codestackfoundry.starters.mapstruct.context;
+
+import com.codestackfoundry.starters.mapstruct.aop.AbstractMapperAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+
+/**
+ * Wraps the registered mapper beans that declare a {@link CycleTrackingContext} parameter, so that a pooled
+ * context is supplied when {@code null} is passed for it. Mappers without such a parameter are not proxied.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructCycleTrackingAutoConfiguration
+ */
+public class CycleTrackingContextBeanPostProcessor extends AbstractMapperAdvisingBeanPostProcessor {
+
+    /**
+     * Creates the post-processor.
+     */
+    public CycleTrackingContextBeanPostProcessor() {
+        this.advisor = new DefaultPointcutAdvisor(new ContextParameterPointcut(),
+                new CycleTrackingContextInterceptor());
+    }
+
+    /**
+     * Matches methods with a {@link CycleTrackingContext} parameter.
+     */
+    private static final class ContextParameterPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                if (parameterType == CycleTrackingContext.class) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.codestackfoundry.starters.mapstruct.context;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Passes a pooled {@link CycleTrackingContext} to mapper methods invoked with {@code null} for their
+ * {@code CycleTrackingContext} parameter, and returns it to the pool once the method completes.
+ *
+ * <p>Contexts passed by the caller are left alone, so a caller can still share one context across several
+ * mapper calls.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class CycleTrackingContextInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        Class<?>[] parameterTypes = invocation.getMethod().getParameterTypes();
+        CycleTrackingContext context = null;
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == null && parameterTypes[i] == CycleTrackingContext.class) {
+                if (context == null) {
+                    context = CycleTrackingContext.acquire();
+                }
+                arguments[i] = context;
+            }
+        }
+        if (context == null) {
+            return invocation.proceed();
+        }
+        try {
+            return invocation.proceed();
+        }
+        finally {
+            context.close();
+        }
+    }
+}
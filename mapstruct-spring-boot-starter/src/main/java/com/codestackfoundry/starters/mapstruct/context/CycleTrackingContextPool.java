@@ -0,0 +1,60 @@
+package com.codestackfoundry.starters.mapstruct.context;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free pool of idle {@link CycleTrackingContext}s.
+ *
+ * <p>Contexts sit in a small array of slots, about two per processor. A thread starts looking at a slot derived
+ * from its id and probes a few neighbours, claiming a context with a compare-and-set; when nothing is found a new
+ * context is created, and when every probed slot is taken on return the context is left to the garbage
+ * collector. A context is never reachable from the pool while it is in use, so contexts are not tied to a
+ * thread or carrier.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class CycleTrackingContextPool {
+
+    static final CycleTrackingContextPool INSTANCE = new CycleTrackingContextPool();
+
+    private static final int PROBES = 4;
+
+    private final AtomicReferenceArray<CycleTrackingContext> slots;
+
+    private final int mask;
+
+    private CycleTrackingContextPool() {
+        int slotCount = Integer.highestOneBit(Math.max(PROBES, Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+    }
+
+    CycleTrackingContext poll() {
+        int start = startIndex();
+        for (int probe = 0; probe < PROBES; probe++) {
+            int i = (start + probe) & mask;
+            CycleTrackingContext context = slots.get(i);
+            if (context != null && slots.compareAndSet(i, context, null)) {
+                CycleTrackingStatistics.INSTANCE.recordAcquisition(false);
+                return context;
+            }
+        }
+        CycleTrackingStatistics.INSTANCE.recordAcquisition(true);
+        return null;
+    }
+
+    void offer(CycleTrackingContext context) {
+        int start = startIndex();
+        for (int probe = 0; probe < PROBES; probe++) {
+            int i = (start + probe) & mask;
+            if (slots.get(i) == null && slots.compareAndSet(i, null, context)) {
+                return;
+            }
+        }
+    }
+
+    private int startIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
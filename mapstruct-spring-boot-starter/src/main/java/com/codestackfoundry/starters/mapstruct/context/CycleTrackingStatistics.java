@@ -0,0 +1,87 @@
+package com.codestackfoundry.starters.mapstruct.context;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Usage statistics of all {@link CycleTrackingContext}s: how often the pool served a context and how large the
+ * mapped graphs were.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see CycleTrackingContext#statistics()
+ */
+public final class CycleTrackingStatistics {
+
+    static final CycleTrackingStatistics INSTANCE = new CycleTrackingStatistics();
+
+    private final LongAdder acquisitions = new LongAdder();
+
+    private final LongAdder allocations = new LongAdder();
+
+    private final LongAdder graphs = new LongAdder();
+
+    private final LongAdder trackedObjects = new LongAdder();
+
+    private final LongAccumulator maxGraphSize = new LongAccumulator(Math::max, 0);
+
+    private CycleTrackingStatistics() {}
+
+    void recordAcquisition(boolean allocated) {
+        acquisitions.increment();
+        if (allocated) {
+            allocations.increment();
+        }
+    }
+
+    void recordGraph(int size) {
+        graphs.increment();
+        trackedObjects.add(size);
+        maxGraphSize.accumulate(size);
+    }
+
+    /**
+     * Returns the number of contexts acquired from the pool.
+     *
+     * @return the acquisition count
+     */
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    /**
+     * Returns the number of acquisitions the pool could not serve, which created a new context.
+     *
+     * @return the allocation count
+     */
+    public long getAllocations() {
+        return allocations.sum();
+    }
+
+    /**
+     * Returns the number of mapped graphs, i.e. of closed contexts.
+     *
+     * @return the graph count
+     */
+    public long getGraphs() {
+        return graphs.sum();
+    }
+
+    /**
+     * Returns the number of source objects tracked over all mapped graphs.
+     *
+     * @return the tracked object count
+     */
+    public long getTrackedObjects() {
+        return trackedObjects.sum();
+    }
+
+    /**
+     * Returns the size of the largest graph mapped so far.
+     *
+     * @return the maximum graph size
+     */
+    public long getMaxGraphSize() {
+        return maxGraphSize.get();
+    }
+}
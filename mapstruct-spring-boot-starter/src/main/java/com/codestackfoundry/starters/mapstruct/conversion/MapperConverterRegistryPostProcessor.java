@@ -0,0 +1,70 @@
+package com.codestackfoundry.starters.mapstruct.conversion;
+
+import com.codestackfoundry.starters.mapstruct.registry.MapperRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.convert.converter.ConverterRegistry;
+
+/**
+ * Adds a {@link MapperGenericConverter} to every {@link ConverterRegistry} bean, such as the application's
+ * {@code conversionService} and the conversion services of Spring MVC and WebFlux.
+ *
+ * <p>The converter is deliberately not a bean itself: Spring Boot adds converter beans to the web conversion
+ * services on its own, and the converter would otherwise be registered there twice. Registries that cannot be
+ * modified are left as they are.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructConversionAutoConfiguration
+ */
+public class MapperConverterRegistryPostProcessor implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperConverterRegistryPostProcessor.class);
+
+    private final ObjectProvider<MapperRegistry> mapperRegistry;
+
+    private volatile MapperGenericConverter converter;
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param mapperRegistry provider of the registry the converter delegates to
+     */
+    public MapperConverterRegistryPostProcessor(ObjectProvider<MapperRegistry> mapperRegistry) {
+        this.mapperRegistry = mapperRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConverterRegistry converterRegistry) {
+            MapperGenericConverter converter = converter();
+            if (converter == null) {
+                log.warn("Mapper conversions are enabled but no MapperRegistry is available; "
+                        + "check that 'mapstruct.registry.enabled' is not set to false");
+                return bean;
+            }
+            try {
+                converterRegistry.addConverter(converter);
+                log.debug("Added {} mapper conversions to '{}'", converter.getConvertibleTypes().size(), beanName);
+            } catch (UnsupportedOperationException e) {
+                log.debug("Not adding mapper conversions to unmodifiable '{}'", beanName);
+            }
+        }
+        return bean;
+    }
+
+    private MapperGenericConverter converter() {
+        MapperGenericConverter converter = this.converter;
+        if (converter == null) {
+            MapperRegistry registry = mapperRegistry.getIfAvailable();
+            if (registry == null) {
+                return null;
+            }
+            converter = new MapperGenericConverter(registry);
+            this.converter = converter;
+        }
+        return converter;
+    }
+}
@@ -0,0 +1,51 @@
+package com.codestackfoundry.starters.mapstruct.conversion;
+
+import com.codestackfoundry.starters.mapstruct.registry.MapperRegistry;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+
+import java.util.Set;
+
+/**
+ * A {@link org.springframework.core.convert.converter.GenericConverter} that converts between every source and
+ * target type pair handled by a single-argument mapper method, by delegating to the {@link MapperRegistry}.
+ *
+ * <p>The convertible pairs are computed once from the registry's index, so a {@code ConversionService} finds the
+ * converter by its own type-pair lookup. Since a conversion service also offers a converter for subtypes of its
+ * target type, {@link #matches(TypeDescriptor, TypeDescriptor)} accepts only pairs the registry can map.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperConverterRegistryPostProcessor
+ */
+public final class MapperGenericConverter implements ConditionalGenericConverter {
+
+    private final MapperRegistry registry;
+
+    private final Set<ConvertiblePair> convertibleTypes;
+
+    /**
+     * Creates a converter for the mapper methods indexed by the given registry.
+     *
+     * @param registry the registry dispatching to the mapper methods
+     */
+    public MapperGenericConverter(MapperRegistry registry) {
+        this.registry = registry;
+        this.convertibleTypes = registry.getTypePairs();
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return convertibleTypes;
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return registry.canMap(sourceType.getObjectType(), targetType.getObjectType());
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return registry.map(source, targetType.getObjectType());
+    }
+}
@@ -1,6 +1,8 @@
 package com.codestackfoundry.starters.mapstruct.internal;
 
 import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.jfr.BasePackageResolutionEvent;
+import com.codestackfoundry.starters.mapstruct.jfr.FlightRecorderSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -50,9 +52,13 @@ public class MapStructBasePackageResolver {
      * @throws IllegalStateException if base package cannot be determined
      */
     public List<String> resolveBasePackages(MapStructProperties props) {
+        BasePackageResolutionEvent event = FlightRecorderSupport.isAvailable() ? new BasePackageResolutionEvent() : null;
         List<String> basePackages = props.getBasePackages();
         if( basePackages != null && !basePackages.isEmpty() ) {
             log.debug("Using configured mapstruct.base-packages: {}", basePackages);
+            if (event != null) {
+                event.complete(basePackages, "configured");
+            }
             return basePackages;
         }
 
@@ -60,6 +66,9 @@ public class MapStructBasePackageResolver {
         String inferred = inferFromMainApplication();
         if (inferred != null && !inferred.isBlank()) {
             log.info("Falling back to inferred base package from main class: {}", inferred);
+            if (event != null) {
+                event.complete(List.of(inferred), "inferred");
+            }
             return List.of(inferred);
         }
 
@@ -0,0 +1,19 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import jdk.jfr.Event;
+
+/**
+ * Base class of the Flight Recorder events emitted by the starter.
+ *
+ * <p>Events are begun when created. Like all Flight Recorder events they cost next to nothing unless a recording
+ * with the event enabled is running, so they are emitted whenever {@link FlightRecorderSupport#isAvailable()} says
+ * the Flight Recorder API is present.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+abstract class AbstractMapStructEvent extends Event {
+
+    AbstractMapStructEvent() {
+        begin();
+    }
+}
@@ -0,0 +1,46 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * Flight Recorder event for the resolution of the base packages to discover mappers in.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.internal.MapStructBasePackageResolver
+ */
+@Name("com.codestackfoundry.mapstruct.BasePackageResolution")
+@Label("Base Package Resolution")
+@Category({"MapStruct", "Startup"})
+@Description("Resolution of the base packages to discover mappers in")
+@StackTrace(false)
+public final class BasePackageResolutionEvent extends AbstractMapStructEvent {
+
+    @Label("Base Packages")
+    String basePackages;
+
+    @Label("Source")
+    @Description("Whether the base packages were configured or inferred from the main class")
+    String source;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param basePackages the resolved base packages
+     * @param source       {@code configured} or {@code inferred}
+     */
+    public void complete(List<String> basePackages, String source) {
+        end();
+        if (shouldCommit()) {
+            this.basePackages = String.join(", ", basePackages);
+            this.source = source;
+            commit();
+        }
+    }
+}
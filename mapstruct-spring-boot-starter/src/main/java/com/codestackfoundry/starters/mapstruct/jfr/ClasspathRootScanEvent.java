@@ -0,0 +1,57 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for reading the class files below one classpath root during a mapper scan.
+ *
+ * <p>Roots served from the persistent scan cache are not read and emit no event.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see ClasspathScanEvent
+ */
+@Name("com.codestackfoundry.mapstruct.ClasspathRootScan")
+@Label("Mapper Classpath Root Scan")
+@Category({"MapStruct", "Startup"})
+@Description("Reading of the class files below one classpath root during a mapper scan")
+@StackTrace(false)
+public final class ClasspathRootScanEvent extends AbstractMapStructEvent {
+
+    @Label("Root")
+    String root;
+
+    @Label("Scan Package")
+    String scanPackage;
+
+    @Label("Class Files")
+    @Description("Number of class files found below the root")
+    int classFiles;
+
+    @Label("Classes Read")
+    @Description("Number of class files read, after package exclusions")
+    int classesRead;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param root        the URL of the package location within the classpath entry
+     * @param scanPackage the scanned package the root belongs to, or {@code null} if unknown
+     * @param classFiles  the number of class files found below the root
+     * @param classesRead the number of class files read
+     */
+    public void complete(String root, String scanPackage, int classFiles, int classesRead) {
+        end();
+        if (shouldCommit()) {
+            this.root = root;
+            this.scanPackage = scanPackage;
+            this.classFiles = classFiles;
+            this.classesRead = classesRead;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * Flight Recorder event for the single classpath pass that discovers the mappers of all base packages not
+ * covered by the compile-time mapper index.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see ClasspathRootScanEvent
+ * @see com.codestackfoundry.starters.mapstruct.support.MapperScanUtils
+ */
+@Name("com.codestackfoundry.mapstruct.ClasspathScan")
+@Label("Mapper Classpath Scan")
+@Category({"MapStruct", "Startup"})
+@Description("Classpath scan discovering the mappers of base packages not covered by the mapper index")
+@StackTrace(false)
+public final class ClasspathScanEvent extends AbstractMapStructEvent {
+
+    @Label("Base Packages")
+    String basePackages;
+
+    @Label("Classpath Roots")
+    int roots;
+
+    @Label("Classes Read")
+    int classesRead;
+
+    @Label("Implementations")
+    @Description("Number of mapper implementations found for registration")
+    int implementations;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param basePackages    the scanned base packages
+     * @param roots           the number of classpath roots scanned or served from the scan cache
+     * @param classesRead     the number of class files read
+     * @param implementations the number of mapper implementations found for registration
+     */
+    public void complete(List<String> basePackages, int roots, int classesRead, int implementations) {
+        end();
+        if (shouldCommit()) {
+            this.basePackages = String.join(", ", basePackages);
+            this.roots = roots;
+            this.classesRead = classesRead;
+            this.implementations = implementations;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Tells whether the starter's Flight Recorder events can be created.
+ *
+ * <p>The events extend {@code jdk.jfr.Event}, which is missing from runtimes linked without the {@code jdk.jfr}
+ * module, where creating one fails with a {@link NoClassDefFoundError}. Callers create events only when
+ * {@link #isAvailable()} returns {@code true} and skip them otherwise:
+ *
+ * <pre>{@code
+ * ClasspathScanEvent event = FlightRecorderSupport.isAvailable() ? new ClasspathScanEvent() : null;
+ * ...
+ * if (event != null) {
+ *     event.complete(...);
+ * }
+ * }</pre>
+ *
+ * <p>This class does not reference any Flight Recorder type itself, so it loads on every runtime.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class FlightRecorderSupport {
+
+    private static final boolean AVAILABLE =
+            ClassUtils.isPresent("jdk.jfr.Event", FlightRecorderSupport.class.getClassLoader());
+
+    private FlightRecorderSupport() { }
+
+    /**
+     * Returns whether the JDK Flight Recorder API is present.
+     *
+     * @return {@code true} if {@code jdk.jfr.Event} can be loaded
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+}
@@ -0,0 +1,44 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for resolving the mappers of one base package from the compile-time mapper index.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.support.MapperIndex
+ */
+@Name("com.codestackfoundry.mapstruct.MapperIndexLookup")
+@Label("Mapper Index Lookup")
+@Category({"MapStruct", "Startup"})
+@Description("Resolution of the mappers of a base package from the compile-time mapper index")
+@StackTrace(false)
+public final class MapperIndexLookupEvent extends AbstractMapStructEvent {
+
+    @Label("Base Package")
+    String basePackage;
+
+    @Label("Implementations")
+    @Description("Number of mapper implementations found for registration")
+    int implementations;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param basePackage     the base package
+     * @param implementations the number of mapper implementations found for registration
+     */
+    public void complete(String basePackage, int implementations) {
+        end();
+        if (shouldCommit()) {
+            this.basePackage = basePackage;
+            this.implementations = implementations;
+            commit();
+        }
+    }
+}
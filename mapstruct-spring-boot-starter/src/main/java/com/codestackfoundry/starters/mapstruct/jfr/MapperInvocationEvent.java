@@ -0,0 +1,37 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a mapper method invocation slower than {@code mapstruct.jfr.invocation-threshold}.
+ *
+ * <p>The event keeps its stack trace, so slow mappings can be attributed to their callers. A recording may raise
+ * the threshold further through the event's {@code threshold} setting.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperInvocationEventInterceptor
+ */
+@Name("com.codestackfoundry.mapstruct.MapperInvocation")
+@Label("Mapper Invocation")
+@Category("MapStruct")
+@Description("Mapper method invocation slower than the configured threshold")
+@Threshold("0 ns")
+final class MapperInvocationEvent extends Event {
+
+    @Label("Mapper")
+    @Description("The @Mapper type")
+    String mapper;
+
+    @Label("Method")
+    String method;
+
+    @Label("Source Type")
+    @Description("Runtime type of the first argument")
+    String sourceType;
+}
@@ -0,0 +1,28 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import com.codestackfoundry.starters.mapstruct.aop.AbstractMapperAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.time.Duration;
+
+/**
+ * Decorates every registered mapper bean with {@link MapperInvocationEvent} emission.
+ *
+ * <p>Only registered when {@code mapstruct.jfr.invocation-events=true}, since proxying every mapper is not free
+ * even while no recording is running.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructJfrAutoConfiguration
+ */
+public class MapperInvocationEventBeanPostProcessor extends AbstractMapperAdvisingBeanPostProcessor {
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param threshold the minimum duration of invocations that are recorded
+     */
+    public MapperInvocationEventBeanPostProcessor(Duration threshold) {
+        this.advisor = new DefaultPointcutAdvisor(new MapperInvocationEventInterceptor(threshold.toNanos()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * Emits a {@link MapperInvocationEvent} for every mapper method invocation that takes at least the threshold.
+ *
+ * <p>When no recording has the event enabled, the per-call cost is the check of {@link MapperInvocationEvent#isEnabled()},
+ * which the JIT compiler reduces to a constant. Otherwise, faster calls cost two {@link System#nanoTime()} reads;
+ * only slower calls resolve their mapper type and commit an event.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class MapperInvocationEventInterceptor implements MethodInterceptor {
+
+    private final long thresholdNanos;
+
+    MapperInvocationEventInterceptor(long thresholdNanos) {
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MapperInvocationEvent event = new MapperInvocationEvent();
+        if (!event.isEnabled() || invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            return invocation.proceed();
+        } finally {
+            event.end();
+            if (System.nanoTime() - start >= thresholdNanos && event.shouldCommit()) {
+                Object[] arguments = invocation.getArguments();
+                event.mapper = MapperTypes.primaryMapperType(AopUtils.getTargetClass(invocation.getThis())).getName();
+                event.method = invocation.getMethod().getName();
+                event.sourceType = arguments.length > 0 && arguments[0] != null ? arguments[0].getClass().getName() : null;
+                event.commit();
+            }
+        }
+    }
+}
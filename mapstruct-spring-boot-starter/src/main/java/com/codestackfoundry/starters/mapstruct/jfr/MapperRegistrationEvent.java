@@ -0,0 +1,49 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for registering the discovered mapper implementations as bean definitions.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar
+ */
+@Name("com.codestackfoundry.mapstruct.MapperRegistration")
+@Label("Mapper Registration")
+@Category({"MapStruct", "Startup"})
+@Description("Registration of the discovered mapper implementations as bean definitions")
+@StackTrace(false)
+public final class MapperRegistrationEvent extends AbstractMapStructEvent {
+
+    @Label("Registered")
+    int registered;
+
+    @Label("Skipped Duplicates")
+    int skipped;
+
+    @Label("Early Scan")
+    @Description("Whether the mappers were discovered by the early background scan")
+    boolean earlyScan;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param registered the number of mappers registered
+     * @param skipped    the number of mappers skipped because a bean of the same name existed
+     * @param earlyScan  whether the mappers were discovered by the early background scan
+     */
+    public void complete(int registered, int skipped, boolean earlyScan) {
+        end();
+        if (shouldCommit()) {
+            this.registered = registered;
+            this.skipped = skipped;
+            this.earlyScan = earlyScan;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.codestackfoundry.starters.mapstruct.jpa;
+
+import com.codestackfoundry.starters.mapstruct.aop.AbstractMapperAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Wraps every registered mapper bean so that the SQL statements executed during its invocations are counted
+ * and reported to the {@link MapperQueryMonitor}.
+ *
+ * <p>Only registered when {@code mapstruct.jpa.query-detection=true}; statements are only seen when the
+ * {@link MapperStatementInspector} is installed in Hibernate.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructJpaAutoConfiguration
+ */
+public class MapperQueryCountingBeanPostProcessor extends AbstractMapperAdvisingBeanPostProcessor {
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param monitor provider of the monitor that receives the statement counts
+     */
+    public MapperQueryCountingBeanPostProcessor(ObjectProvider<MapperQueryMonitor> monitor) {
+        this.advisor = new DefaultPointcutAdvisor(new MapperQueryCountingInterceptor(monitor));
+    }
+}
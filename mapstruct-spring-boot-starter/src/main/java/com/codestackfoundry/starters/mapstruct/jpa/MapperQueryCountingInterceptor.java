@@ -0,0 +1,77 @@
+package com.codestackfoundry.starters.mapstruct.jpa;
+
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+
+/**
+ * Counts the SQL statements {@link MapperStatementInspector} sees on the invoking thread while a mapper
+ * method runs.
+ *
+ * <p>Statements of nested mapper invocations count towards the outer invocation as well.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class MapperQueryCountingInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<long[]> STATEMENTS = new ThreadLocal<>();
+
+    private final ObjectProvider<MapperQueryMonitor> monitorProvider;
+
+    private volatile MapperQueryMonitor monitor;
+
+    MapperQueryCountingInterceptor(ObjectProvider<MapperQueryMonitor> monitorProvider) {
+        this.monitorProvider = monitorProvider;
+    }
+
+    /**
+     * Counts a statement towards the mapper invocations running on the current thread, if any.
+     */
+    static void statementExecuted() {
+        long[] statements = STATEMENTS.get();
+        if (statements != null) {
+            statements[0]++;
+        }
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        long[] statements = STATEMENTS.get();
+        boolean outermost = statements == null;
+        if (outermost) {
+            statements = new long[1];
+            STATEMENTS.set(statements);
+        }
+        long before = statements[0];
+        try {
+            return invocation.proceed();
+        } finally {
+            long executed = statements[0] - before;
+            if (outermost) {
+                STATEMENTS.remove();
+            }
+            MapperQueryMonitor monitor = monitor();
+            if (monitor != null) {
+                monitor.record(MapperTypes.primaryMapperType(AopUtils.getTargetClass(invocation.getThis())),
+                        method.getName(), executed);
+            }
+        }
+    }
+
+    private MapperQueryMonitor monitor() {
+        MapperQueryMonitor monitor = this.monitor;
+        if (monitor == null) {
+            monitor = monitorProvider.getIfAvailable();
+            this.monitor = monitor;
+        }
+        return monitor;
+    }
+}
@@ -0,0 +1,112 @@
+package com.codestackfoundry.starters.mapstruct.jpa;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the SQL statement counts of mapper invocations and flags the methods that execute more statements
+ * per invocation than {@code mapstruct.jpa.query-threshold}.
+ *
+ * <p>A mapper method that executes SQL almost always walks a lazy association of a managed entity; mapping a
+ * list of such entities then issues one query per element (N+1). The first invocation over the threshold, and
+ * every later one that sets a new maximum, is logged as a warning.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperStatementInspector
+ */
+public class MapperQueryMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperQueryMonitor.class);
+
+    private final int threshold;
+
+    private final Map<String, MapperQueryStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final List<Consumer<MapperQueryStatistics>> listeners = new ArrayList<>();
+
+    /**
+     * Creates a monitor.
+     *
+     * @param threshold the number of statements per invocation above which a method is flagged
+     */
+    public MapperQueryMonitor(int threshold) {
+        this.threshold = threshold;
+    }
+
+    void record(Class<?> mapperType, String methodName, long statements) {
+        MapperQueryStatistics methodStatistics = statistics.get(mapperType.getName() + "#" + methodName);
+        if (methodStatistics == null) {
+            methodStatistics = create(mapperType, methodName);
+        }
+        boolean exceeded = statements > threshold;
+        if (methodStatistics.record(statements, exceeded) && exceeded) {
+            log.warn("{}.{} executed {} SQL statements in a single invocation (threshold {}); it probably "
+                            + "initializes lazy associations while mapping. Fetch them with the query instead.",
+                    mapperType.getName(), methodName, statements, threshold);
+        }
+    }
+
+    private MapperQueryStatistics create(Class<?> mapperType, String methodName) {
+        String name = mapperType.getName() + "#" + methodName;
+        synchronized (listeners) {
+            MapperQueryStatistics methodStatistics = statistics.get(name);
+            if (methodStatistics == null) {
+                methodStatistics = new MapperQueryStatistics(mapperType, methodName);
+                statistics.put(name, methodStatistics);
+                for (Consumer<MapperQueryStatistics> listener : listeners) {
+                    listener.accept(methodStatistics);
+                }
+            }
+            return methodStatistics;
+        }
+    }
+
+    /**
+     * Registers a listener called for the statistics of every mapper method, including those already monitored.
+     *
+     * @param listener the listener
+     */
+    public void onStatisticsCreated(Consumer<MapperQueryStatistics> listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            statistics.values().forEach(listener);
+        }
+    }
+
+    /**
+     * Returns the statistics of every mapper method invoked so far.
+     *
+     * @return the statistics
+     */
+    public Collection<MapperQueryStatistics> getStatistics() {
+        return List.copyOf(statistics.values());
+    }
+
+    /**
+     * Returns the statistics of the given mapper method.
+     *
+     * @param mapperType the {@code @Mapper} type
+     * @param methodName the method name
+     * @return the statistics, or {@code null} if the method has not been invoked
+     */
+    public MapperQueryStatistics getStatistics(Class<?> mapperType, String methodName) {
+        return statistics.get(mapperType.getName() + "#" + methodName);
+    }
+
+    /**
+     * Returns the number of statements per invocation above which a method is flagged.
+     *
+     * @return the threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+}
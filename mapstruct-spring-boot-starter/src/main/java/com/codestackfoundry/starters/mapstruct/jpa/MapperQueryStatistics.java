@@ -0,0 +1,108 @@
+package com.codestackfoundry.starters.mapstruct.jpa;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The SQL statements executed by the invocations of a single mapper method.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperQueryMonitor
+ */
+public final class MapperQueryStatistics {
+
+    private final Class<?> mapperType;
+
+    private final String methodName;
+
+    private final LongAdder invocations = new LongAdder();
+
+    private final LongAdder statements = new LongAdder();
+
+    private final LongAdder exceeded = new LongAdder();
+
+    private final AtomicLong maxStatements = new AtomicLong();
+
+    MapperQueryStatistics(Class<?> mapperType, String methodName) {
+        this.mapperType = mapperType;
+        this.methodName = methodName;
+    }
+
+    /**
+     * Records one invocation.
+     *
+     * @param statements the statements executed during the invocation
+     * @param exceeded   whether that is more than the threshold
+     * @return {@code true} if no invocation executed as many statements before
+     */
+    boolean record(long statements, boolean exceeded) {
+        this.invocations.increment();
+        this.statements.add(statements);
+        if (exceeded) {
+            this.exceeded.increment();
+        }
+        long max = maxStatements.get();
+        while (statements > max) {
+            if (maxStatements.compareAndSet(max, statements)) {
+                return true;
+            }
+            max = maxStatements.get();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the {@code @Mapper} type declaring the method.
+     *
+     * @return the mapper type
+     */
+    public Class<?> getMapperType() {
+        return mapperType;
+    }
+
+    /**
+     * Returns the name of the mapper method.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Returns the number of monitored invocations.
+     *
+     * @return the invocation count
+     */
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Returns the number of SQL statements executed by all monitored invocations.
+     *
+     * @return the statement count
+     */
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    /**
+     * Returns the most SQL statements a single invocation executed.
+     *
+     * @return the maximum statement count
+     */
+    public long getMaxStatements() {
+        return maxStatements.get();
+    }
+
+    /**
+     * Returns the number of invocations that executed more statements than the threshold.
+     *
+     * @return the count of invocations over the threshold
+     */
+    public long getExceededCount() {
+        return exceeded.sum();
+    }
+}
@@ -0,0 +1,35 @@
+package com.codestackfoundry.starters.mapstruct.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} that counts every SQL statement prepared while a mapper invocation is
+ * running on the same thread.
+ *
+ * <p>The SQL is passed on unchanged, through the inspector that was configured before, if any. Lazy
+ * initializations are seen through the statements they issue; proxies resolved from the second-level cache
+ * execute no SQL and are not counted.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperQueryMonitor
+ */
+public class MapperStatementInspector implements StatementInspector {
+
+    private final StatementInspector delegate;
+
+    /**
+     * Creates an inspector.
+     *
+     * @param delegate the previously configured inspector, or {@code null}
+     */
+    public MapperStatementInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        MapperQueryCountingInterceptor.statementExecuted();
+        return delegate != null ? delegate.inspect(sql) : sql;
+    }
+}
@@ -0,0 +1,49 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import com.codestackfoundry.starters.mapstruct.context.CycleTrackingContext;
+import com.codestackfoundry.starters.mapstruct.context.CycleTrackingStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the usage of {@link CycleTrackingContext}s to Micrometer:
+ * <ul>
+ *     <li>{@code mapstruct.cycle.context.acquisitions} - contexts acquired from the pool</li>
+ *     <li>{@code mapstruct.cycle.context.allocations} - acquisitions the pool could not serve</li>
+ *     <li>{@code mapstruct.cycle.context.graphs} - object graphs mapped with a context</li>
+ *     <li>{@code mapstruct.cycle.context.tracked} - source objects tracked over all graphs</li>
+ *     <li>{@code mapstruct.cycle.context.graph.max} - source objects in the largest graph</li>
+ * </ul>
+ * The mean graph size is {@code tracked / graphs}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public class CycleTrackingContextMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CycleTrackingStatistics statistics = CycleTrackingContext.statistics();
+        FunctionCounter.builder("mapstruct.cycle.context.acquisitions", statistics,
+                        CycleTrackingStatistics::getAcquisitions)
+                .description("Cycle-tracking contexts acquired from the pool")
+                .register(registry);
+        FunctionCounter.builder("mapstruct.cycle.context.allocations", statistics,
+                        CycleTrackingStatistics::getAllocations)
+                .description("Cycle-tracking context acquisitions that had to create a new context")
+                .register(registry);
+        FunctionCounter.builder("mapstruct.cycle.context.graphs", statistics, CycleTrackingStatistics::getGraphs)
+                .description("Object graphs mapped with a cycle-tracking context")
+                .register(registry);
+        FunctionCounter.builder("mapstruct.cycle.context.tracked", statistics,
+                        CycleTrackingStatistics::getTrackedObjects)
+                .description("Source objects tracked by cycle-tracking contexts")
+                .baseUnit("objects")
+                .register(registry);
+        Gauge.builder("mapstruct.cycle.context.graph.max", statistics, CycleTrackingStatistics::getMaxGraphSize)
+                .description("Source objects in the largest graph mapped with a cycle-tracking context")
+                .baseUnit("objects")
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import com.codestackfoundry.starters.mapstruct.batch.MapperBatchExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Exposes the state of a {@link MapperBatchExecutor} to Micrometer.
+ *
+ * <p>Binds the standard {@code executor.*} metrics of its thread pool (tagged {@code name=mapstruct-batch}),
+ * and the following meters:
+ * <ul>
+ *     <li>{@code mapstruct.batch.parallelism} - the maximum number of threads chunks run on</li>
+ *     <li>{@code mapstruct.batch.chunks.queued} - chunks submitted but not yet started</li>
+ *     <li>{@code mapstruct.batch.chunks.active} - chunks currently being mapped</li>
+ *     <li>{@code mapstruct.batch.batches} - batches mapped, tagged {@code mode=sequential|parallel}</li>
+ * </ul>
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public class MapperBatchExecutorMetrics implements MeterBinder {
+
+    private final MapperBatchExecutor executor;
+
+    /**
+     * Creates the binder for the given batch executor.
+     *
+     * @param executor the batch executor
+     */
+    public MapperBatchExecutorMetrics(MapperBatchExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor.getExecutorService(), "mapstruct-batch", Tags.empty()).bindTo(registry);
+        Gauge.builder("mapstruct.batch.parallelism", executor, MapperBatchExecutor::getParallelism)
+                .description("Maximum number of threads the batch executor maps chunks on")
+                .register(registry);
+        Gauge.builder("mapstruct.batch.chunks.queued", executor, MapperBatchExecutor::getQueuedChunks)
+                .description("Chunks submitted to the batch executor but not yet started")
+                .register(registry);
+        Gauge.builder("mapstruct.batch.chunks.active", executor, MapperBatchExecutor::getActiveChunks)
+                .description("Chunks currently being mapped by the batch executor")
+                .register(registry);
+        FunctionCounter.builder("mapstruct.batch.batches", executor, MapperBatchExecutor::getSequentialBatches)
+                .description("Batches mapped by the batch executor")
+                .tag("mode", "sequential")
+                .register(registry);
+        FunctionCounter.builder("mapstruct.batch.batches", executor, MapperBatchExecutor::getParallelBatches)
+                .description("Batches mapped by the batch executor")
+                .tag("mode", "parallel")
+                .register(registry);
+    }
+}
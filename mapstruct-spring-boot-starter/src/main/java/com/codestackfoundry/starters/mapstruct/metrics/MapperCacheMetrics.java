@@ -0,0 +1,61 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import com.codestackfoundry.starters.mapstruct.cache.MapperCacheManager;
+import com.codestackfoundry.starters.mapstruct.cache.MappingCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the statistics of every {@code @CachedMapping} cache to Micrometer.
+ *
+ * <p>Per cache, tagged with {@code mapper} and {@code method}:
+ * <ul>
+ *     <li>{@code mapstruct.mapper.cache.gets} - lookups, tagged {@code result=hit|miss}</li>
+ *     <li>{@code mapstruct.mapper.cache.evictions} - results evicted by size or time to live</li>
+ *     <li>{@code mapstruct.mapper.cache.size} - cached results</li>
+ * </ul>
+ * Caches created after binding are picked up as they are created.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public class MapperCacheMetrics implements MeterBinder {
+
+    private final MapperCacheManager cacheManager;
+
+    /**
+     * Creates the binder for the caches of the given manager.
+     *
+     * @param cacheManager the cache manager
+     */
+    public MapperCacheMetrics(MapperCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cacheManager.onCacheCreated(cache -> bindTo(registry, cache));
+    }
+
+    private static void bindTo(MeterRegistry registry, MappingCache cache) {
+        Tags tags = Tags.of("mapper", cache.getMapperType().getName(), "method", cache.getMethodName());
+        FunctionCounter.builder("mapstruct.mapper.cache.gets", cache, MappingCache::getHitCount)
+                .description("Lookups of a @CachedMapping cache")
+                .tags(tags).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("mapstruct.mapper.cache.gets", cache, MappingCache::getMissCount)
+                .description("Lookups of a @CachedMapping cache")
+                .tags(tags).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("mapstruct.mapper.cache.evictions", cache, MappingCache::getEvictionCount)
+                .description("Results evicted from a @CachedMapping cache by size or time to live")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("mapstruct.mapper.cache.size", cache, MappingCache::size)
+                .description("Results held by a @CachedMapping cache")
+                .tags(tags)
+                .register(registry);
+    }
+}
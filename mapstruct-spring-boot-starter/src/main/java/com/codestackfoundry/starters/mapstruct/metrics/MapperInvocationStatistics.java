@@ -0,0 +1,123 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the per-method statistics recorded by the mapper instrumentation back from the {@link MeterRegistry},
+ * for diagnostics such as the {@code mapstruct} actuator endpoint.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperMetricsBeanPostProcessor
+ */
+public class MapperInvocationStatistics {
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+
+    /**
+     * Creates statistics backed by the given registry.
+     *
+     * @param registryProvider provider of the meter registry the instrumentation records to
+     */
+    public MapperInvocationStatistics(ObjectProvider<MeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    /**
+     * Returns the statistics of every invoked mapper method.
+     *
+     * @return the statistics per method name, per {@code @Mapper} type name, both sorted by name
+     */
+    public Map<String, Map<String, MethodStatistics>> snapshot() {
+        Map<String, Map<String, MethodStatistics>> statistics = new TreeMap<>();
+        MeterRegistry registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            return statistics;
+        }
+        for (Counter counter : registry.find(MapperMetricsInterceptor.INVOCATIONS).counters()) {
+            Timer timer = registry.find(MapperMetricsInterceptor.DURATION).tags(counter.getId().getTags()).timer();
+            DistributionSummary allocated = registry.find(MapperMetricsInterceptor.ALLOCATED)
+                    .tags(counter.getId().getTags()).summary();
+            MethodStatistics method = new MethodStatistics((long) counter.count(),
+                    timer != null ? timer.count() : 0,
+                    timer != null ? timer.mean(TimeUnit.MILLISECONDS) : 0,
+                    timer != null ? timer.max(TimeUnit.MILLISECONDS) : 0,
+                    allocated != null ? allocated.mean() : 0,
+                    allocated != null ? allocated.max() : 0);
+            statistics.computeIfAbsent(counter.getId().getTag("mapper"), mapper -> new TreeMap<>())
+                    .put(counter.getId().getTag("method"), method);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the mapper methods that allocate the most, ranked by their estimated total allocation: the mean
+     * bytes allocated by sampled invocations times the number of invocations.
+     *
+     * <p>Empty unless allocation accounting is enabled with {@code mapstruct.metrics.allocations=true}.
+     *
+     * @param limit the maximum number of methods to return
+     * @return the top allocating methods, highest first
+     */
+    public List<AllocationStatistics> topAllocating(int limit) {
+        List<AllocationStatistics> allocations = new ArrayList<>();
+        MeterRegistry registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            return allocations;
+        }
+        for (DistributionSummary allocated : registry.find(MapperMetricsInterceptor.ALLOCATED).summaries()) {
+            if (allocated.count() == 0) {
+                continue;
+            }
+            Counter counter = registry.find(MapperMetricsInterceptor.INVOCATIONS)
+                    .tags(allocated.getId().getTags()).counter();
+            long invocations = counter != null ? (long) counter.count() : allocated.count();
+            allocations.add(new AllocationStatistics(allocated.getId().getTag("mapper"),
+                    allocated.getId().getTag("method"), invocations, allocated.count(), allocated.mean(),
+                    allocated.max(), allocated.mean() * invocations));
+        }
+        allocations.sort(Comparator.comparingDouble(AllocationStatistics::estimatedTotalBytes).reversed());
+        return allocations.size() > limit ? List.copyOf(allocations.subList(0, limit)) : allocations;
+    }
+
+    /**
+     * The statistics of one mapper method.
+     *
+     * @param invocations      the number of invocations
+     * @param timedInvocations the number of invocations whose duration was sampled
+     * @param meanMillis       the mean duration of the sampled invocations, in milliseconds
+     * @param maxMillis        the maximum duration of recently sampled invocations, in milliseconds
+     * @param meanBytes        the mean heap bytes allocated by sampled invocations, {@code 0} if not recorded
+     * @param maxBytes         the maximum heap bytes allocated by recently sampled invocations, {@code 0} if not
+     *                         recorded
+     */
+    public record MethodStatistics(long invocations, long timedInvocations, double meanMillis, double maxMillis,
+                                   double meanBytes, double maxBytes) {
+    }
+
+    /**
+     * The allocation statistics of one mapper method.
+     *
+     * @param mapper              the {@code @Mapper} type name
+     * @param method              the method name
+     * @param invocations         the number of invocations
+     * @param sampledInvocations  the number of invocations whose allocations were measured
+     * @param meanBytes           the mean heap bytes allocated by a sampled invocation
+     * @param maxBytes            the maximum heap bytes allocated by a recently sampled invocation
+     * @param estimatedTotalBytes the mean bytes times the number of invocations
+     */
+    public record AllocationStatistics(String mapper, String method, long invocations, long sampledInvocations,
+                                       double meanBytes, double maxBytes, double estimatedTotalBytes) {
+    }
+}
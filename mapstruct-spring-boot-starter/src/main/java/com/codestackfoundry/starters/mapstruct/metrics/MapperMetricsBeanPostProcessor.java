@@ -0,0 +1,42 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import com.codestackfoundry.starters.mapstruct.aop.AbstractMapperAdvisingBeanPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Instruments every registered mapper bean with Micrometer meters for its method invocations.
+ *
+ * <p>Only registered when {@code mapstruct.metrics.enabled=true}; when disabled, mappers are not proxied and
+ * invocations carry no overhead at all. The {@link MeterRegistry} is looked up on first invocation, so this
+ * post-processor does not force the registry to be created early.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructMetricsAutoConfiguration
+ */
+public class MapperMetricsBeanPostProcessor extends AbstractMapperAdvisingBeanPostProcessor {
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param registry   provider of the meter registry to record to
+     * @param sampleRate the fraction of invocations, between {@code 0.0} and {@code 1.0}, whose duration is timed
+     */
+    public MapperMetricsBeanPostProcessor(ObjectProvider<MeterRegistry> registry, double sampleRate) {
+        this(registry, sampleRate, false);
+    }
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param registry    provider of the meter registry to record to
+     * @param sampleRate  the fraction of invocations, between {@code 0.0} and {@code 1.0}, that are timed
+     * @param allocations whether the heap bytes allocated by sampled invocations are recorded as well
+     */
+    public MapperMetricsBeanPostProcessor(ObjectProvider<MeterRegistry> registry, double sampleRate,
+                                          boolean allocations) {
+        this.advisor = new DefaultPointcutAdvisor(new MapperMetricsInterceptor(registry, sampleRate, allocations));
+    }
+}
@@ -0,0 +1,164 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records Micrometer meters for every mapper method invocation.
+ *
+ * <p>Per mapper type and method, it records:
+ * <ul>
+ *     <li>{@value #INVOCATIONS}: a counter of every invocation</li>
+ *     <li>{@value #DURATION}: a timer of a sample of the invocations</li>
+ *     <li>{@value #COLLECTION_SIZE}: the size of every collection or array argument</li>
+ *     <li>{@value #ALLOCATED}: the bytes allocated by the sampled invocations, if allocation accounting is on</li>
+ * </ul>
+ *
+ * <p>Meters are created once per mapper class and method and cached, since a method inherited from a shared base
+ * type is the same {@link Method} for every mapper. The per-call cost is two map lookups, a counter increment
+ * and, for sampled calls only, two {@link System#nanoTime()} reads and, with allocation accounting, two reads of
+ * the thread's allocation counter. Allocations are attributed inclusively: whatever the invocation allocates,
+ * including in nested mappers, counts towards it.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class MapperMetricsInterceptor implements MethodInterceptor {
+
+    static final String INVOCATIONS = "mapstruct.mapper.invocations";
+
+    static final String DURATION = "mapstruct.mapper.duration";
+
+    static final String COLLECTION_SIZE = "mapstruct.mapper.collection.size";
+
+    static final String ALLOCATED = "mapstruct.mapper.allocated";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+
+    private final double sampleRate;
+
+    private final ThreadAllocationCounter allocationCounter;
+
+    private final Map<Class<?>, Map<Method, MethodMeters>> meters = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    MapperMetricsInterceptor(ObjectProvider<MeterRegistry> registryProvider, double sampleRate, boolean allocations) {
+        this.registryProvider = registryProvider;
+        this.sampleRate = sampleRate;
+        this.allocationCounter = allocations ? ThreadAllocationCounter.create() : null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+        Map<Method, MethodMeters> classMeters = meters.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        MethodMeters methodMeters = classMeters.get(method);
+        if (methodMeters == null) {
+            MeterRegistry meterRegistry = registry();
+            if (meterRegistry == null) {
+                return invocation.proceed();
+            }
+            methodMeters = classMeters.computeIfAbsent(method, key -> MethodMeters.create(meterRegistry,
+                    targetClass, key, allocationCounter != null));
+        }
+
+        methodMeters.invocations().increment();
+        for (Object argument : invocation.getArguments()) {
+            int size = sizeOf(argument);
+            if (size >= 0) {
+                methodMeters.collectionSize().record(size);
+            }
+        }
+
+        if (!isSampled()) {
+            return invocation.proceed();
+        }
+        ThreadAllocationCounter allocationCounter = this.allocationCounter;
+        long allocatedBefore = allocationCounter != null ? allocationCounter.allocatedBytes() : -1;
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long duration = System.nanoTime() - start;
+            long allocatedAfter = allocatedBefore >= 0 ? allocationCounter.allocatedBytes() : -1;
+            methodMeters.duration().record(duration, TimeUnit.NANOSECONDS);
+            if (allocatedAfter >= allocatedBefore && allocatedBefore >= 0) {
+                methodMeters.allocated().record(allocatedAfter - allocatedBefore);
+            }
+        }
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry meterRegistry = this.registry;
+        if (meterRegistry == null) {
+            meterRegistry = registryProvider.getIfAvailable();
+            this.registry = meterRegistry;
+        }
+        return meterRegistry;
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static int sizeOf(Object argument) {
+        if (argument instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (argument != null && argument.getClass().isArray()) {
+            return Array.getLength(argument);
+        }
+        return -1;
+    }
+
+    /**
+     * The meters of a single mapper method.
+     */
+    private record MethodMeters(Counter invocations, Timer duration, DistributionSummary collectionSize,
+                                DistributionSummary allocated) {
+
+        static MethodMeters create(MeterRegistry registry, Class<?> implClass, Method method, boolean allocations) {
+            Tags tags = Tags.of("mapper", MapperTypes.primaryMapperType(implClass).getName(), "method", method.getName());
+            return new MethodMeters(
+                    Counter.builder(INVOCATIONS)
+                            .description("Number of mapper method invocations")
+                            .tags(tags)
+                            .register(registry),
+                    Timer.builder(DURATION)
+                            .description("Duration of sampled mapper method invocations")
+                            .tags(tags)
+                            .register(registry),
+                    DistributionSummary.builder(COLLECTION_SIZE)
+                            .description("Size of collection and array arguments passed to mapper methods")
+                            .tags(tags)
+                            .register(registry),
+                    allocations
+                            ? DistributionSummary.builder(ALLOCATED)
+                                    .description("Heap bytes allocated by sampled mapper method invocations")
+                                    .baseUnit("bytes")
+                                    .tags(tags)
+                                    .register(registry)
+                            : null);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import com.codestackfoundry.starters.mapstruct.jpa.MapperQueryMonitor;
+import com.codestackfoundry.starters.mapstruct.jpa.MapperQueryStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the SQL statement counts of mapper invocations to Micrometer.
+ *
+ * <p>Per mapper method, tagged with {@code mapper} and {@code method}:
+ * <ul>
+ *     <li>{@code mapstruct.mapper.queries} - SQL statements executed during invocations</li>
+ *     <li>{@code mapstruct.mapper.queries.exceeded} - invocations that executed more statements than the
+ *     threshold</li>
+ *     <li>{@code mapstruct.mapper.queries.max} - the most statements a single invocation executed</li>
+ * </ul>
+ * Methods invoked after binding are picked up on their first invocation.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public class MapperQueryMetrics implements MeterBinder {
+
+    private final MapperQueryMonitor monitor;
+
+    /**
+     * Creates the binder for the statistics of the given monitor.
+     *
+     * @param monitor the query monitor
+     */
+    public MapperQueryMetrics(MapperQueryMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        monitor.onStatisticsCreated(statistics -> bindTo(registry, statistics));
+    }
+
+    private static void bindTo(MeterRegistry registry, MapperQueryStatistics statistics) {
+        Tags tags = Tags.of("mapper", statistics.getMapperType().getName(), "method", statistics.getMethodName());
+        FunctionCounter.builder("mapstruct.mapper.queries", statistics, MapperQueryStatistics::getStatements)
+                .description("SQL statements executed during mapper method invocations")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("mapstruct.mapper.queries.exceeded", statistics,
+                        MapperQueryStatistics::getExceededCount)
+                .description("Mapper method invocations that executed more SQL statements than the threshold")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("mapstruct.mapper.queries.max", statistics, MapperQueryStatistics::getMaxStatements)
+                .description("Most SQL statements executed by a single mapper method invocation")
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.codestackfoundry.starters.mapstruct.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes the current thread has allocated on the heap so far, through the HotSpot extension
+ * of {@link ThreadMXBean}.
+ *
+ * <p>The counter is maintained by the JVM anyway, so reading it costs about as much as a {@link System#nanoTime()}
+ * call and allocates nothing. The difference of two readings on the same thread is what that thread allocated
+ * in between, including objects that have already become garbage.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class ThreadAllocationCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadAllocationCounter.class);
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private ThreadAllocationCounter(com.sun.management.ThreadMXBean threadMXBean) {
+        this.threadMXBean = threadMXBean;
+    }
+
+    /**
+     * Creates a counter, enabling per-thread allocation accounting in the JVM if it is switched off.
+     *
+     * @return the counter, or {@code null} if the JVM does not support per-thread allocation accounting
+     */
+    static ThreadAllocationCounter create() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemorySupported()) {
+                if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return new ThreadAllocationCounter(threadMXBean);
+            }
+        } catch (LinkageError | RuntimeException ex) {
+            log.debug("Unable to access per-thread allocation accounting", ex);
+        }
+        log.warn("This JVM does not support per-thread allocation accounting; "
+                + "mapper allocations will not be recorded");
+        return null;
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far.
+     *
+     * @return the allocated bytes, or {@code -1} if accounting has been disabled in the meantime
+     */
+    long allocatedBytes() {
+        return threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+}
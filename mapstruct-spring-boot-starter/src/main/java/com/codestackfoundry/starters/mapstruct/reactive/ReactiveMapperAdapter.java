@@ -0,0 +1,140 @@
+package com.codestackfoundry.starters.mapstruct.reactive;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Maps {@link Flux} and {@link Stream} sources with mapper methods in micro-batches on a bounded parallel scheduler.
+ *
+ * <p>Typical use with a registered mapper:
+ * <pre>{@code
+ * Flux<UserDTO> dtos = userRepository.findAll().transform(reactiveMappers.adapt(userMapper::toDto));
+ * Flux<UserDTO> dtos = reactiveMappers.mapStream(userRepository.streamAll(), userMapper::toDto);
+ * }</pre>
+ *
+ * <p>Elements are collected into batches of {@code mapstruct.reactive.batch-size}, and each batch is mapped by a
+ * single task on a dedicated parallel scheduler, so scheduler hops are paid per batch instead of per element.
+ * A batch that is not full after {@code max-batch-delay} is mapped as it is, so a slow source never holds back
+ * the elements it has already emitted for longer than that.
+ * At most {@code parallelism} batches are mapped at a time, and the output keeps the input order. Demand is
+ * propagated upstream in batches, so a slow subscriber slows the source down instead of filling buffers, and
+ * {@code Stream} sources are pulled {@code prefetch} elements at a time. Memory use therefore stays flat however
+ * large the result set is.
+ *
+ * <p>Batches are mapped on scheduler threads, so the mapper method must be safe to call concurrently and its
+ * sources must be safe to read from other threads. A generated mapper is stateless, but it reads whatever its
+ * sources expose: JPA entities still attached to a persistence context must not be passed in when mapping can reach
+ * an uninitialized lazy association, since initializing it would use an {@code EntityManager} that is not
+ * thread-safe and is bound to another thread. Fetch the associations the mapper reads with the query (for example
+ * with a {@code join fetch}) or map detached or fully initialized entities.
+ *
+ * <p>Reactive Streams do not allow {@code null} elements, so a mapper method returning {@code null} drops that
+ * element from the output instead of failing the stream.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapStructProperties.Reactive
+ */
+public class ReactiveMapperAdapter implements AutoCloseable {
+
+    private final int batchSize;
+
+    private final Duration maxBatchDelay;
+
+    private final int parallelism;
+
+    private final int prefetch;
+
+    private final Scheduler scheduler;
+
+    /**
+     * Creates an adapter with the given settings.
+     *
+     * @param settings the {@code mapstruct.reactive} settings
+     */
+    public ReactiveMapperAdapter(MapStructProperties.Reactive settings) {
+        Assert.isTrue(settings.getBatchSize() > 0, "mapstruct.reactive.batch-size must be at least 1");
+        Assert.isTrue(settings.getMaxBatchDelay() != null && settings.getMaxBatchDelay().toNanos() > 0,
+                "mapstruct.reactive.max-batch-delay must be positive");
+        Assert.isTrue(settings.getParallelism() > 0, "mapstruct.reactive.parallelism must be at least 1");
+        Assert.isTrue(settings.getPrefetch() > 0, "mapstruct.reactive.prefetch must be at least 1");
+        this.batchSize = settings.getBatchSize();
+        this.maxBatchDelay = settings.getMaxBatchDelay();
+        this.parallelism = settings.getParallelism();
+        this.prefetch = settings.getPrefetch();
+        this.scheduler = Schedulers.newParallel("mapstruct-reactive", parallelism, true);
+    }
+
+    /**
+     * Wraps a mapper method as a {@link Flux} transformation, for use with {@link Flux#transform(Function)}.
+     *
+     * @param mapper the mapper method, e.g. {@code userMapper::toDto}
+     * @param <S>    the source type
+     * @param <T>    the target type
+     * @return the transformation
+     */
+    public <S, T> Function<Flux<S>, Flux<T>> adapt(Function<? super S, ? extends T> mapper) {
+        return source -> map(source, mapper);
+    }
+
+    /**
+     * Maps every element of the given publisher with the given mapper method.
+     *
+     * @param source the elements to map
+     * @param mapper the mapper method
+     * @param <S>    the source type
+     * @param <T>    the target type
+     * @return the mapped elements, in source order, without {@code null} results
+     */
+    public <S, T> Flux<T> map(Publisher<? extends S> source, Function<? super S, ? extends T> mapper) {
+        return Flux.<S>from(source)
+                .bufferTimeout(batchSize, maxBatchDelay, true)
+                .flatMapSequential(batch -> Mono.fromCallable(() -> mapBatch(batch, mapper)).subscribeOn(scheduler),
+                        parallelism, 1)
+                .flatMapIterable(Function.identity(), 1);
+    }
+
+    /**
+     * Maps every element of the given stream with the given mapper method, pulling at most {@code prefetch}
+     * elements from the stream at a time. The stream is closed when the result completes, fails or is cancelled.
+     *
+     * @param source the elements to map
+     * @param mapper the mapper method
+     * @param <S>    the source type
+     * @param <T>    the target type
+     * @return the mapped elements, in stream order, without {@code null} results
+     */
+    public <S, T> Flux<T> mapStream(Stream<? extends S> source, Function<? super S, ? extends T> mapper) {
+        return map(Flux.<S>fromStream(source).limitRate(prefetch), mapper);
+    }
+
+    private static <S, T> List<T> mapBatch(List<S> batch, Function<? super S, ? extends T> mapper) {
+        List<T> results = new ArrayList<>(batch.size());
+        for (S source : batch) {
+            T result = mapper.apply(source);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Disposes the mapping scheduler.
+     */
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
+}
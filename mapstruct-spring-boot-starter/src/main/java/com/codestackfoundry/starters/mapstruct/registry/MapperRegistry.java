@@ -0,0 +1,436 @@
+package com.codestackfoundry.starters.mapstruct.registry;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import org.mapstruct.factory.Mappers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Dispatches {@code map(source, TargetType.class)} calls to the mapper method that converts the source's type
+ * to the requested target type, for infrastructure code that cannot inject each mapper by type.
+ *
+ * <p>Registered by {@link MapStructImplRegistrar} unless {@code mapstruct.registry.enabled=false}. Once all
+ * singletons are instantiated, every public single-argument method of every registered mapper is indexed by its
+ * {@code (sourceType, targetType)} pair, with type variables resolved against the mapper, and turned into a
+ * {@link MethodHandle} once. A call is then a lookup of the source's runtime class, a lookup of the target type
+ * and a direct handle invocation. Sources are also matched by their supertypes, the most specific match winning.
+ *
+ * <p>Methods converting collections, maps or streams are not indexed; use {@link #mapAll(Iterable, Class)}
+ * instead. Pairs converted by more than one method are reported at startup and fail when called, or fail the
+ * startup itself with {@code mapstruct.registry.fail-on-ambiguity=true}.
+ *
+ * <p>Handles invoke the mapper beans, so any advice applied to them (metrics, caching) still applies. Mapper
+ * beans are only looked up on their first call, which keeps lazily registered mappers lazy.
+ *
+ * <p>{@link #getMapper(Class)} gives code that still uses {@code Mappers.getMapper(...)} a static way to reach
+ * the mapper beans of the running application, scoped by class loader.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public class MapperRegistry implements BeanFactoryAware, SmartInitializingSingleton, DisposableBean {
+
+    /**
+     * Name under which the registry bean is registered.
+     */
+    public static final String BEAN_NAME = "mapperRegistry";
+
+    private static final Logger log = LoggerFactory.getLogger(MapperRegistry.class);
+
+    private static final MethodType ROUTE_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    /**
+     * The registry of the application context started last, per bean class loader of that context.
+     */
+    private static final Map<ClassLoader, MapperRegistry> CURRENT = new ConcurrentHashMap<>();
+
+    private final boolean failOnAmbiguity;
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    private ClassLoader classLoader;
+
+    private volatile Index index;
+
+    /**
+     * Creates a registry.
+     *
+     * @param failOnAmbiguity whether ambiguous source and target type pairs fail the startup
+     */
+    public MapperRegistry(boolean failOnAmbiguity) {
+        this.failOnAmbiguity = failOnAmbiguity;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        if (!(beanFactory instanceof ConfigurableListableBeanFactory listableBeanFactory)) {
+            throw new IllegalStateException("MapperRegistry requires a ConfigurableListableBeanFactory");
+        }
+        this.beanFactory = listableBeanFactory;
+        this.classLoader = listableBeanFactory.getBeanClassLoader();
+    }
+
+    /**
+     * Builds the index, reports ambiguous type pairs and makes this registry the one used by
+     * {@link #getMapper(Class)}.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Index index = index();
+        if (!index.ambiguities.isEmpty()) {
+            String report = index.ambiguities.entrySet().stream()
+                    .map(entry -> "  " + entry.getKey() + ": " + entry.getValue())
+                    .collect(Collectors.joining("\n"));
+            if (failOnAmbiguity) {
+                throw new IllegalStateException("Several mapper methods convert the same types:\n" + report);
+            }
+            log.warn("Several mapper methods convert the same types; MapperRegistry.map(...) fails for them:\n{}", report);
+        }
+        if (classLoader != null) {
+            CURRENT.put(classLoader, this);
+        }
+        log.debug("Indexed {} mapper methods of {} mappers", index.routeCount, index.mappers.size());
+    }
+
+    @Override
+    public void destroy() {
+        if (classLoader != null) {
+            CURRENT.remove(classLoader, this);
+        }
+    }
+
+    /**
+     * Maps the source with the mapper method converting its type to the target type.
+     *
+     * @param source     the object to map, may be {@code null}
+     * @param targetType the type to map to; a primitive type is matched by its wrapper type
+     * @param <T>        the target type
+     * @return the mapped object, or {@code null} for a {@code null} source
+     * @throws IllegalStateException if no mapper method, or more than one, converts the source's type to the
+     *                               target type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T map(Object source, Class<T> targetType) {
+        if (source == null) {
+            return null;
+        }
+        Class<?> boxedTargetType = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+        Route route = index().routes.get(source.getClass()).get(boxedTargetType);
+        if (route == null) {
+            throw new IllegalStateException("No mapper method maps " + source.getClass().getName()
+                    + " to " + targetType.getName());
+        }
+        return (T) boxedTargetType.cast(route.invoke(source));
+    }
+
+    /**
+     * Maps every source with the mapper method converting its type to the target type, preserving order.
+     *
+     * @param sources    the objects to map
+     * @param targetType the type to map each of them to
+     * @param <T>        the target type
+     * @return the mapped objects
+     * @throws IllegalStateException if a source cannot be mapped to the target type
+     */
+    public <T> List<T> mapAll(Iterable<?> sources, Class<T> targetType) {
+        List<T> targets = sources instanceof Collection<?> collection
+                ? new ArrayList<>(collection.size())
+                : new ArrayList<>();
+        for (Object source : sources) {
+            targets.add(map(source, targetType));
+        }
+        return targets;
+    }
+
+    /**
+     * Returns whether exactly one mapper method converts the source type, or one of its supertypes, to the
+     * target type.
+     *
+     * @param sourceType the type to map from
+     * @param targetType the type to map to
+     * @return {@code true} if {@link #map(Object, Class)} can map instances of the source type
+     */
+    public boolean canMap(Class<?> sourceType, Class<?> targetType) {
+        Route route = index().routes.get(ClassUtils.resolvePrimitiveIfNecessary(sourceType))
+                .get(ClassUtils.resolvePrimitiveIfNecessary(targetType));
+        return route != null && route.candidates == null;
+    }
+
+    /**
+     * Returns the mapper method used to convert the source type to the target type.
+     *
+     * @param sourceType the type to map from
+     * @param targetType the type to map to
+     * @return the mapper method, empty if none or more than one converts the types
+     */
+    public Optional<Method> findMethod(Class<?> sourceType, Class<?> targetType) {
+        Route route = index().routes.get(ClassUtils.resolvePrimitiveIfNecessary(sourceType))
+                .get(ClassUtils.resolvePrimitiveIfNecessary(targetType));
+        return route != null && route.candidates == null ? Optional.of(route.method) : Optional.empty();
+    }
+
+    /**
+     * Returns every source and target type pair converted by exactly one mapper method.
+     *
+     * @return the declared type pairs
+     */
+    public Set<ConvertiblePair> getTypePairs() {
+        Set<ConvertiblePair> pairs = new LinkedHashSet<>();
+        index().declaredRoutes.forEach((sourceType, byTarget) -> byTarget.forEach((targetType, route) -> {
+            if (route.candidates == null) {
+                pairs.add(new ConvertiblePair(sourceType, targetType));
+            }
+        }));
+        return pairs;
+    }
+
+    /**
+     * Returns the mapper bean of the given {@code @Mapper} type from the running application, for code that
+     * cannot use dependency injection.
+     *
+     * <p>The registry is looked up by the class loader of the mapper type and then its parents, so applications
+     * deployed side by side with their own class loaders each get their own mapper beans. Several application
+     * contexts sharing a class loader, such as parent and child contexts or tests, share one slot: the context
+     * started last wins until it is closed, after which the fallback applies even if an earlier context is still
+     * running. Inject the mapper, or {@link MapperRegistry} itself, wherever more than one context may be running.
+     *
+     * <p>Before the application context has started, or if the type is not a registered mapper, this falls back
+     * to {@link Mappers#getMapper(Class)}, which creates a new, unmanaged instance.
+     *
+     * @param mapperType the {@code @Mapper} type
+     * @param <T>        the mapper type
+     * @return the mapper
+     */
+    public static <T> T getMapper(Class<T> mapperType) {
+        for (ClassLoader loader = mapperType.getClassLoader(); loader != null; loader = loader.getParent()) {
+            MapperRegistry registry = CURRENT.get(loader);
+            MapperBean mapper = registry != null ? registry.index().mappers.get(mapperType) : null;
+            if (mapper != null) {
+                return mapperType.cast(mapper.get());
+            }
+        }
+        return Mappers.getMapper(mapperType);
+    }
+
+    private Index index() {
+        Index index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    index = new Index(beanFactory);
+                    this.index = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The mapper beans and their methods, indexed by type.
+     */
+    private static final class Index {
+
+        private final Map<Class<?>, MapperBean> mappers = new HashMap<>();
+
+        private final Map<Class<?>, Map<Class<?>, Route>> declaredRoutes = new HashMap<>();
+
+        private final Map<String, List<String>> ambiguities = new LinkedHashMap<>();
+
+        private int routeCount;
+
+        /**
+         * Routes available to each source class, including those declared for its supertypes.
+         */
+        private final ClassValue<Map<Class<?>, Route>> routes = new ClassValue<>() {
+            @Override
+            protected Map<Class<?>, Route> computeValue(Class<?> sourceClass) {
+                Map<Class<?>, Route> routes = new HashMap<>();
+                for (Class<?> type = sourceClass; type != null; type = type.getSuperclass()) {
+                    declaredRoutes.getOrDefault(type, Map.of()).forEach(routes::putIfAbsent);
+                }
+                for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(sourceClass)) {
+                    declaredRoutes.getOrDefault(type, Map.of()).forEach(routes::putIfAbsent);
+                }
+                return routes;
+            }
+        };
+
+        private Index(ConfigurableListableBeanFactory beanFactory) {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                if (!Boolean.TRUE.equals(beanFactory.getMergedBeanDefinition(beanName)
+                        .getAttribute(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE))) {
+                    continue;
+                }
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType == null) {
+                    continue;
+                }
+                Class<?> implClass = ClassUtils.getUserClass(beanType);
+                MapperBean mapper = new MapperBean(beanFactory, beanName);
+                mappers.put(implClass, mapper);
+                for (Class<?> mapperType : MapperTypes.findMapperTypes(implClass)) {
+                    mappers.put(mapperType, mapper);
+                }
+                indexMethods(MapperTypes.primaryMapperType(implClass), mapper);
+            }
+        }
+
+        private void indexMethods(Class<?> mapperType, MapperBean mapper) {
+            Map<List<Object>, Method> methods = new LinkedHashMap<>();
+            for (Method method : mapperType.getMethods()) {
+                if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())
+                        || method.isBridge() || method.getParameterCount() != 1) {
+                    continue;
+                }
+                Class<?> sourceType = resolve(ResolvableType.forMethodParameter(method, 0, mapperType));
+                Class<?> targetType = resolve(ResolvableType.forMethodReturnType(method, mapperType));
+                if (sourceType == null || targetType == null) {
+                    continue;
+                }
+                // a generic method and its resolved override convert the same types; keep the override
+                methods.merge(List.of(method.getName(), sourceType, targetType), method, (existing, candidate) ->
+                        candidate.getParameterTypes()[0] == sourceType ? candidate : existing);
+            }
+            methods.forEach((key, method) -> addRoute((Class<?>) key.get(1), (Class<?>) key.get(2), method, mapper));
+        }
+
+        private void addRoute(Class<?> sourceType, Class<?> targetType, Method method, MapperBean mapper) {
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflect(method)
+                        .asType(ROUTE_TYPE);
+            } catch (IllegalAccessException e) {
+                log.debug("Not indexing inaccessible mapper method {}: {}", method, e.getMessage());
+                return;
+            }
+            Map<Class<?>, Route> byTarget = declaredRoutes.computeIfAbsent(sourceType, type -> new HashMap<>());
+            Route existing = byTarget.get(targetType);
+            Route route = new Route(mapper, method, handle);
+            if (existing != null) {
+                List<String> candidates = new ArrayList<>(existing.candidates != null
+                        ? existing.candidates
+                        : List.of(describe(existing.method)));
+                candidates.add(describe(method));
+                route = new Route(candidates);
+                ambiguities.put(sourceType.getName() + " -> " + targetType.getName(), candidates);
+            } else {
+                routeCount++;
+            }
+            byTarget.put(targetType, route);
+        }
+
+        /**
+         * Resolves a method's source or target type, or returns {@code null} for types that are not indexed:
+         * unresolvable type variables, {@code void}, and collections, maps and streams.
+         */
+        private static Class<?> resolve(ResolvableType type) {
+            Class<?> resolved = type.resolve();
+            if (resolved == null || resolved == Object.class || resolved == void.class
+                    || Iterable.class.isAssignableFrom(resolved) || Map.class.isAssignableFrom(resolved)
+                    || Stream.class.isAssignableFrom(resolved)) {
+                return null;
+            }
+            return ClassUtils.resolvePrimitiveIfNecessary(resolved);
+        }
+
+        private static String describe(Method method) {
+            return method.getDeclaringClass().getName() + "#" + method.getName();
+        }
+    }
+
+    /**
+     * A mapper bean, looked up on first use.
+     */
+    private static final class MapperBean {
+
+        private final BeanFactory beanFactory;
+
+        private final String beanName;
+
+        private volatile Object instance;
+
+        private MapperBean(BeanFactory beanFactory, String beanName) {
+            this.beanFactory = beanFactory;
+            this.beanName = beanName;
+        }
+
+        private Object get() {
+            Object instance = this.instance;
+            if (instance == null) {
+                instance = beanFactory.getBean(beanName);
+                this.instance = instance;
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * The mapper method converting one source type to one target type, or the candidates of an ambiguous pair.
+     */
+    private static final class Route {
+
+        private final MapperBean mapper;
+
+        private final Method method;
+
+        private final MethodHandle handle;
+
+        private final List<String> candidates;
+
+        private Route(MapperBean mapper, Method method, MethodHandle handle) {
+            this.mapper = mapper;
+            this.method = method;
+            this.handle = handle;
+            this.candidates = null;
+        }
+
+        private Route(List<String> candidates) {
+            this.mapper = null;
+            this.method = null;
+            this.handle = null;
+            this.candidates = candidates;
+        }
+
+        private Object invoke(Object source) {
+            if (candidates != null) {
+                throw new IllegalStateException("Several mapper methods map " + source.getClass().getName()
+                        + " to this type: " + candidates);
+            }
+            try {
+                return handle.invokeExact(mapper.get(), source);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Mapper method " + method + " failed", e);
+            }
+        }
+    }
+}
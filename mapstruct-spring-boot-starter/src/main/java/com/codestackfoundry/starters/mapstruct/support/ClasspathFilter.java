@@ -0,0 +1,209 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Restricts which classpath roots and packages a mapper scan reads, before any class file is opened.
+ *
+ * <p>Supported filters:
+ * <ul>
+ *     <li><b>include jars</b>: if set, only jars whose file name matches one of the globs are scanned
+ *         (directories, such as the application's own classes, are always scanned)</li>
+ *     <li><b>exclude jars</b>: jars whose file name matches one of the globs are never scanned</li>
+ *     <li><b>exclude packages</b>: class files in packages matching one of the globs are skipped; globs use
+ *         {@code .} as separator, e.g. {@code com.acme.legacy.**}</li>
+ *     <li><b>marker only</b>: only classpath entries that carry a {@value MapperIndex#INDEX_LOCATION} marker,
+ *         written by the index annotation processor next to generated mappers, are scanned; entries compiled
+ *         without the index processor are skipped even if they contain generated mappers. Since the marker is the
+ *         index itself, this is only useful when the index is not used to skip those entries</li>
+ * </ul>
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperScanUtils
+ */
+public final class ClasspathFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClasspathFilter.class);
+
+    private static final ClasspathFilter NONE = new ClasspathFilter(List.of(), List.of(), List.of(), false);
+
+    private static final PathMatcher JAR_MATCHER = new AntPathMatcher();
+
+    private static final PathMatcher PACKAGE_MATCHER = new AntPathMatcher(".");
+
+    private final List<String> includeJars;
+
+    private final List<String> excludeJars;
+
+    private final List<String> excludePackages;
+
+    private final boolean markerOnly;
+
+    private ClasspathFilter(List<String> includeJars, List<String> excludeJars, List<String> excludePackages,
+                            boolean markerOnly) {
+        this.includeJars = includeJars;
+        this.excludeJars = excludeJars;
+        this.excludePackages = excludePackages;
+        this.markerOnly = markerOnly;
+    }
+
+    /**
+     * Returns a filter that scans everything.
+     *
+     * @return the pass-through filter
+     */
+    public static ClasspathFilter none() {
+        return NONE;
+    }
+
+    /**
+     * Creates a filter from jar and package globs.
+     *
+     * @param includeJars     jar file name globs to restrict scanning to; empty to scan all jars
+     * @param excludeJars     jar file name globs to never scan
+     * @param excludePackages package globs, separated by {@code .}, whose class files are skipped
+     * @param markerOnly      whether to scan only classpath entries carrying a mapper index marker
+     * @return the filter
+     */
+    public static ClasspathFilter of(List<String> includeJars, List<String> excludeJars, List<String> excludePackages,
+                                     boolean markerOnly) {
+        if (includeJars.isEmpty() && excludeJars.isEmpty() && excludePackages.isEmpty() && !markerOnly) {
+            return NONE;
+        }
+        return new ClasspathFilter(List.copyOf(includeJars), List.copyOf(excludeJars), List.copyOf(excludePackages),
+                markerOnly);
+    }
+
+    /**
+     * Returns whether this filter lets every root and class file through.
+     *
+     * @return {@code true} for the pass-through filter
+     */
+    public boolean isNone() {
+        return this == NONE;
+    }
+
+    /**
+     * Drops the classpath roots excluded by jar globs, package globs or the marker requirement.
+     *
+     * @param roots        the classpath roots found for the scan packages
+     * @param scanPackages the packages being scanned
+     * @param classLoader  the class loader used to locate markers
+     * @return the roots to scan
+     */
+    List<Resource> filterRoots(List<Resource> roots, List<String> scanPackages, ClassLoader classLoader) {
+        if (isNone()) {
+            return roots;
+        }
+        Set<String> markedEntries = markerOnly ? findMarkedEntries(classLoader) : Set.of();
+        List<Resource> included = new ArrayList<>(roots.size());
+        for (Resource root : roots) {
+            String rootUrl = url(root);
+            String reason = excludeReason(rootUrl, MapperScanUtils.rootPackage(rootUrl, scanPackages), markedEntries);
+            if (reason == null) {
+                included.add(root);
+            } else {
+                log.debug("Skipping classpath root {}: {}", rootUrl, reason);
+            }
+        }
+        return included;
+    }
+
+    /**
+     * Returns whether a class file below a scanned root is read.
+     *
+     * @param rootPackage  the package of the classpath root
+     * @param relativePath the path of the class file relative to the root
+     * @return {@code true} if the class file is not in an excluded package
+     */
+    boolean includesClassFile(String rootPackage, String relativePath) {
+        if (excludePackages.isEmpty()) {
+            return true;
+        }
+        int lastSlash = relativePath.lastIndexOf('/');
+        String packageName = lastSlash < 0 ? rootPackage
+                : rootPackage + "." + relativePath.substring(0, lastSlash).replace('/', '.');
+        return !matchesExcludedPackage(packageName);
+    }
+
+    private String excludeReason(String rootUrl, String rootPackage, Set<String> markedEntries) {
+        String jarName = jarName(rootUrl);
+        if (jarName != null) {
+            if (!includeJars.isEmpty() && includeJars.stream().noneMatch(glob -> JAR_MATCHER.match(glob, jarName))) {
+                return "jar not matched by mapstruct.scan.include-jars";
+            }
+            if (excludeJars.stream().anyMatch(glob -> JAR_MATCHER.match(glob, jarName))) {
+                return "jar matched by mapstruct.scan.exclude-jars";
+            }
+        }
+        if (rootPackage != null && excludePackages.stream()
+                .anyMatch(glob -> glob.endsWith(".**") && PACKAGE_MATCHER.match(glob, rootPackage))) {
+            return "package matched by mapstruct.scan.exclude-packages";
+        }
+        if (markerOnly && markedEntries.stream().noneMatch(rootUrl::startsWith)) {
+            return "no " + MapperIndex.INDEX_LOCATION + " marker in classpath entry";
+        }
+        return null;
+    }
+
+    private boolean matchesExcludedPackage(String packageName) {
+        return excludePackages.stream().anyMatch(glob -> PACKAGE_MATCHER.match(glob, packageName));
+    }
+
+    /**
+     * Returns the URLs of the classpath entries that contain a mapper index marker, each ending with {@code /}.
+     */
+    private static Set<String> findMarkedEntries(ClassLoader classLoader) {
+        Set<String> entries = new HashSet<>();
+        try {
+            Enumeration<URL> markers = classLoader.getResources(MapperIndex.INDEX_LOCATION);
+            while (markers.hasMoreElements()) {
+                String marker = markers.nextElement().toString();
+                entries.add(marker.substring(0, marker.length() - MapperIndex.INDEX_LOCATION.length()));
+            }
+        } catch (IOException e) {
+            log.warn("Unable to locate MapStruct mapper markers: {}", e.getMessage());
+        }
+        return entries;
+    }
+
+    /**
+     * Extracts the file name of the innermost jar from a root URL such as
+     * {@code jar:file:/app.jar!/BOOT-INF/lib/shared.jar!/com/acme/}, or returns {@code null} for directories.
+     */
+    static String jarName(String rootUrl) {
+        int separator = rootUrl.lastIndexOf("!/");
+        if (separator < 0) {
+            return null;
+        }
+        String archive = rootUrl.substring(0, separator);
+        return archive.substring(archive.lastIndexOf('/') + 1);
+    }
+
+    private static String url(Resource root) {
+        try {
+            return root.getURL().toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to resolve URL of classpath root: " + root, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "include-jars=" + includeJars + ", exclude-jars=" + excludeJars
+                + ", exclude-packages=" + excludePackages + ", marker-only=" + markerOnly;
+    }
+}
@@ -0,0 +1,18 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import java.util.List;
+
+/**
+ * The types read from one classpath root below one scanned package.
+ *
+ * <p>A classpath root is the location of a scanned package inside a single classpath entry,
+ * e.g. {@code file:/app/classes/com/acme/} or {@code jar:file:/app/lib/shared.jar!/com/acme/}.
+ *
+ * @param root      the URL of the package location within the classpath entry
+ * @param types     the class files read below that location
+ * @param scanNanos the time it took to read the class files, in nanoseconds
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+record ClasspathRootScan(String root, List<ScannedType> types, long scanNanos) {
+}
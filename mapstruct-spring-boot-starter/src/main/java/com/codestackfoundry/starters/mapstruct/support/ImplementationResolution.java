@@ -0,0 +1,24 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+/**
+ * Strategy used to find the implementation class of each discovered {@code @Mapper}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperScanOptions#withResolution(ImplementationResolution)
+ */
+public enum ImplementationResolution {
+
+    /**
+     * Computes the implementation name the way MapStruct does ({@code <CLASS_NAME>Impl} in the mapper's package,
+     * or as customized through {@code implementationName} / {@code implementationPackage} on {@code @Mapper} or
+     * its {@code @MapperConfig}) and looks it up directly. Falls back to {@link #SUBTYPES} only for mappers whose
+     * implementation cannot be found under that name. This is the default.
+     */
+    CONVENTION,
+
+    /**
+     * Searches all scanned classes for concrete subtypes of every mapper.
+     */
+    SUBTYPES
+}
@@ -0,0 +1,228 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compile-time index of MapStruct mappers and their generated implementation classes.
+ *
+ * <p>The index is produced by the optional {@code mapstruct-spring-boot-starter-index-processor}
+ * annotation processor, which writes one {@value #INDEX_LOCATION} resource per compiled module.
+ * Each line has the form {@code <mapper interface>=<implementation class>}; blank lines and lines
+ * starting with {@code #} are ignored.
+ *
+ * <p>When an index is available for a base package, mapper implementations can be resolved directly
+ * from it, which avoids walking every class in the package at startup. An index only describes the
+ * classpath entry it was compiled into, so entries of the same package that carry no index still have
+ * to be scanned; see {@link #unindexedLocations(String, ClassLoader)}.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperScanUtils
+ * @see MapperScanResult
+ */
+public final class MapperIndex {
+
+    /**
+     * Location of the index resource written by the index annotation processor.
+     */
+    public static final String INDEX_LOCATION = "META-INF/mapstruct/mappers.idx";
+
+    private static final Logger log = LoggerFactory.getLogger(MapperIndex.class);
+
+    private static final MapperIndex EMPTY = new MapperIndex(Collections.emptyMap(), Collections.emptySet());
+
+    private final Map<String, String> implementationsByMapper;
+
+    /**
+     * URLs of the classpath entries that carry an index, each ending with {@code /}.
+     */
+    private final Set<String> indexedEntries;
+
+    private MapperIndex(Map<String, String> implementationsByMapper, Set<String> indexedEntries) {
+        this.implementationsByMapper = implementationsByMapper;
+        this.indexedEntries = indexedEntries;
+    }
+
+    /**
+     * Returns an index without any entries.
+     *
+     * @return the empty index
+     */
+    public static MapperIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Loads and merges every {@value #INDEX_LOCATION} resource visible to the given class loader.
+     *
+     * <p>Unreadable index resources are logged and skipped, so callers fall back to scanning.
+     *
+     * @param classLoader the class loader used to locate index resources
+     * @return the merged index, or {@link #empty()} if no index resource is present
+     */
+    public static MapperIndex load(ClassLoader classLoader) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        Set<String> indexedEntries = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                try {
+                    read(url, entries);
+                    String location = url.toString();
+                    indexedEntries.add(location.substring(0, location.length() - INDEX_LOCATION.length()));
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable MapStruct mapper index {}: {}", url, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to locate MapStruct mapper index resources: {}", e.getMessage());
+        }
+
+        if (indexedEntries.isEmpty()) {
+            return EMPTY;
+        }
+        log.debug("Loaded {} entries from MapStruct mapper index in {}", entries.size(), indexedEntries);
+        return new MapperIndex(Collections.unmodifiableMap(entries), Collections.unmodifiableSet(indexedEntries));
+    }
+
+    private static void read(URL url, Map<String, String> entries) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int separator = line.indexOf('=');
+                if (line.isEmpty() || line.startsWith("#") || separator <= 0) {
+                    continue;
+                }
+                entries.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+            }
+        }
+    }
+
+    /**
+     * Returns whether the index contains no entries.
+     *
+     * @return {@code true} if the index is empty
+     */
+    public boolean isEmpty() {
+        return implementationsByMapper.isEmpty();
+    }
+
+    /**
+     * Returns whether the index contains at least one mapper located in the given base package
+     * or one of its sub-packages.
+     *
+     * @param basePackage the base package to check
+     * @return {@code true} if the index covers the package
+     */
+    public boolean covers(String basePackage) {
+        return implementationsByMapper.keySet().stream().anyMatch(mapper -> isInPackage(mapper, basePackage));
+    }
+
+    /**
+     * Returns whether the given classpath location lies in a classpath entry that carries an index, so that all
+     * of its mappers are listed in this index.
+     *
+     * @param locationUrl the URL of a location within a classpath entry, such as a package directory
+     * @return {@code true} if the location's classpath entry is indexed
+     */
+    public boolean isIndexed(String locationUrl) {
+        return indexedEntries.stream().anyMatch(locationUrl::startsWith);
+    }
+
+    /**
+     * Returns the locations of the given base package in classpath entries that carry no index. Mappers in
+     * those locations are unknown to this index and have to be found by scanning.
+     *
+     * @param basePackage the base package to locate
+     * @param classLoader the class loader whose classpath is searched
+     * @return the URLs of the package's unindexed locations, empty if the index describes the whole package
+     * @throws IllegalStateException if the classpath cannot be read
+     */
+    public List<String> unindexedLocations(String basePackage, ClassLoader classLoader) {
+        List<String> locations = new ArrayList<>();
+        for (Resource location : MapperScanUtils.findRoots(List.of(basePackage),
+                new PathMatchingResourcePatternResolver(classLoader))) {
+            String url = MapperScanUtils.url(location);
+            if (!isIndexed(url)) {
+                locations.add(url);
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Resolves the implementation classes of all indexed mappers located in the given base package.
+     *
+     * <p>Implementations are checked through their class file metadata, without loading them.
+     * Implementations that cannot be found, or that are not concrete or are annotated with {@code @Component},
+     * are skipped, mirroring the rules applied by {@link MapperScanUtils#findMapperImpls(String, ClassLoader)}.
+     *
+     * @param basePackage the base package whose mappers should be resolved
+     * @param classLoader the class loader used to locate implementation classes
+     * @return a {@link MapperScanResult} containing the names of the resolved implementation classes
+     */
+    public MapperScanResult findMapperImpls(String basePackage, ClassLoader classLoader) {
+        return findMapperImpls(basePackage, classLoader, null);
+    }
+
+    /**
+     * Resolves the implementation classes of all indexed mappers within the given base package, recording
+     * implementations skipped as Spring components into {@code statistics}.
+     *
+     * @param basePackage the base package whose mappers should be resolved
+     * @param classLoader the class loader used to locate implementation classes
+     * @param statistics  the collector of scan statistics, or {@code null}
+     * @return a {@link MapperScanResult} containing the names of the resolved implementation classes
+     */
+    public MapperScanResult findMapperImpls(String basePackage, ClassLoader classLoader,
+                                            MapperScanStatistics statistics) {
+        ScannedTypeReader typeReader = new ScannedTypeReader(classLoader);
+        boolean hasAnyMappers = false;
+        Set<String> mapperImpls = new HashSet<>();
+
+        for (Map.Entry<String, String> entry : implementationsByMapper.entrySet()) {
+            if (!isInPackage(entry.getKey(), basePackage)) {
+                continue;
+            }
+            hasAnyMappers = true;
+            try {
+                ScannedType impl = typeReader.read(entry.getValue());
+                if (impl.concrete() && !impl.component()) {
+                    mapperImpls.add(entry.getValue());
+                } else if (impl.component() && statistics != null) {
+                    statistics.recordComponentImplementation(entry.getValue());
+                }
+            } catch (IOException e) {
+                log.warn("Indexed implementation {} of mapper {} could not be found, skipping it",
+                        entry.getValue(), entry.getKey());
+            }
+        }
+
+        return new MapperScanResult(hasAnyMappers, mapperImpls);
+    }
+
+    private static boolean isInPackage(String className, String basePackage) {
+        return className.startsWith(basePackage + ".");
+    }
+}
@@ -0,0 +1,327 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ResourceUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Persistent, file-based cache of classpath scan results keyed by a fingerprint of each classpath root.
+ *
+ * <p>Restarts with a byte-identical classpath (rolling deploys, autoscaling, devtools restarts) do not need
+ * to read any class file again. Every scanned classpath root is stored together with a fingerprint:
+ * <ul>
+ *     <li>for jar entries, a digest of the name, CRC-32 checksum and size of every class file below the package,
+ *         taken from the jar's central directory without decompressing anything</li>
+ *     <li>for directories, a digest of the relative path, size and modification time of every class file
+ *         below the package</li>
+ * </ul>
+ *
+ * <p>Roots whose fingerprint still matches are served from the cache; only changed or new roots are scanned again.
+ * Cache failures are logged and never fail application startup.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperScanOptions#withCache(MapperScanCache)
+ */
+public final class MapperScanCache {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperScanCache.class);
+
+    /**
+     * First line of every cache file; bump the version whenever the stored type metadata changes, so that
+     * files written by an older starter are discarded instead of misread.
+     */
+    static final String HEADER = "mapstruct-scan-cache 3";
+
+    private final Path directory;
+
+    /**
+     * Creates a cache that stores its files in the given directory.
+     *
+     * @param directory the cache directory; created on first write if missing
+     */
+    public MapperScanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens a cache session for a single scan.
+     *
+     * <p>Each set of scan packages gets its own cache file, holding one entry per classpath root.
+     *
+     * @param scanPackages the collapsed packages being scanned
+     * @return the session used to look up and store scanned roots
+     */
+    Session open(List<String> scanPackages) {
+        Path file = directory.resolve("scan-" + digest(String.join("\n", scanPackages)).substring(0, 16) + ".cache");
+        return new Session(file, read(file));
+    }
+
+    /**
+     * Scan state of a single cache file: the cached entries plus the fingerprints computed for this run.
+     */
+    static final class Session {
+
+        private final Path file;
+
+        private final Map<String, CachedRoot> cached;
+
+        private final Map<String, CachedRoot> current = new LinkedHashMap<>();
+
+        private int hits;
+
+        private int misses;
+
+        private long savedNanos;
+
+        private Session(Path file, Map<String, CachedRoot> cached) {
+            this.file = file;
+            this.cached = cached;
+        }
+
+        /**
+         * Returns the cached scan of the given root if its fingerprint is unchanged.
+         *
+         * @param root the classpath root
+         * @return the cached scan, or {@code null} if the root has to be scanned
+         */
+        ClasspathRootScan get(Resource root) {
+            String url = url(root).toString();
+            String fingerprint = fingerprint(root);
+            CachedRoot entry = cached.get(url);
+            if (fingerprint != null && entry != null && entry.fingerprint().equals(fingerprint)) {
+                hits++;
+                savedNanos += entry.scan().scanNanos();
+                current.put(url, entry);
+                return entry.scan();
+            }
+            misses++;
+            if (fingerprint != null) {
+                current.put(url, new CachedRoot(fingerprint, null));
+            }
+            return null;
+        }
+
+        /**
+         * Stores the fresh scan of a root that was not served from the cache.
+         *
+         * @param scan the fresh scan result
+         */
+        void put(ClasspathRootScan scan) {
+            CachedRoot pending = current.get(scan.root());
+            if (pending != null && pending.scan() == null) {
+                List<ScannedType> relevantTypes = scan.types().stream().filter(MapperScanCache::isRelevant).toList();
+                current.put(scan.root(), new CachedRoot(pending.fingerprint(),
+                        new ClasspathRootScan(scan.root(), relevantTypes, scan.scanNanos())));
+            }
+        }
+
+        /**
+         * Writes the cache file if anything changed and logs the cache statistics.
+         */
+        void save() {
+            log.debug("MapStruct scan cache: {} hits, {} misses, saved ~{} ms of classpath scanning",
+                    hits, misses, savedNanos / 1_000_000);
+            if (misses == 0 && current.keySet().equals(cached.keySet())) {
+                return;
+            }
+            try {
+                write(file, current);
+            } catch (IOException e) {
+                log.warn("Unable to write MapStruct scan cache {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private record CachedRoot(String fingerprint, ClasspathRootScan scan) {
+    }
+
+    /**
+     * Types that are not mappers, carry no implementation naming settings and only extend or implement
+     * JDK types can never take part in a mapper relation, so they are not worth storing.
+     */
+    private static boolean isRelevant(ScannedType type) {
+        return type.mapper() || type.hasNamingSettings() || type.superTypes().stream().anyMatch(superType -> !superType.startsWith("java."));
+    }
+
+    private static Map<String, CachedRoot> read(Path file) {
+        Map<String, CachedRoot> roots = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return roots;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return roots;
+            }
+            String url = null;
+            String fingerprint = null;
+            long scanNanos = 0;
+            List<ScannedType> types = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t", -1);
+                if ("root".equals(parts[0])) {
+                    if (url != null) {
+                        roots.put(url, new CachedRoot(fingerprint, new ClasspathRootScan(url, types, scanNanos)));
+                    }
+                    url = parts[1];
+                    fingerprint = parts[2];
+                    scanNanos = Long.parseLong(parts[3]);
+                    types = new ArrayList<>();
+                } else if ("type".equals(parts[0])) {
+                    types.add(new ScannedType(parts[1], parts[2].charAt(0) == '1', parts[2].charAt(1) == '1',
+                            parts[2].charAt(2) == '1',
+                            parts[3].isEmpty() ? List.of() : Arrays.asList(parts[3].split(",")),
+                            nullIfEmpty(parts[4]), nullIfEmpty(parts[5]), nullIfEmpty(parts[6])));
+                }
+            }
+            if (url != null) {
+                roots.put(url, new CachedRoot(fingerprint, new ClasspathRootScan(url, types, scanNanos)));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable MapStruct scan cache {}: {}", file, e.getMessage());
+            roots.clear();
+        }
+        return roots;
+    }
+
+    private static void write(Path file, Map<String, CachedRoot> roots) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (CachedRoot root : roots.values()) {
+                if (root.scan() == null) {
+                    continue;
+                }
+                writer.write("root\t" + root.scan().root() + "\t" + root.fingerprint() + "\t" + root.scan().scanNanos());
+                writer.newLine();
+                for (ScannedType type : root.scan().types()) {
+                    writer.write("type\t" + type.className() + "\t"
+                            + (type.mapper() ? '1' : '0') + (type.concrete() ? '1' : '0') + (type.component() ? '1' : '0')
+                            + "\t" + String.join(",", type.superTypes())
+                            + "\t" + emptyIfNull(type.implementationName())
+                            + "\t" + emptyIfNull(type.implementationPackage())
+                            + "\t" + emptyIfNull(type.config()));
+                    writer.newLine();
+                }
+            }
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String nullIfEmpty(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String emptyIfNull(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Computes the fingerprint of a classpath root, or returns {@code null} if the root cannot be fingerprinted
+     * (in which case it is always scanned).
+     */
+    private static String fingerprint(Resource root) {
+        try {
+            URL url = url(root);
+            MessageDigest digest = newDigest();
+            if (ResourceUtils.isJarURL(url)) {
+                URLConnection connection = url.openConnection();
+                if (!(connection instanceof JarURLConnection jarConnection)) {
+                    return null;
+                }
+                ResourceUtils.useCachesIfNecessary(jarConnection);
+                JarFile jarFile = jarConnection.getJarFile();
+                String prefix = jarConnection.getEntryName() != null ? jarConnection.getEntryName() : "";
+                try {
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    while (entries.hasMoreElements()) {
+                        JarEntry entry = entries.nextElement();
+                        if (entry.getName().startsWith(prefix) && entry.getName().endsWith(".class")) {
+                            update(digest, entry.getName() + ":" + entry.getCrc() + ":" + entry.getSize());
+                        }
+                    }
+                } finally {
+                    if (!jarConnection.getUseCaches()) {
+                        jarFile.close();
+                    }
+                }
+            } else if (ResourceUtils.isFileURL(url)) {
+                Path rootDirectory = root.getFile().toPath();
+                try (Stream<Path> files = Files.walk(rootDirectory)) {
+                    for (Path path : files.filter(p -> p.toString().endsWith(".class")).sorted().toList()) {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        update(digest, rootDirectory.relativize(path) + ":" + attributes.size() + ":"
+                                + attributes.lastModifiedTime().toMillis());
+                    }
+                }
+            } else {
+                return null;
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            log.debug("Unable to fingerprint classpath root {}: {}", root, e.getMessage());
+            return null;
+        }
+    }
+
+    private static URL url(Resource root) {
+        try {
+            return root.getURL();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to resolve URL of classpath root: " + root, e);
+        }
+    }
+
+    private static String digest(String value) {
+        MessageDigest digest = newDigest();
+        update(digest, value);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
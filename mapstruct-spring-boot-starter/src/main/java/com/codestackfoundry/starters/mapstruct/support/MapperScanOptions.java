@@ -0,0 +1,119 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+/**
+ * Settings of a classpath scan for mapper implementations.
+ *
+ * <p>Start from {@link #defaults()} and override what differs:
+ * <pre>{@code
+ * MapperScanOptions options = MapperScanOptions.defaults()
+ *         .withParallelism(4)
+ *         .withCache(cache);
+ * }</pre>
+ *
+ * @param parallelism the maximum number of threads used to read class files; {@code 1} scans on the calling thread
+ * @param cache       the persistent scan cache to use, or {@code null} to always scan
+ * @param resolution  the strategy used to find the implementation of each mapper
+ * @param filter      the jar and package filters applied before any class file is read
+ * @param statistics  the collector of scan statistics, or {@code null}
+ * @param index       the mapper index; classpath entries that carry one are not scanned
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperScanUtils#findMapperImpls(java.util.Collection, ClassLoader, MapperScanOptions)
+ */
+public record MapperScanOptions(int parallelism,
+                                MapperScanCache cache,
+                                ImplementationResolution resolution,
+                                ClasspathFilter filter,
+                                MapperScanStatistics statistics,
+                                MapperIndex index) {
+
+    private static final MapperScanOptions DEFAULTS =
+            new MapperScanOptions(1, null, ImplementationResolution.CONVENTION, ClasspathFilter.none(), null,
+                    MapperIndex.empty());
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if {@code resolution}, {@code filter} or {@code index} is {@code null}
+     */
+    public MapperScanOptions {
+        if (resolution == null || filter == null || index == null) {
+            throw new IllegalArgumentException("resolution, filter and index must not be null");
+        }
+    }
+
+    /**
+     * Returns the default settings: a sequential, uncached scan resolving implementations by convention,
+     * without filters, statistics or index.
+     *
+     * @return the default options
+     */
+    public static MapperScanOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options with the given parallelism.
+     *
+     * @param parallelism the maximum number of threads used to read class files
+     * @return the new options
+     */
+    public MapperScanOptions withParallelism(int parallelism) {
+        return new MapperScanOptions(parallelism, cache, resolution, filter, statistics, index);
+    }
+
+    /**
+     * Returns a copy of these options with the given persistent scan cache.
+     *
+     * <p>Classpath roots whose fingerprint is unchanged since the result was stored in the cache are not read
+     * again; only new or modified roots are scanned.
+     *
+     * @param cache the persistent scan cache, or {@code null} to always scan
+     * @return the new options
+     */
+    public MapperScanOptions withCache(MapperScanCache cache) {
+        return new MapperScanOptions(parallelism, cache, resolution, filter, statistics, index);
+    }
+
+    /**
+     * Returns a copy of these options with the given implementation resolution strategy.
+     *
+     * @param resolution the strategy used to find the implementation of each mapper
+     * @return the new options
+     */
+    public MapperScanOptions withResolution(ImplementationResolution resolution) {
+        return new MapperScanOptions(parallelism, cache, resolution, filter, statistics, index);
+    }
+
+    /**
+     * Returns a copy of these options with the given jar and package filters.
+     *
+     * @param filter the filters applied before any class file is read
+     * @return the new options
+     */
+    public MapperScanOptions withFilter(ClasspathFilter filter) {
+        return new MapperScanOptions(parallelism, cache, resolution, filter, statistics, index);
+    }
+
+    /**
+     * Returns a copy of these options recording what was scanned into the given collector.
+     *
+     * @param statistics the collector of scan statistics, or {@code null}
+     * @return the new options
+     */
+    public MapperScanOptions withStatistics(MapperScanStatistics statistics) {
+        return new MapperScanOptions(parallelism, cache, resolution, filter, statistics, index);
+    }
+
+    /**
+     * Returns a copy of these options that leaves the classpath entries carrying the given index unscanned,
+     * for callers that resolve those entries from the index instead.
+     *
+     * @param index the mapper index
+     * @return the new options
+     */
+    public MapperScanOptions withIndex(MapperIndex index) {
+        return new MapperScanOptions(parallelism, cache, resolution, filter, statistics, index);
+    }
+}
@@ -0,0 +1,66 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Plans the classpath scan for a set of configured base packages.
+ *
+ * <p>Configured packages frequently overlap, e.g. {@code com.acme} and {@code com.acme.billing.mapper}.
+ * Scanning each of them separately reads the shared classpath entries several times. The planner
+ * collapses duplicate and nested packages so that every class file is visited at most once:
+ *
+ * <pre>{@code
+ * [com.acme.billing.mapper, com.acme, com.shared, com.acme]  ->  [com.acme, com.shared]
+ * }</pre>
+ *
+ * <p>Results are split back out per configured package by {@link MapperScanUtils} after the scan.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperScanUtils#findMapperImpls(Collection, ClassLoader, MapperScanOptions)
+ */
+public final class MapperScanPlanner {
+
+    private MapperScanPlanner() { }
+
+    /**
+     * Collapses the given packages into the smallest set of packages covering all of them.
+     *
+     * @param basePackages the configured base packages, possibly overlapping; {@code null} and blank entries are
+     *                     ignored
+     * @return the distinct, non-nested packages to scan, in lexicographic order
+     */
+    public static List<String> collapse(Collection<String> basePackages) {
+        // Sorting guarantees that a package is visited before any of its sub-packages
+        TreeSet<String> sortedPackages = new TreeSet<>();
+        for (String basePackage : basePackages) {
+            if (StringUtils.hasText(basePackage)) {
+                sortedPackages.add(basePackage);
+            }
+        }
+        List<String> scanPackages = new ArrayList<>();
+        for (String basePackage : sortedPackages) {
+            boolean covered = scanPackages.stream().anyMatch(scanPackage -> isSameOrSubPackage(basePackage, scanPackage));
+            if (!covered) {
+                scanPackages.add(basePackage);
+            }
+        }
+        return scanPackages;
+    }
+
+    /**
+     * Returns whether the given class or package name lies within the given package.
+     *
+     * @param name        a class or package name
+     * @param basePackage the enclosing package candidate
+     * @return {@code true} if {@code name} equals {@code basePackage} or is located below it
+     */
+    public static boolean isSameOrSubPackage(String name, String basePackage) {
+        return name.equals(basePackage) || name.startsWith(basePackage + ".");
+    }
+}
@@ -8,20 +8,23 @@ import java.util.Set;
  * <p>This model captures:
  * <ul>
  *     <li>whether any mappers (interfaces annotated with {@code @Mapper}) were found</li>
- *     <li>a set of their corresponding implementation classes that are not annotated with {@code @Component}</li>
+ *     <li>the names of their corresponding implementation classes that are not annotated with {@code @Component}</li>
  * </ul>
  *
  * <p>This separation helps in distinguishing mappers already registered as Spring beans
  * from those that need to be registered manually.
  *
- * @param hasAnyMappers         Whether any MapStruct mappers (interfaces annotated with {@code @Mapper}) were found.
- * @param implementationClasses Implementation classes of the mappers that are not already Spring-managed components.
+ * <p>Only class names are kept, so implementation classes are loaded when their beans are created
+ * rather than during scanning.
+ *
+ * @param hasAnyMappers            Whether any MapStruct mappers (interfaces annotated with {@code @Mapper}) were found.
+ * @param implementationClassNames Names of the mapper implementation classes that are not already Spring-managed components.
  *
  * @author Ritesh Chopade(codeswithritesh)
  *
  * @see org.mapstruct.Mapper
  */
 public record MapperScanResult(boolean hasAnyMappers,
-                               Set<Class<?>> implementationClasses) {
+                               Set<String> implementationClassNames) {
 
 }
@@ -0,0 +1,69 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects what mapper discovery did, for diagnostics: the classpath roots that were read or served from the
+ * scan cache, and the mapper implementations left out because they are already Spring components.
+ *
+ * <p>Safe to fill from several scanning threads at once.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class MapperScanStatistics {
+
+    private final List<RootScan> roots = Collections.synchronizedList(new ArrayList<>());
+
+    private final Set<String> componentImplementations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates an empty collector.
+     */
+    public MapperScanStatistics() {}
+
+    void recordRoot(ClasspathRootScan scan, List<String> scanPackages, boolean cached) {
+        roots.add(new RootScan(scan.root(), MapperScanUtils.rootPackage(scan.root(), scanPackages),
+                scan.types().size(), cached ? 0 : scan.scanNanos(), cached));
+    }
+
+    void recordComponentImplementation(String implClassName) {
+        componentImplementations.add(implClassName);
+    }
+
+    /**
+     * Returns the classpath roots that were scanned, in no particular order.
+     *
+     * @return the scanned roots
+     */
+    public List<RootScan> getRoots() {
+        synchronized (roots) {
+            return List.copyOf(roots);
+        }
+    }
+
+    /**
+     * Returns the mapper implementations that were not registered because they are annotated with
+     * {@code @Component}, typically through {@code componentModel = "spring"}.
+     *
+     * @return the binary names of the component implementations
+     */
+    public Set<String> getComponentImplementations() {
+        return Set.copyOf(componentImplementations);
+    }
+
+    /**
+     * The scan of one classpath root.
+     *
+     * @param root        the URL of the package location within the classpath entry
+     * @param scanPackage the scanned package the root belongs to, or {@code null} if unknown
+     * @param classesRead the number of class files read below the root
+     * @param scanNanos   the time spent reading them, in nanoseconds; {@code 0} for cached roots
+     * @param cached      whether the result was served from the persistent scan cache
+     */
+    public record RootScan(String root, String scanPackage, int classesRead, long scanNanos, boolean cached) {
+    }
+}
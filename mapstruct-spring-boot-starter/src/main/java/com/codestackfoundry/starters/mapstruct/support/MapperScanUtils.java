@@ -1,13 +1,28 @@
 package com.codestackfoundry.starters.mapstruct.support;
 
-import org.mapstruct.Mapper;
-import org.reflections.Reflections;
+import com.codestackfoundry.starters.mapstruct.jfr.ClasspathRootScanEvent;
+import com.codestackfoundry.starters.mapstruct.jfr.FlightRecorderSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Utility class for scanning MapStruct mapper interfaces and identifying
@@ -20,11 +35,19 @@ import java.util.Set;
  * <p>Only classes that:
  * <ul>
  *   <li>Implement a {@code @Mapper}-annotated interface</li>
- *   <li>Are not interfaces themselves</li>
+ *   <li>Are neither interfaces nor abstract classes</li>
  *   <li>Are not annotated with {@code @Component}</li>
  * </ul>
  * will be included in the result.
  *
+ * <p>Scanning works on class file metadata read directly with ASM,
+ * so no candidate class is loaded or initialized; only class names end up in the result.
+ *
+ * <p>When several base packages are requested at once, they are first collapsed by the
+ * {@link MapperScanPlanner}, every matching classpath root is read exactly once, optionally in parallel,
+ * and the results are split back out per requested package. A {@link ClasspathFilter} can keep whole jars
+ * and packages out of the scan before any of their class files is read.
+ *
  * @author Ritesh Chopade(codeswithritesh)
  *
  * @see org.mapstruct.Mapper
@@ -37,42 +60,409 @@ public class MapperScanUtils {
 
     private MapperScanUtils(){ }
 
+    /**
+     * Finds all MapStruct-generated mapper implementation classes within the given base package,
+     * using the default class loader.
+     *
+     * @param basePackage the base package to scan for mappers and their implementations
+     * @return a {@link MapperScanResult} containing the names of the found implementation classes
+     * @see #findMapperImpls(String, ClassLoader)
+     */
+    public static MapperScanResult findMapperImpls(String basePackage) {
+        return findMapperImpls(basePackage, ClassUtils.getDefaultClassLoader());
+    }
+
     /**
      * Finds all MapStruct-generated mapper implementation classes within the given base package.
      *
+     * @param basePackage the base package to scan for mappers and their implementations
+     * @param classLoader the class loader whose classpath is scanned
+     * @return a {@link MapperScanResult} containing the names of the found implementation classes
+     * @throws IllegalStateException if the classpath cannot be read
+     * @see #findMapperImpls(Collection, ClassLoader, MapperScanOptions)
+     */
+    public static MapperScanResult findMapperImpls(String basePackage, ClassLoader classLoader) {
+        return findMapperImpls(List.of(basePackage), classLoader, MapperScanOptions.defaults()).get(basePackage);
+    }
+
+    /**
+     * Finds all MapStruct-generated mapper implementation classes within the given base packages
+     * in a single pass over the classpath.
+     *
      * <p>The method:
      * <ul>
-     *   <li>Scans for interfaces annotated with {@code @Mapper}</li>
-     *   <li>Finds their non-interface, non-Spring-managed implementation classes</li>
+     *   <li>Collapses duplicate and nested packages into a minimal set of packages to scan</li>
+     *   <li>Reads the metadata of every class file below those packages that passes the
+     *       {@linkplain MapperScanOptions#filter() filter}, one classpath root at a time, across a fork-join pool
+     *       bounded by the {@linkplain MapperScanOptions#parallelism() parallelism}; roots unchanged since they
+     *       were stored in the {@linkplain MapperScanOptions#cache() cache} are not read again</li>
+     *   <li>Collects the types annotated with {@code @Mapper}</li>
+     *   <li>Finds their concrete, non-Spring-managed implementation classes, using the
+     *       {@linkplain MapperScanOptions#resolution() resolution} strategy</li>
+     *   <li>Splits the result back out per requested base package</li>
      * </ul>
      *
-     * @param basePackage the base package to scan for mappers and their implementations
-     * @return a {@link MapperScanResult} containing the found implementation classes
+     * <p>With {@link ImplementationResolution#CONVENTION}, implementations whose name is customized through
+     * {@code implementationPackage} are attributed to the base package of their mapper, and hand-written
+     * subclasses of a mapper are ignored once its generated implementation has been found.
+     *
+     * @param basePackages the base packages to scan for mappers and their implementations
+     * @param classLoader  the class loader whose classpath is scanned
+     * @param options      the scan settings
+     * @return a {@link MapperScanResult} per requested base package, in request order
+     * @throws IllegalStateException if the classpath cannot be read
      */
-    public static MapperScanResult findMapperImpls(String basePackage) {
-        Reflections reflections = new Reflections(basePackage);
-        Set<Class<?>> allMappers = reflections.getTypesAnnotatedWith(Mapper.class);
-        Set<Class<?>> mapperImpls = new HashSet<>();
+    public static Map<String, MapperScanResult> findMapperImpls(Collection<String> basePackages,
+                                                                ClassLoader classLoader,
+                                                                MapperScanOptions options) {
+        List<String> scanPackages = MapperScanPlanner.collapse(basePackages);
+        if (log.isDebugEnabled() && scanPackages.size() < new HashSet<>(basePackages).size()) {
+            log.debug("Collapsed base packages {} into scan packages {}", basePackages, scanPackages);
+        }
+
+        long start = System.nanoTime();
+        List<ClasspathRootScan> roots = scanRoots(scanPackages, classLoader, options);
         if (log.isDebugEnabled()) {
-            log.debug("Discovered @Mapper interfaces in '{}': {}", basePackage,
-                    allMappers.stream().map(Class::getSimpleName).toList());
+            log.debug("Read {} class files from {} classpath roots in {} ms",
+                    roots.stream().mapToInt(root -> root.types().size()).sum(),
+                    roots.size(), (System.nanoTime() - start) / 1_000_000);
         }
-        for (Class<?> mapperInterface : allMappers) {
-            @SuppressWarnings("unchecked")
-            Set<Class<?>> subTypes = reflections.getSubTypesOf((Class<Object>) mapperInterface);
 
-            for (Class<?> implClass : subTypes) {
-                if (!implClass.isInterface() && !implClass.isAnnotationPresent(Component.class)) {
-                    mapperImpls.add(implClass);
+        return resolve(basePackages, roots, options.resolution(), new ScannedTypeReader(classLoader),
+                options.statistics());
+    }
+
+    /**
+     * Reads every class file below the given packages, one task per classpath root,
+     * skipping roots that are filtered out, covered by the index or can be served from the cache.
+     */
+    static List<ClasspathRootScan> scanRoots(List<String> scanPackages, ClassLoader classLoader,
+                                             MapperScanOptions options) {
+        int parallelism = options.parallelism();
+        MapperScanCache cache = options.cache();
+        ClasspathFilter filter = options.filter();
+        MapperScanStatistics statistics = options.statistics();
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        ScannedTypeReader typeReader = new ScannedTypeReader(classLoader);
+        List<Resource> roots = skipIndexedRoots(
+                filter.filterRoots(findRoots(scanPackages, resolver), scanPackages, classLoader), options.index());
+        if (cache == null) {
+            List<ClasspathRootScan> scans = scanRoots(roots, scanPackages, resolver, typeReader, filter, parallelism);
+            if (statistics != null) {
+                scans.forEach(scan -> statistics.recordRoot(scan, scanPackages, false));
+            }
+            return scans;
+        }
+
+        List<String> cacheKey = scanPackages;
+        if (!filter.isNone()) {
+            cacheKey = new ArrayList<>(scanPackages);
+            cacheKey.add(filter.toString());
+        }
+        MapperScanCache.Session session = cache.open(cacheKey);
+        List<ClasspathRootScan> scans = new ArrayList<>();
+        List<Resource> changedRoots = new ArrayList<>();
+        for (Resource root : roots) {
+            ClasspathRootScan cached = session.get(root);
+            if (cached != null) {
+                scans.add(cached);
+                if (statistics != null) {
+                    statistics.recordRoot(cached, scanPackages, true);
                 }
+            } else {
+                changedRoots.add(root);
             }
         }
 
-        if (log.isDebugEnabled()) {
-            log.debug("Generated MapStruct implementation classes found: {}",
-                    mapperImpls.stream().map(Class::getSimpleName).toList());
+        for (ClasspathRootScan scan : scanRoots(changedRoots, scanPackages, resolver, typeReader, filter, parallelism)) {
+            session.put(scan);
+            scans.add(scan);
+            if (statistics != null) {
+                statistics.recordRoot(scan, scanPackages, false);
+            }
+        }
+        session.save();
+        return scans;
+    }
+
+    private static List<ClasspathRootScan> scanRoots(List<Resource> roots, List<String> scanPackages,
+                                                     ResourcePatternResolver resolver,
+                                                     ScannedTypeReader typeReader, ClasspathFilter filter,
+                                                     int parallelism) {
+        if (parallelism <= 1 || roots.isEmpty()) {
+            return roots.stream()
+                    .map(root -> scanRoot(root, scanPackages, resolver, typeReader, filter, false))
+                    .toList();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> roots.parallelStream()
+                    .map(root -> scanRoot(root, scanPackages, resolver, typeReader, filter, true))
+                    .toList()).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<Resource> skipIndexedRoots(List<Resource> roots, MapperIndex index) {
+        List<Resource> unindexed = roots.stream()
+                .filter(root -> !index.isIndexed(url(root)))
+                .toList();
+        if (unindexed.size() < roots.size()) {
+            log.debug("Skipping {} classpath roots resolved from the mapper index", roots.size() - unindexed.size());
+        }
+        return unindexed;
+    }
+
+    /**
+     * Returns the URL of a classpath resource as a string.
+     *
+     * @throws IllegalStateException if the URL cannot be determined
+     */
+    static String url(Resource resource) {
+        try {
+            return resource.getURL().toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to resolve URL of classpath resource: " + resource, e);
+        }
+    }
+
+    /**
+     * Locates the directory of each scan package inside every classpath entry that contains it.
+     */
+    static List<Resource> findRoots(List<String> scanPackages, ResourcePatternResolver resolver) {
+        Map<String, Resource> roots = new LinkedHashMap<>();
+        for (String scanPackage : scanPackages) {
+            String location = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                    + ClassUtils.convertClassNameToResourcePath(scanPackage) + "/";
+            try {
+                for (Resource root : resolver.getResources(location)) {
+                    roots.putIfAbsent(root.getURL().toString(), root);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to scan classpath for MapStruct mappers in package: " + scanPackage, e);
+            }
+        }
+        return List.copyOf(roots.values());
+    }
+
+    /**
+     * Reads the metadata of every class file below a single classpath root that is not in an excluded package.
+     */
+    static ClasspathRootScan scanRoot(Resource root, List<String> scanPackages, ResourcePatternResolver resolver,
+                                      ScannedTypeReader typeReader, ClasspathFilter filter, boolean parallel) {
+        ClasspathRootScanEvent event = FlightRecorderSupport.isAvailable() ? new ClasspathRootScanEvent() : null;
+        String rootUrl;
+        Resource[] classFiles;
+        try {
+            rootUrl = root.getURL().toString();
+            classFiles = resolver.getResources(rootUrl + "**/*.class");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to scan classpath root for MapStruct mappers: " + root, e);
+        }
+
+        long start = System.nanoTime();
+        String rootPackage = rootPackage(rootUrl, scanPackages);
+        Stream<Resource> stream = parallel ? Arrays.stream(classFiles).parallel() : Arrays.stream(classFiles);
+        List<ScannedType> types = stream
+                .filter(classFile -> rootPackage == null
+                        || filter.includesClassFile(rootPackage, relativePath(rootUrl, classFile)))
+                .map(classFile -> read(classFile, typeReader))
+                .filter(Objects::nonNull)
+                .toList();
+
+        long scanNanos = System.nanoTime() - start;
+        if (event != null) {
+            event.complete(rootUrl, rootPackage, classFiles.length, types.size());
+        }
+        log.debug("Visited {} class files in {} ({} read, {} ms)",
+                classFiles.length, rootUrl, types.size(), scanNanos / 1_000_000);
+        return new ClasspathRootScan(rootUrl, types, scanNanos);
+    }
+
+    /**
+     * Returns the package a classpath root corresponds to: the most specific scan package whose directory
+     * the root URL ends with, or {@code null} if none matches.
+     */
+    static String rootPackage(String rootUrl, List<String> scanPackages) {
+        String rootPackage = null;
+        for (String scanPackage : scanPackages) {
+            if (rootUrl.endsWith("/" + ClassUtils.convertClassNameToResourcePath(scanPackage) + "/")
+                    && (rootPackage == null || scanPackage.length() > rootPackage.length())) {
+                rootPackage = scanPackage;
+            }
+        }
+        return rootPackage;
+    }
+
+    private static String relativePath(String rootUrl, Resource classFile) {
+        try {
+            String url = classFile.getURL().toString();
+            return url.startsWith(rootUrl) ? url.substring(rootUrl.length()) : "";
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static ScannedType read(Resource classFile, ScannedTypeReader typeReader) {
+        try {
+            return typeReader.read(classFile);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Skipping unreadable class file {}: {}", classFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Builds the mapper/implementation relation over all scanned roots and splits it per base package.
+     *
+     * <p>Each implementation is attributed to a base package through its owner: the mapper it was resolved for
+     * by convention, or the implementation itself when it was found through the subtype search.
+     */
+    static Map<String, MapperScanResult> resolve(Collection<String> basePackages, List<ClasspathRootScan> roots,
+                                                 ImplementationResolution resolution,
+                                                 ScannedTypeReader typeReader,
+                                                 MapperScanStatistics statistics) {
+        Map<String, ScannedType> types = new HashMap<>();
+        for (ClasspathRootScan root : roots) {
+            for (ScannedType type : root.types()) {
+                types.putIfAbsent(type.className(), type);
+            }
+        }
+
+        Set<String> allMappers = new HashSet<>();
+        types.values().forEach(type -> {
+            if (type.mapper()) {
+                allMappers.add(type.className());
+            }
+        });
+
+        Map<String, String> implOwners = new HashMap<>();
+        Set<String> unresolvedMappers = allMappers;
+        if (resolution == ImplementationResolution.CONVENTION) {
+            unresolvedMappers = new HashSet<>();
+            for (String mapper : allMappers) {
+                if (!resolveByConvention(types.get(mapper), types, typeReader, implOwners, statistics)) {
+                    unresolvedMappers.add(mapper);
+                }
+            }
+            if (!unresolvedMappers.isEmpty()) {
+                log.debug("Falling back to subtype search for mappers without conventionally named implementation: {}",
+                        unresolvedMappers);
+            }
+        }
+
+        if (!unresolvedMappers.isEmpty()) {
+            for (ScannedType type : types.values()) {
+                if (type.concrete() && (!type.component() || statistics != null)
+                        && implementsMapper(type, types, unresolvedMappers, new HashSet<>())) {
+                    if (type.component()) {
+                        statistics.recordComponentImplementation(type.className());
+                    } else {
+                        implOwners.putIfAbsent(type.className(), type.className());
+                    }
+                }
+            }
         }
 
-        return new MapperScanResult(!allMappers.isEmpty(), mapperImpls);
+        Map<String, MapperScanResult> results = new LinkedHashMap<>();
+        for (String basePackage : basePackages) {
+            Set<String> mappers = inPackage(allMappers, basePackage);
+            Set<String> mapperImpls = implOwners.entrySet().stream()
+                    .filter(entry -> MapperScanPlanner.isSameOrSubPackage(entry.getValue(), basePackage))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+
+            if (log.isDebugEnabled()) {
+                log.debug("Discovered @Mapper interfaces in '{}': {}", basePackage, mappers);
+                log.debug("Generated MapStruct implementation classes found in '{}': {}", basePackage, mapperImpls);
+            }
+            results.put(basePackage, new MapperScanResult(!mappers.isEmpty(), mapperImpls));
+        }
+        return results;
+    }
+
+    /**
+     * Looks up the implementation of a mapper under the name MapStruct generates for it, first among the
+     * scanned types and then through the class loader (for implementations generated into another package).
+     *
+     * @return {@code true} if the implementation was found, whether or not it qualifies for registration
+     */
+    private static boolean resolveByConvention(ScannedType mapper, Map<String, ScannedType> types,
+                                               ScannedTypeReader typeReader, Map<String, String> implOwners,
+                                               MapperScanStatistics statistics) {
+        ScannedType config = mapper.config() != null ? lookup(mapper.config(), types, typeReader) : null;
+        String implName = implementationName(mapper, config);
+        ScannedType impl = lookup(implName, types, typeReader);
+        if (impl == null || !impl.superTypes().contains(mapper.className())) {
+            return false;
+        }
+        if (impl.concrete() && !impl.component()) {
+            implOwners.put(implName, mapper.className());
+        } else if (impl.component() && statistics != null) {
+            statistics.recordComponentImplementation(implName);
+        }
+        return true;
+    }
+
+    /**
+     * Computes the implementation name of a mapper the way MapStruct does: an explicit value on {@code @Mapper}
+     * wins, then an explicit value on the referenced {@code @MapperConfig}, then MapStruct's default.
+     */
+    static String implementationName(ScannedType mapper, ScannedType config) {
+        String className = mapper.className();
+        int lastDot = className.lastIndexOf('.');
+        String packageName = lastDot > 0 ? className.substring(0, lastDot) : "";
+        String simpleName = className.substring(lastDot + 1);
+
+        String name = mapper.implementationName() != null ? mapper.implementationName()
+                : config != null && config.implementationName() != null ? config.implementationName()
+                : ScannedType.DEFAULT_IMPLEMENTATION_NAME;
+        String implPackage = mapper.implementationPackage() != null ? mapper.implementationPackage()
+                : config != null && config.implementationPackage() != null ? config.implementationPackage()
+                : ScannedType.DEFAULT_IMPLEMENTATION_PACKAGE;
+
+        name = name.replace("<CLASS_NAME>", simpleName);
+        implPackage = implPackage.replace("<PACKAGE_NAME>", packageName);
+        return implPackage.isEmpty() ? name : implPackage + "." + name;
+    }
+
+    private static ScannedType lookup(String className, Map<String, ScannedType> types,
+                                      ScannedTypeReader typeReader) {
+        ScannedType type = types.get(className);
+        if (type != null) {
+            return type;
+        }
+        try {
+            return typeReader.read(className);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> inPackage(Set<String> classNames, String basePackage) {
+        return classNames.stream()
+                .filter(className -> MapperScanPlanner.isSameOrSubPackage(className, basePackage))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Walks the supertype hierarchy of the given type, restricted to the scanned types,
+     * and reports whether it reaches one of the given mapper types.
+     */
+    private static boolean implementsMapper(ScannedType type, Map<String, ScannedType> types,
+                                            Set<String> mappers, Set<String> visited) {
+        for (String superType : type.superTypes()) {
+            if (mappers.contains(superType)) {
+                return true;
+            }
+            ScannedType scannedSuperType = types.get(superType);
+            if (scannedSuperType != null && visited.add(superType)
+                    && implementsMapper(scannedSuperType, types, mappers, visited)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
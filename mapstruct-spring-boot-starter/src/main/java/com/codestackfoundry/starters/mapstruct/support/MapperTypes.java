@@ -0,0 +1,119 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Helpers for relating loaded mapper implementation classes to their {@code @Mapper} types.
+ *
+ * <p>{@code @Mapper} has {@code CLASS} retention and cannot be seen through reflection, so mapper types are
+ * recognized by reading the class files of the implementation's supertypes. Results are cached per class.
+ *
+ * <p>Class files are not available in a native image, so when the application is processed ahead of time the
+ * mapper types of every registered implementation are computed at build time and handed back through
+ * {@link #registerAheadOfTime(String, List)}. Applications running from AOT-generated artifacts never read
+ * class files here.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class MapperTypes {
+
+    private static final Map<String, List<String>> AHEAD_OF_TIME = new ConcurrentHashMap<>();
+
+    private static final Set<String> AHEAD_OF_TIME_MAPPER_TYPES = ConcurrentHashMap.newKeySet();
+
+    private static final ClassValue<Set<Class<?>>> MAPPER_TYPES = new ClassValue<>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> implClass) {
+            Set<Class<?>> mapperTypes = new LinkedHashSet<>();
+            List<String> precomputed = AHEAD_OF_TIME.get(implClass.getName());
+            if (precomputed != null) {
+                for (String mapperType : precomputed) {
+                    mapperTypes.add(ClassUtils.resolveClassName(mapperType, implClass.getClassLoader()));
+                }
+                return Collections.unmodifiableSet(mapperTypes);
+            }
+            for (Class<?> type = implClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                if (isMapperType(type)) {
+                    mapperTypes.add(type);
+                }
+            }
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(implClass)) {
+                if (isMapperType(type)) {
+                    mapperTypes.add(type);
+                }
+            }
+            return Collections.unmodifiableSet(mapperTypes);
+        }
+    };
+
+    private MapperTypes() { }
+
+    /**
+     * Returns every {@code @Mapper} type the given implementation extends or implements,
+     * superclasses first.
+     *
+     * @param implClass the mapper implementation class
+     * @return the {@code @Mapper} types, possibly empty
+     */
+    public static Set<Class<?>> findMapperTypes(Class<?> implClass) {
+        return MAPPER_TYPES.get(implClass);
+    }
+
+    /**
+     * Returns the {@code @Mapper} type that best names the given implementation: its first {@code @Mapper}
+     * type, or the implementation class itself if it has none.
+     *
+     * @param implClass the mapper implementation class
+     * @return the mapper type
+     */
+    public static Class<?> primaryMapperType(Class<?> implClass) {
+        Set<Class<?>> mapperTypes = findMapperTypes(implClass);
+        return mapperTypes.isEmpty() ? implClass : mapperTypes.iterator().next();
+    }
+
+    /**
+     * Returns whether the given type is annotated with {@code @Mapper}, judged from its class file, or, when
+     * running from AOT-generated artifacts, from the mapper types computed at build time.
+     *
+     * @param type the type to check
+     * @return {@code true} for {@code @Mapper} types
+     */
+    public static boolean isMapperType(Class<?> type) {
+        if (AHEAD_OF_TIME_MAPPER_TYPES.contains(type.getName())) {
+            return true;
+        }
+        if (type.getClassLoader() == null || type.isArray() || type.isPrimitive()
+                || AotDetector.useGeneratedArtifacts()) {
+            return false;
+        }
+        try {
+            return new ScannedTypeReader(type.getClassLoader()).read(type.getName()).mapper();
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records the {@code @Mapper} types of a mapper implementation, as computed at build time by
+     * {@link #findMapperTypes(Class)}.
+     *
+     * <p>Called by the bean factory initialization code generated during AOT processing; applications do not
+     * need to call it. It must run before the types of the implementation are first looked up.
+     *
+     * @param implClassName   the binary name of the mapper implementation class
+     * @param mapperTypeNames the binary names of its {@code @Mapper} types, superclasses first
+     */
+    public static void registerAheadOfTime(String implClassName, List<String> mapperTypeNames) {
+        AHEAD_OF_TIME.put(implClassName, List.copyOf(mapperTypeNames));
+        AHEAD_OF_TIME_MAPPER_TYPES.addAll(mapperTypeNames);
+    }
+}
@@ -0,0 +1,66 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import java.util.List;
+
+/**
+ * Bytecode-level description of a single class file encountered while scanning for mappers.
+ *
+ * <p>Instances are read by {@link ScannedTypeReader} straight from class file bytes, so the
+ * described class is never loaded or initialized by the JVM.
+ *
+ * @param className             the binary name of the class
+ * @param mapper                whether the class is annotated with {@code @Mapper}
+ * @param concrete              whether the class is neither an interface nor abstract
+ * @param component             whether the class is annotated with {@code @Component}
+ * @param superTypes            the binary names of the direct superclass (if any) and implemented interfaces
+ * @param implementationName    the {@code implementationName} set explicitly on {@code @Mapper} or
+ *                              {@code @MapperConfig}, or {@code null}
+ * @param implementationPackage the {@code implementationPackage} set explicitly on {@code @Mapper} or
+ *                              {@code @MapperConfig}, or {@code null}
+ * @param config                the binary name of the {@code @MapperConfig} referenced by {@code @Mapper(config)},
+ *                              or {@code null}
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+record ScannedType(String className,
+                   boolean mapper,
+                   boolean concrete,
+                   boolean component,
+                   List<String> superTypes,
+                   String implementationName,
+                   String implementationPackage,
+                   String config) {
+
+    /**
+     * Default of {@code @Mapper#implementationName()} and {@code @MapperConfig#implementationName()}.
+     */
+    static final String DEFAULT_IMPLEMENTATION_NAME = "<CLASS_NAME>Impl";
+
+    /**
+     * Default of {@code @Mapper#implementationPackage()} and {@code @MapperConfig#implementationPackage()}.
+     */
+    static final String DEFAULT_IMPLEMENTATION_PACKAGE = "<PACKAGE_NAME>";
+
+    /**
+     * Creates a {@link ScannedType} without any implementation naming settings.
+     *
+     * @param className  the binary name of the class
+     * @param mapper     whether the class is annotated with {@code @Mapper}
+     * @param concrete   whether the class is neither an interface nor abstract
+     * @param component  whether the class is annotated with {@code @Component}
+     * @param superTypes the binary names of the direct superclass (if any) and implemented interfaces
+     */
+    ScannedType(String className, boolean mapper, boolean concrete, boolean component, List<String> superTypes) {
+        this(className, mapper, concrete, component, superTypes, null, null, null);
+    }
+
+    /**
+     * Returns whether the class carries implementation naming settings, as a {@code @Mapper} or
+     * a {@code @MapperConfig} may.
+     *
+     * @return {@code true} if any naming setting or config reference is present
+     */
+    boolean hasNamingSettings() {
+        return implementationName != null || implementationPackage != null || config != null;
+    }
+}
@@ -0,0 +1,179 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MapperConfig;
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@link ScannedType}s straight from class file bytes with ASM.
+ *
+ * <p>{@code @Mapper} and {@code @MapperConfig} are declared with {@code RetentionPolicy.CLASS}, so they are
+ * neither visible through reflection nor through Spring's annotation metadata, which only reports runtime-visible
+ * annotations. This reader also visits invisible annotations, and only records what mapper detection needs.
+ * Annotation attributes appear in the class file only when set explicitly, which is exactly the information
+ * needed to compute implementation names.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class ScannedTypeReader {
+
+    private static final String MAPPER_DESCRIPTOR = descriptor(Mapper.class);
+
+    private static final String MAPPER_CONFIG_DESCRIPTOR = descriptor(MapperConfig.class);
+
+    private static final String COMPONENT_DESCRIPTOR = descriptor(Component.class);
+
+    private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Creates a reader that locates classes by name through the given class loader.
+     *
+     * @param classLoader the class loader used to locate class files
+     */
+    ScannedTypeReader(ClassLoader classLoader) {
+        this.classLoader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+    }
+
+    /**
+     * Reads the class file of the given class, without loading it.
+     *
+     * @param className the binary name of the class
+     * @return the scanned type
+     * @throws IOException if the class file cannot be found or read
+     */
+    ScannedType read(String className) throws IOException {
+        String path = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+        InputStream inputStream = classLoader.getResourceAsStream(path);
+        if (inputStream == null) {
+            throw new FileNotFoundException("Class file not found: " + path);
+        }
+        try (inputStream) {
+            return read(inputStream);
+        }
+    }
+
+    /**
+     * Reads the given class file.
+     *
+     * @param classFile the class file resource
+     * @return the scanned type
+     * @throws IOException if the class file cannot be read
+     */
+    ScannedType read(Resource classFile) throws IOException {
+        try (InputStream inputStream = classFile.getInputStream()) {
+            return read(inputStream);
+        }
+    }
+
+    private static ScannedType read(InputStream inputStream) throws IOException {
+        TypeVisitor visitor = new TypeVisitor();
+        new ClassReader(inputStream).accept(visitor, PARSING_OPTIONS);
+        return visitor.toScannedType();
+    }
+
+    private static String descriptor(Class<?> annotationType) {
+        return "L" + ClassUtils.convertClassNameToResourcePath(annotationType.getName()) + ";";
+    }
+
+    /**
+     * Collects the class header and the mapper-related annotations of a single class file.
+     */
+    private static final class TypeVisitor extends ClassVisitor {
+
+        private String className;
+
+        private boolean concrete;
+
+        private final List<String> superTypes = new ArrayList<>();
+
+        private boolean mapper;
+
+        private boolean mapperConfig;
+
+        private boolean component;
+
+        private String implementationName;
+
+        private String implementationPackage;
+
+        private String config;
+
+        TypeVisitor() {
+            super(SpringAsmInfo.ASM_VERSION);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.className = Type.getObjectType(name).getClassName();
+            this.concrete = (access & (Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT)) == 0;
+            if (superName != null) {
+                superTypes.add(Type.getObjectType(superName).getClassName());
+            }
+            if (interfaces != null) {
+                for (String interfaceName : interfaces) {
+                    superTypes.add(Type.getObjectType(interfaceName).getClassName());
+                }
+            }
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            if (MAPPER_DESCRIPTOR.equals(descriptor)) {
+                mapper = true;
+                return new NamingVisitor();
+            }
+            if (MAPPER_CONFIG_DESCRIPTOR.equals(descriptor)) {
+                mapperConfig = true;
+                return new NamingVisitor();
+            }
+            if (COMPONENT_DESCRIPTOR.equals(descriptor)) {
+                component = true;
+            }
+            return null;
+        }
+
+        ScannedType toScannedType() {
+            boolean hasNaming = mapper || mapperConfig;
+            return new ScannedType(className, mapper, concrete, component, List.copyOf(superTypes),
+                    hasNaming ? implementationName : null,
+                    hasNaming ? implementationPackage : null,
+                    mapper ? config : null);
+        }
+
+        /**
+         * Records the explicitly set naming attributes of {@code @Mapper} or {@code @MapperConfig}.
+         */
+        private final class NamingVisitor extends AnnotationVisitor {
+
+            NamingVisitor() {
+                super(SpringAsmInfo.ASM_VERSION);
+            }
+
+            @Override
+            public void visit(String name, Object value) {
+                switch (name) {
+                    case "implementationName" -> implementationName = (String) value;
+                    case "implementationPackage" -> implementationPackage = (String) value;
+                    case "config" -> config = value instanceof Type type ? type.getClassName() : null;
+                    default -> { }
+                }
+            }
+        }
+    }
+}
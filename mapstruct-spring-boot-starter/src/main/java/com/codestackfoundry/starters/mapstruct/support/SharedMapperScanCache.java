@@ -0,0 +1,102 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of mapper discovery results, shared by all application contexts of the JVM that use the
+ * same class loader, such as the many contexts of a test suite or the child contexts of a Spring Cloud application.
+ *
+ * <p>Results are kept per class loader, which is only weakly referenced: once a class loader is discarded, for
+ * example by a devtools restart, its results are dropped with it. Within a class loader, results are keyed by
+ * everything that shapes them, i.e. the base packages and the discovery settings. Contexts refreshed concurrently
+ * share a single in-flight discovery; a failed discovery is not cached.
+ *
+ * <p>Only class names are cached, so a cached result never keeps the class loader reachable.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+public final class SharedMapperScanCache {
+
+    private static final SharedMapperScanCache SHARED = new SharedMapperScanCache();
+
+    private final Map<ClassLoader, ConcurrentMap<List<Object>, CompletableFuture<Map<String, MapperScanResult>>>> scans =
+            new WeakHashMap<>();
+
+    private SharedMapperScanCache() {}
+
+    /**
+     * Returns the cache shared by the whole JVM.
+     *
+     * @return the shared cache
+     */
+    public static SharedMapperScanCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the cached result for the given class loader and key, running {@code discovery} to compute it if
+     * there is none yet, or waiting for a discovery already running in another thread.
+     *
+     * @param classLoader the class loader the result is valid for
+     * @param key         the base packages and the settings the result depends on
+     * @param discovery   the discovery to run on a cache miss
+     * @return the discovery result per base package
+     */
+    public Map<String, MapperScanResult> get(ClassLoader classLoader, List<Object> key,
+                                             Supplier<Map<String, MapperScanResult>> discovery) {
+        if (classLoader == null) {
+            return discovery.get();
+        }
+        ConcurrentMap<List<Object>, CompletableFuture<Map<String, MapperScanResult>>> classLoaderScans;
+        synchronized (scans) {
+            classLoaderScans = scans.computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>());
+        }
+
+        CompletableFuture<Map<String, MapperScanResult>> future = new CompletableFuture<>();
+        CompletableFuture<Map<String, MapperScanResult>> existing = classLoaderScans.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+
+        try {
+            Map<String, MapperScanResult> results = Map.copyOf(discovery.get());
+            future.complete(results);
+            return results;
+        } catch (RuntimeException | Error ex) {
+            classLoaderScans.remove(key, future);
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Drops the results cached for the given class loader.
+     *
+     * @param classLoader the class loader
+     */
+    public void invalidate(ClassLoader classLoader) {
+        synchronized (scans) {
+            scans.remove(classLoader);
+        }
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public void clear() {
+        synchronized (scans) {
+            scans.clear();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.codestackfoundry.starters.mapstruct.warmup;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.support.MapperTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Invokes every mapper method with sample inputs before the application reports readiness, so that the first
+ * requests after a deployment run compiled, profiled mapper code.
+ *
+ * <p>Spring Boot runs {@link ApplicationRunner}s after the context is refreshed and before it publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC}; this runner goes first. Each mapper is driven for
+ * {@code mapstruct.warmup.iterations} rounds over all its single-argument methods, or until
+ * {@code mapstruct.warmup.duration} has passed, on up to {@code mapstruct.warmup.parallelism} threads. The whole
+ * warm-up never takes longer than {@code mapstruct.warmup.budget}; mappers not finished by then are reported as
+ * incomplete and startup continues.
+ *
+ * <p>Inputs come from {@link MapperWarmupSamples} beans, falling back to synthetic instances. Methods are invoked
+ * on the mapper implementation behind any proxy, so warm-up calls neither fill {@code @CachedMapping} caches nor
+ * show up in mapper metrics. A method that throws is dropped from the warm-up.
+ *
+ * <p>Mappers registered lazily ({@code mapstruct.registration.mode=lazy} or a lazy package mode) are only warmed
+ * up if something has already instantiated them; the warm-up never creates them itself.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see com.codestackfoundry.starters.mapstruct.autoconfig.MapStructWarmupAutoConfiguration
+ */
+public class MapperWarmupRunner implements ApplicationRunner, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperWarmupRunner.class);
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final ObjectProvider<MapperWarmupSamples> samples;
+
+    private final int iterations;
+
+    private final Duration duration;
+
+    private final Duration budget;
+
+    private final int parallelism;
+
+    private volatile List<MapperWarmup> results = List.of();
+
+    /**
+     * Creates the runner.
+     *
+     * @param beanFactory the bean factory holding the mapper beans
+     * @param samples     provider of the user-supplied sample inputs
+     * @param settings    the {@code mapstruct.warmup} settings
+     */
+    public MapperWarmupRunner(ConfigurableListableBeanFactory beanFactory, ObjectProvider<MapperWarmupSamples> samples,
+                              MapStructProperties.Warmup settings) {
+        Assert.isTrue(settings.getIterations() > 0, "mapstruct.warmup.iterations must be at least 1");
+        Assert.isTrue(settings.getParallelism() > 0, "mapstruct.warmup.parallelism must be at least 1");
+        this.beanFactory = beanFactory;
+        this.samples = samples;
+        this.iterations = settings.getIterations();
+        this.duration = settings.getDuration();
+        this.budget = settings.getBudget();
+        this.parallelism = settings.getParallelism();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Target> targets = findTargets();
+        if (targets.isEmpty()) {
+            log.debug("No mapper methods to warm up");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, targets.size()), task -> {
+            Thread thread = new Thread(task, "mapstruct-warmup-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<MapperWarmup>> futures = new ArrayList<>();
+        for (Target target : targets) {
+            futures.add(executor.submit(() -> warmUp(target, deadline)));
+        }
+        executor.shutdown();
+
+        List<MapperWarmup> results = new ArrayList<>();
+        try {
+            executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            MapperWarmup result = futures.get(i).isDone() ? result(target, futures.get(i)) : null;
+            results.add(result != null
+                    ? result
+                    : new MapperWarmup(target.name(), target.invocations().size(), 0, 0, Duration.ZERO, false));
+        }
+        this.results = List.copyOf(results);
+
+        long incomplete = results.stream().filter(result -> !result.completed()).count();
+        log.info("Warmed up {} mappers in {} ms{}", results.size(), (System.nanoTime() - start) / 1_000_000,
+                incomplete > 0 ? ", " + incomplete + " stopped early by the duration or budget" : "");
+    }
+
+    /**
+     * Returns the outcome of the warm-up per mapper, in bean definition order.
+     *
+     * @return the warm-up results, empty until the warm-up has run
+     */
+    public List<MapperWarmup> getResults() {
+        return results;
+    }
+
+    private MapperWarmup warmUp(Target target, long deadline) {
+        long start = System.nanoTime();
+        long end = Math.min(deadline, start + duration.toNanos());
+        List<Invocation> active = new ArrayList<>(target.invocations());
+        long invocations = 0;
+        int failures = 0;
+        int rounds = 0;
+        while (rounds < iterations && !active.isEmpty() && System.nanoTime() < end) {
+            for (Iterator<Invocation> it = active.iterator(); it.hasNext(); ) {
+                Invocation invocation = it.next();
+                try {
+                    for (Object input : invocation.inputs()) {
+                        invocation.method().invoke(target.instance(), input);
+                        invocations++;
+                    }
+                } catch (InvocationTargetException | IllegalAccessException | IllegalArgumentException ex) {
+                    failures++;
+                    it.remove();
+                    log.debug("Dropped {}.{} from the warm-up: {}", target.name(), invocation.method().getName(),
+                            ex instanceof InvocationTargetException ite ? ite.getTargetException() : ex);
+                }
+            }
+            rounds++;
+        }
+        MapperWarmup result = new MapperWarmup(target.name(), target.invocations().size(), invocations, failures,
+                Duration.ofNanos(System.nanoTime() - start), rounds >= iterations || active.isEmpty());
+        log.debug("Warmed up {} with {} invocations in {} ms", result.mapper(), result.invocations(),
+                result.duration().toMillis());
+        return result;
+    }
+
+    private static MapperWarmup result(Target target, Future<MapperWarmup> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            log.warn("Warm-up of {} failed", target.name(), ex.getCause());
+            return null;
+        }
+    }
+
+    private List<Target> findTargets() {
+        List<Target> targets = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getMergedBeanDefinition(beanName);
+            if (!Boolean.TRUE.equals(definition.getAttribute(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE))) {
+                continue;
+            }
+            if (definition.isLazyInit() && !beanFactory.containsSingleton(beanName)) {
+                log.debug("Skipping warm-up of lazy mapper {}: not instantiated yet", beanName);
+                continue;
+            }
+            Object instance = unwrap(beanFactory.getBean(beanName));
+            Class<?> mapperType = MapperTypes.primaryMapperType(ClassUtils.getUserClass(instance));
+            List<Invocation> invocations = new ArrayList<>();
+            for (Method method : mapperType.getMethods()) {
+                if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())
+                        || method.isBridge() || method.getParameterCount() != 1
+                        || method.getReturnType() == void.class) {
+                    continue;
+                }
+                Class<?> sourceType = ResolvableType.forMethodParameter(method, 0, mapperType).resolve();
+                List<?> inputs = sourceType != null ? inputs(sourceType, method.getParameterTypes()[0]) : List.of();
+                if (inputs.isEmpty()) {
+                    log.debug("No warm-up input for {}.{}", mapperType.getName(), method.getName());
+                    continue;
+                }
+                invocations.add(new Invocation(method, inputs));
+            }
+            if (!invocations.isEmpty()) {
+                targets.add(new Target(mapperType.getName(), instance, invocations));
+            }
+        }
+        return targets;
+    }
+
+    private List<?> inputs(Class<?> sourceType, Class<?> parameterType) {
+        for (MapperWarmupSamples provider : (Iterable<MapperWarmupSamples>) samples.orderedStream()::iterator) {
+            List<?> provided = provider.samples(sourceType).stream().filter(parameterType::isInstance).toList();
+            if (!provided.isEmpty()) {
+                return provided;
+            }
+        }
+        Object synthetic = SyntheticSamples.create(sourceType);
+        return parameterType.isInstance(synthetic) ? List.of(synthetic) : List.of();
+    }
+
+    private static Object unwrap(Object bean) {
+        Object instance = bean;
+        while (AopUtils.isAopProxy(instance)) {
+            Object target = AopProxyUtils.getSingletonTarget(instance);
+            if (target == null) {
+                break;
+            }
+            instance = target;
+        }
+        return instance;
+    }
+
+    /**
+     * Outcome of warming up one mapper.
+     *
+     * @param mapper      the {@code @Mapper} type
+     * @param methods     the number of methods that had warm-up inputs
+     * @param invocations the number of method invocations performed
+     * @param failures    the number of methods dropped because they threw
+     * @param duration    the time spent warming up the mapper
+     * @param completed   whether all iterations ran, rather than being cut short by the duration or budget
+     */
+    public record MapperWarmup(String mapper, int methods, long invocations, int failures, Duration duration,
+                               boolean completed) {
+    }
+
+    private record Target(String name, Object instance, List<Invocation> invocations) {
+    }
+
+    private record Invocation(Method method, List<?> inputs) {
+    }
+}
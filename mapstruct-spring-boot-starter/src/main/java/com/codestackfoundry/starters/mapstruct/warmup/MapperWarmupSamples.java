@@ -0,0 +1,34 @@
+package com.codestackfoundry.starters.mapstruct.warmup;
+
+import java.util.List;
+
+/**
+ * Supplies representative inputs for the mapper warm-up.
+ *
+ * <p>Beans of this type are asked, in order, for samples of every mapper source type; the first non-empty answer
+ * wins. Types without user-supplied samples are warmed up with synthetic instances, which only reach the
+ * {@code null} branches of nested mappings. Supplying a few realistic instances of the hot source types gives the
+ * JIT the same profile production traffic will.
+ *
+ * <pre>{@code
+ * @Bean
+ * MapperWarmupSamples orderSamples() {
+ *     return type -> type == Order.class ? List.of(TestOrders.large(), TestOrders.cancelled()) : List.of();
+ * }
+ * }</pre>
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ *
+ * @see MapperWarmupRunner
+ */
+@FunctionalInterface
+public interface MapperWarmupSamples {
+
+    /**
+     * Returns sample inputs of the given source type.
+     *
+     * @param sourceType the source type of a mapper method
+     * @return instances of {@code sourceType}, or an empty list to fall back to other samples
+     */
+    List<?> samples(Class<?> sourceType);
+}
@@ -0,0 +1,170 @@
+package com.codestackfoundry.starters.mapstruct.warmup;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Creates synthetic warm-up inputs for types without user-supplied samples.
+ *
+ * <p>Records are created through their canonical constructor and beans through their no-argument constructor
+ * and setters. Simple values get fixed non-default values, collections are empty and nested types are created
+ * the same way up to a small depth. Types that cannot be created this way have no synthetic sample.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+final class SyntheticSamples {
+
+    private static final int MAX_DEPTH = 3;
+
+    private SyntheticSamples() {}
+
+    /**
+     * Creates a synthetic instance of the given type.
+     *
+     * @param type the type to instantiate
+     * @return the instance, or {@code null} if the type cannot be instantiated
+     */
+    static Object create(Class<?> type) {
+        try {
+            return create(type, 0);
+        } catch (RuntimeException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    private static Object create(Class<?> type, int depth) {
+        Object simple = simpleValue(type);
+        if (simple != null) {
+            return simple;
+        }
+        if (depth > MAX_DEPTH || type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray()) {
+            return null;
+        }
+        if (type.isRecord()) {
+            return createRecord(type, depth);
+        }
+        Constructor<?> constructor = ClassUtils.getConstructorIfAvailable(type);
+        if (constructor == null) {
+            return null;
+        }
+        Object bean = BeanUtils.instantiateClass(constructor);
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(bean);
+        for (PropertyDescriptor property : wrapper.getPropertyDescriptors()) {
+            if (property.getWriteMethod() != null && property.getPropertyType() != null) {
+                try {
+                    Object value = create(property.getPropertyType(), depth + 1);
+                    if (value != null) {
+                        wrapper.setPropertyValue(property.getName(), value);
+                    }
+                } catch (RuntimeException ex) {
+                    // leave the property unset
+                }
+            }
+        }
+        return bean;
+    }
+
+    private static Object createRecord(Class<?> type, int depth) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        Object[] arguments = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+            arguments[i] = create(parameterTypes[i], depth + 1);
+        }
+        try {
+            return BeanUtils.instantiateClass(type.getDeclaredConstructor(parameterTypes), arguments);
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+
+    private static Object simpleValue(Class<?> type) {
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (boxed == String.class || boxed == CharSequence.class) {
+            return "warmup";
+        }
+        if (boxed == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (boxed == Character.class) {
+            return 'w';
+        }
+        if (boxed == Byte.class) {
+            return (byte) 1;
+        }
+        if (boxed == Short.class) {
+            return (short) 1;
+        }
+        if (boxed == Integer.class) {
+            return 1;
+        }
+        if (boxed == Long.class) {
+            return 1L;
+        }
+        if (boxed == Float.class) {
+            return 1f;
+        }
+        if (boxed == Double.class) {
+            return 1d;
+        }
+        if (boxed == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (boxed == BigInteger.class) {
+            return BigInteger.ONE;
+        }
+        if (boxed == UUID.class) {
+            return new UUID(0, 1);
+        }
+        if (boxed == Instant.class) {
+            return Instant.EPOCH;
+        }
+        if (boxed == LocalDate.class) {
+            return LocalDate.EPOCH;
+        }
+        if (boxed == LocalDateTime.class) {
+            return LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIDNIGHT);
+        }
+        if (boxed == OffsetDateTime.class) {
+            return OffsetDateTime.of(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIDNIGHT), ZoneOffset.UTC);
+        }
+        if (boxed.isEnum()) {
+            Object[] constants = boxed.getEnumConstants();
+            return constants.length > 0 ? constants[0] : null;
+        }
+        if (boxed == List.class || boxed == Collection.class || boxed == Iterable.class) {
+            return new ArrayList<>();
+        }
+        if (boxed == Set.class) {
+            return new HashSet<>();
+        }
+        if (boxed == Map.class) {
+            return new HashMap<>();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.codestackfoundry.starters.mapstruct.startup;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructImplRegistrar;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots an application context against thousands of synthetic mappers and fails if startup exceeds its budgets.
+ *
+ * <p>The mappers are generated and compiled with the MapStruct processor by the build, packaged into several jars
+ * and passed in through the {@code startup.jar-files} system property. The measured boot reports:
+ * <ul>
+ *     <li>wall-clock time of the context refresh</li>
+ *     <li>classes loaded during the refresh</li>
+ *     <li>metaspace and heap retained once the context is up</li>
+ * </ul>
+ * Budgets are read from {@code startup.budget.*} system properties and a JSON report is written to
+ * {@code startup.report}. Spring's own infrastructure is warmed up with an empty package first, so the
+ * measurements cover what the mappers add.
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+class LargeScaleStartupTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LargeScaleStartupTest.class);
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.synthetic";
+
+    private static final String EMPTY_PACKAGE = BASE_PACKAGE + ".none";
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    void bootsThousandsOfMappersWithinBudgets() throws IOException {
+        int mapperCount = Integer.getInteger("startup.mappers", 0);
+        assertThat(mapperCount).as("startup.mappers").isPositive();
+
+        long wallMillisBudget = Long.getLong("startup.budget.wall-ms", 10_000);
+        long classesBudget = Long.getLong("startup.budget.classes-loaded", 3L * mapperCount + 2_000);
+        long metaspaceBudget = Long.getLong("startup.budget.metaspace-mb", 64) * MB;
+        long heapBudget = Long.getLong("startup.budget.heap-mb", 128) * MB;
+
+        try (URLClassLoader classLoader = new URLClassLoader(jarUrls(), getClass().getClassLoader())) {
+            ApplicationContextRunner runner = new ApplicationContextRunner()
+                    .withClassLoader(classLoader)
+                    .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class));
+
+            runner.withPropertyValues("mapstruct.base-packages=" + EMPTY_PACKAGE)
+                    .run(context -> assertThat(context).hasNotFailed());
+
+            StartupSnapshot before = StartupSnapshot.take();
+            long start = System.nanoTime();
+            runner.withPropertyValues("mapstruct.base-packages=" + BASE_PACKAGE, "mapstruct.fail-if-no-mappers=true")
+                    .run(context -> {
+                        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        assertThat(context).hasNotFailed();
+                        long mapperBeans = Arrays.stream(context.getBeanDefinitionNames())
+                                .filter(name -> context.getBeanFactory().getBeanDefinition(name)
+                                        .hasAttribute(MapStructImplRegistrar.MAPPER_BEAN_ATTRIBUTE))
+                                .count();
+                        assertThat(mapperBeans).isEqualTo(mapperCount);
+
+                        StartupSnapshot used = StartupSnapshot.take().since(before);
+                        log.info("Started {} mappers in {} ms: {} classes loaded, {} MB metaspace, {} MB heap retained",
+                                mapperCount, wallMillis, used.loadedClasses(),
+                                used.metaspaceBytes() / MB, used.heapBytes() / MB);
+                        writeReport(mapperCount, wallMillis, used);
+
+                        SoftAssertions budgets = new SoftAssertions();
+                        budgets.assertThat(wallMillis).as("wall-clock ms").isLessThanOrEqualTo(wallMillisBudget);
+                        budgets.assertThat(used.loadedClasses()).as("classes loaded").isLessThanOrEqualTo(classesBudget);
+                        budgets.assertThat(used.metaspaceBytes()).as("metaspace bytes").isLessThanOrEqualTo(metaspaceBudget);
+                        budgets.assertThat(used.heapBytes()).as("retained heap bytes").isLessThanOrEqualTo(heapBudget);
+                        budgets.assertAll();
+                    });
+        }
+    }
+
+    private static URL[] jarUrls() {
+        String jarFiles = System.getProperty("startup.jar-files", "");
+        assertThat(jarFiles).as("startup.jar-files").isNotBlank();
+        return Arrays.stream(StringUtils.tokenizeToStringArray(jarFiles, File.pathSeparator))
+                .map(LargeScaleStartupTest::toUrl)
+                .toArray(URL[]::new);
+    }
+
+    private static URL toUrl(String path) {
+        try {
+            return new File(path).toURI().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid synthetic mapper jar: " + path, e);
+        }
+    }
+
+    private static void writeReport(int mapperCount, long wallMillis, StartupSnapshot used) throws IOException {
+        String report = System.getProperty("startup.report");
+        if (report == null) {
+            return;
+        }
+        Path file = Path.of(report);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, """
+                {
+                  "mappers": %d,
+                  "wallClockMillis": %d,
+                  "classesLoaded": %d,
+                  "metaspaceBytes": %d,
+                  "retainedHeapBytes": %d
+                }
+                """.formatted(mapperCount, wallMillis, used.loadedClasses(), used.metaspaceBytes(), used.heapBytes()));
+    }
+}
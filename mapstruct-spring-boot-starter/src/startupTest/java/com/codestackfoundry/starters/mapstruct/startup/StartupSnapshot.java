@@ -0,0 +1,44 @@
+package com.codestackfoundry.starters.mapstruct.startup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+
+/**
+ * JVM resource usage at one point in time, taken after a full garbage collection.
+ *
+ * @param loadedClasses  the total number of classes loaded since JVM start
+ * @param metaspaceBytes the used metaspace, in bytes
+ * @param heapBytes      the used heap, in bytes
+ *
+ * @author Ritesh Chopade(codeswithritesh)
+ */
+record StartupSnapshot(long loadedClasses, long metaspaceBytes, long heapBytes) {
+
+    /**
+     * Takes a snapshot of the current JVM.
+     *
+     * @return the snapshot
+     */
+    static StartupSnapshot take() {
+        // System.gc() is only a request; two rounds make it far more likely that garbage is actually gone
+        System.gc();
+        System.gc();
+        long metaspace = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> "Metaspace".equals(pool.getName()))
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum();
+        return new StartupSnapshot(ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(), metaspace,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    /**
+     * Returns the resource usage that accumulated between the given earlier snapshot and this one.
+     *
+     * @param earlier the snapshot taken before
+     * @return the difference
+     */
+    StartupSnapshot since(StartupSnapshot earlier) {
+        return new StartupSnapshot(loadedClasses - earlier.loadedClasses, metaspaceBytes - earlier.metaspaceBytes,
+                heapBytes - earlier.heapBytes);
+    }
+}
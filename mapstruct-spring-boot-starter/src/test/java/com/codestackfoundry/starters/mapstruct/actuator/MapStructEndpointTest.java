@@ -0,0 +1,111 @@
+package com.codestackfoundry.starters.mapstruct.actuator;
+
+import com.codestackfoundry.starters.mapstruct.actuator.MapStructEndpoint.MapStructDescriptor;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructEndpointAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructMetricsAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.BasePackageSource;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.Decision;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.DiscoverySource;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport.Registration;
+import com.codestackfoundry.starters.mapstruct.config.MapperRegistrationMode;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperInvocationStatistics.AllocationStatistics;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapStructEndpointTest {
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class,
+                    MapStructMetricsAutoConfiguration.class, MapStructEndpointAutoConfiguration.class))
+            .withPropertyValues("mapstruct.base-packages=" + BASE_PACKAGE, "mapstruct.scan.shared=false",
+                    "management.endpoints.web.exposure.include=mapstruct");
+
+    @Test
+    void reportsDiscoveryAndRegistration() {
+        contextRunner.withPropertyValues("mapstruct.index.enabled=false").run(context -> {
+            MapStructDescriptor descriptor = context.getBean(MapStructEndpoint.class).mapstruct();
+
+            assertThat(descriptor.basePackages().packages()).containsExactly(BASE_PACKAGE);
+            assertThat(descriptor.basePackages().source()).isEqualTo(BasePackageSource.CONFIGURED);
+            assertThat(descriptor.discovery().packages().get(BASE_PACKAGE).source()).isEqualTo(DiscoverySource.SCAN);
+            assertThat(descriptor.discovery().packages().get(BASE_PACKAGE).implementations())
+                    .containsExactly(BASE_PACKAGE + ".SampleMapperImpl");
+            assertThat(descriptor.discovery().sharedScan()).isFalse();
+            assertThat(descriptor.discovery().scans().get(BASE_PACKAGE).classesRead()).isPositive();
+            assertThat(descriptor.registrations()).containsExactly(new Registration(BASE_PACKAGE + ".SampleMapperImpl",
+                    "sampleMapperImpl", Decision.REGISTERED, MapperRegistrationMode.EAGER));
+            assertThat(descriptor.invocations()).isNull();
+            assertThat(descriptor.topAllocating()).isNull();
+        });
+    }
+
+    @Test
+    void reportsIndexedDiscovery() {
+        contextRunner.run(context -> {
+            MapStructDescriptor descriptor = context.getBean(MapStructEndpoint.class).mapstruct();
+
+            assertThat(descriptor.discovery().packages().get(BASE_PACKAGE).source()).isEqualTo(DiscoverySource.INDEX);
+            assertThat(descriptor.discovery().packages().get(BASE_PACKAGE).implementations())
+                    .containsExactly(BASE_PACKAGE + ".SampleMapperImpl");
+            assertThat(descriptor.discovery().scans()).isEmpty();
+        });
+    }
+
+    @Test
+    void reportsSkippedDuplicates() {
+        contextRunner.withBean("sampleMapperImpl", Object.class, Object::new).run(context ->
+                assertThat(context.getBean(MapStructEndpoint.class).mapstruct().registrations())
+                        .extracting(Registration::decision).containsExactly(Decision.SKIPPED_DUPLICATE));
+    }
+
+    @Test
+    void reportsInvocationsWhenInstrumentationIsActive() {
+        contextRunner
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("mapstruct.metrics.enabled=true")
+                .run(context -> {
+                    context.getBean(SampleMapper.class).map(new SampleMapper.Source("a"));
+
+                    assertThat(context.getBean(MapStructEndpoint.class).mapstruct().invocations()
+                            .get(SampleMapper.class.getName()).get("map").invocations()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void ranksMethodsByEstimatedAllocation() {
+        contextRunner
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("mapstruct.metrics.enabled=true", "mapstruct.metrics.allocations=true")
+                .run(context -> {
+                    SampleMapper mapper = context.getBean(SampleMapper.class);
+                    List<SampleMapper.Source> sources = IntStream.range(0, 1_000)
+                            .mapToObj(i -> new SampleMapper.Source("s" + i)).toList();
+                    mapper.map(sources.get(0));
+                    mapper.mapAll(sources);
+
+                    assertThat(context.getBean(MapStructEndpoint.class).mapstruct().topAllocating())
+                            .extracting(AllocationStatistics::method).containsExactly("mapAll", "map");
+                });
+    }
+
+    @Test
+    void isNotAvailableUnlessExposed() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class,
+                        MapStructEndpointAutoConfiguration.class))
+                .withPropertyValues("mapstruct.base-packages=" + BASE_PACKAGE)
+                .run(context -> assertThat(context).doesNotHaveBean(MapStructEndpoint.class));
+    }
+}
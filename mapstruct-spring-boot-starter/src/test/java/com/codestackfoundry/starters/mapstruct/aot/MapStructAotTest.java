@@ -0,0 +1,187 @@
+package com.codestackfoundry.starters.mapstruct.aot;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapperRegistrationReport;
+import com.codestackfoundry.starters.mapstruct.jfr.MapperInvocationEventBeanPostProcessor;
+import com.codestackfoundry.starters.mapstruct.registry.MapperRegistry;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.javapoet.ClassName;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapStructAotTest {
+
+    private static final String SAMPLE_MAPPER_IMPL = SampleMapper.class.getName() + "Impl";
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    @Test
+    void generatesMapperRegistrationsAndRuntimeHintsAtBuildTime() {
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get(MapStructAotTest.class)), generatedFiles);
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        TestPropertyValues.of("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers")
+                .applyTo(context);
+        context.register(MapStructAutoConfiguration.class);
+
+        // set by Spring's AOT processor while the application is processed ahead of time
+        System.setProperty("spring.aot.processing", "true");
+        try {
+            new ApplicationContextAotGenerator().processAheadOfTime(context, generationContext);
+        } finally {
+            System.clearProperty("spring.aot.processing");
+        }
+        generationContext.writeGeneratedContent();
+
+        RuntimeHints hints = generationContext.getRuntimeHints();
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(SAMPLE_MAPPER_IMPL))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SampleMapper.class)).accepts(hints);
+
+        assertThat(generatedFiles.getGeneratedFiles(GeneratedFiles.Kind.SOURCE).values())
+                .anySatisfy(source -> assertThat(read(source)).contains("SampleMapperImpl"));
+    }
+
+    @Test
+    void refreshesGeneratedContextWithMapperBeansRecognized(@TempDir Path tempDir) throws Exception {
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get(MapStructAotTest.class)), generatedFiles);
+
+        AnnotationConfigApplicationContext buildContext = new AnnotationConfigApplicationContext();
+        TestPropertyValues.of("mapstruct.base-packages=" + BASE_PACKAGE).applyTo(buildContext);
+        buildContext.register(MapStructAutoConfiguration.class, AdvisingConfiguration.class);
+
+        ClassName initializer;
+        System.setProperty("spring.aot.processing", "true");
+        try {
+            initializer = new ApplicationContextAotGenerator().processAheadOfTime(buildContext, generationContext);
+        } finally {
+            System.clearProperty("spring.aot.processing");
+        }
+        generationContext.writeGeneratedContent();
+
+        Path classes = compile(generatedFiles, tempDir);
+        System.setProperty("spring.aot.enabled", "true");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                getClass().getClassLoader());
+             GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setClassLoader(classLoader);
+            @SuppressWarnings("unchecked")
+            ApplicationContextInitializer<GenericApplicationContext> contextInitializer =
+                    (ApplicationContextInitializer<GenericApplicationContext>) BeanUtils.instantiateClass(
+                            classLoader.loadClass(initializer.reflectionName()));
+            contextInitializer.initialize(context);
+            context.refresh();
+
+            SampleMapper mapper = context.getBean(SampleMapper.class);
+            assertThat(AopUtils.isAopProxy(mapper)).isTrue();
+            assertThat(context.getBean(MapperRegistry.class).canMap(SampleMapper.Source.class,
+                    SampleMapper.Target.class)).isTrue();
+            assertThat(context.getBean(MapperRegistry.class).map(new SampleMapper.Source("Ada"),
+                    SampleMapper.Target.class)).isEqualTo(new SampleMapper.Target("Ada"));
+
+            MapperRegistrationReport report = context.getBean(MapperRegistrationReport.class);
+            assertThat(report.isAheadOfTime()).isTrue();
+            assertThat(report.getBasePackages()).containsExactly(BASE_PACKAGE);
+            assertThat(report.getRegistrations())
+                    .anySatisfy(registration -> assertThat(registration.implementation()).isEqualTo(SAMPLE_MAPPER_IMPL));
+        } finally {
+            System.clearProperty("spring.aot.enabled");
+        }
+    }
+
+    private static Path compile(InMemoryGeneratedFiles generatedFiles, Path tempDir) throws IOException {
+        Path sources = Files.createDirectories(tempDir.resolve("sources"));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        List<File> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, InputStreamSource> source
+                : generatedFiles.getGeneratedFiles(GeneratedFiles.Kind.SOURCE).entrySet()) {
+            Path file = sources.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, read(source.getValue()));
+            sourceFiles.add(file.toFile());
+        }
+        for (GeneratedFiles.Kind kind : List.of(GeneratedFiles.Kind.RESOURCE, GeneratedFiles.Kind.CLASS)) {
+            for (Map.Entry<String, InputStreamSource> file : generatedFiles.getGeneratedFiles(kind).entrySet()) {
+                Path target = classes.resolve(file.getKey());
+                Files.createDirectories(target.getParent());
+                try (InputStream inputStream = file.getValue().getInputStream()) {
+                    Files.write(target, inputStream.readAllBytes());
+                }
+            }
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            boolean compiled = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString()),
+                    null, fileManager.getJavaFileObjectsFromFiles(sourceFiles)).call();
+            assertThat(compiled).as("generated sources compile: %s", diagnostics.getDiagnostics()).isTrue();
+        }
+        return classes;
+    }
+
+    private static String read(InputStreamSource source) {
+        try (InputStream inputStream = source.getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Applies an advising post-processor to the mapper beans. Public, so that the generated bean definitions,
+     * loaded by another class loader here, can invoke its factory method.
+     */
+    @Configuration(proxyBeanMethods = false)
+    public static class AdvisingConfiguration {
+
+        @Bean
+        public static MapperInvocationEventBeanPostProcessor mapperInvocationEventBeanPostProcessor() {
+            return new MapperInvocationEventBeanPostProcessor(Duration.ZERO);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.codestackfoundry.starters.mapstruct.autoconfig;
 
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.config.MapperRegistrationMode;
 import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.Mapper;
@@ -47,5 +49,72 @@ class MapStructAutoConfigurationTest {
                 });
     }
 
-}
+    @Test
+    void shouldRegisterMapperBeanWhenIndexIsDisabled() {
+        contextRunner
+                .withPropertyValues(
+                        "mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers",
+                        "mapstruct.index.enabled=false")
+                .run(context -> {
+                    assertThat(context).hasBean("sampleMapperImpl");
+                    assertThat(context).hasSingleBean(SampleMapper.class);
+                });
+    }
+
+    @Test
+    void shouldRegisterLazyMapperBeansWhenRegistrationModeIsLazy() {
+        contextRunner
+                .withPropertyValues(
+                        "mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers",
+                        "mapstruct.registration.mode=lazy")
+                .run(context -> {
+                    assertThat(context.getBeanFactory().getBeanDefinition("sampleMapperImpl").isLazyInit()).isTrue();
+                    assertThat(context.getBeanFactory().containsSingleton("sampleMapperImpl")).isFalse();
+                    assertThat(context.getBean(SampleMapper.class)).isNotNull();
+                });
+    }
+
+    @Test
+    void packageRegistrationModeOverridesDefaultMode() {
+        contextRunner
+                .withPropertyValues(
+                        "mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers",
+                        "mapstruct.registration.mode=lazy",
+                        "mapstruct.registration.package-modes[com.codestackfoundry.starters.mapstruct.test]=eager")
+                .run(context -> {
+                    assertThat(context.getBeanFactory().getBeanDefinition("sampleMapperImpl").isLazyInit()).isFalse();
+                    assertThat(context.getBeanFactory().containsSingleton("sampleMapperImpl")).isTrue();
+                });
+    }
 
+    @Test
+    void reportsRegistrationModeActuallyApplied() {
+        MapperRegistrationMode expected = MapStructProperties.Registration.isBackgroundInitSupported()
+                ? MapperRegistrationMode.BACKGROUND
+                : MapperRegistrationMode.EAGER;
+        contextRunner
+                .withPropertyValues(
+                        "mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers",
+                        "mapstruct.registration.mode=background")
+                .run(context -> {
+                    MapperRegistrationReport report = context.getBean(MapperRegistrationReport.class);
+                    assertThat(report.getRegistrations())
+                            .filteredOn(r -> r.beanName().equals("sampleMapperImpl"))
+                            .singleElement()
+                            .extracting(MapperRegistrationReport.Registration::mode)
+                            .isEqualTo(expected);
+                    assertThat(context.getBean(SampleMapper.class)).isNotNull();
+                });
+    }
+
+    @Test
+    void rejectsMarkerOnlyScanningWithIndexEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers",
+                        "mapstruct.scan.marker-only=true")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().hasMessageContaining("mapstruct.index.enabled=false"));
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.batch.MapperBatchExecutor;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperBatchExecutorMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapStructBatchAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructBatchAutoConfiguration.class));
+
+    @Test
+    void registersBatchExecutorAndMetrics() {
+        contextRunner.withPropertyValues("mapstruct.batch.parallelism=2", "mapstruct.batch.sequential-threshold=0")
+                .run(context -> {
+                    MapperBatchExecutor executor = context.getBean(MapperBatchExecutor.class);
+                    MeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean(MapperBatchExecutorMetrics.class).bindTo(registry);
+
+                    assertThat(executor.mapAll(List.of(1, 2), String::valueOf)).containsExactly("1", "2");
+                    assertThat(registry.get("mapstruct.batch.parallelism").gauge().value()).isEqualTo(2);
+                    assertThat(registry.get("executor.steals").tag("name", "mapstruct-batch").functionCounter())
+                            .isNotNull();
+                    assertThat(registry.get("mapstruct.batch.chunks.queued").gauge().value()).isZero();
+                    assertThat(registry.get("mapstruct.batch.batches").tag("mode", "sequential")
+                            .functionCounter().count()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void backsOffWhenDisabled() {
+        contextRunner.withPropertyValues("mapstruct.batch.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(MapperBatchExecutor.class));
+    }
+}
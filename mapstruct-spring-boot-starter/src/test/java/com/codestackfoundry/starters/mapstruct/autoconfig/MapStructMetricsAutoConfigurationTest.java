@@ -0,0 +1,101 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.test.inherited.FirstDescribingMapper;
+import com.codestackfoundry.starters.mapstruct.test.inherited.SecondDescribingMapper;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapStructMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class, MapStructMetricsAutoConfiguration.class))
+            .withBean(SimpleMeterRegistry.class)
+            .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers");
+
+    @Test
+    void mappersAreNotProxiedByDefault() {
+        contextRunner.run(context ->
+                assertThat(AopUtils.isAopProxy(context.getBean(SampleMapper.class))).isFalse());
+    }
+
+    @Test
+    void recordsInvocationsDurationsAndCollectionSizes() {
+        contextRunner.withPropertyValues("mapstruct.metrics.enabled=true").run(context -> {
+            SampleMapper mapper = context.getBean(SampleMapper.class);
+            mapper.map(new SampleMapper.Source("a"));
+            mapper.map(new SampleMapper.Source("b"));
+            mapper.mapAll(List.of(new SampleMapper.Source("c"), new SampleMapper.Source("d")));
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertThat(registry.get("mapstruct.mapper.invocations")
+                    .tags("mapper", SampleMapper.class.getName(), "method", "map").counter().count()).isEqualTo(2);
+            assertThat(registry.get("mapstruct.mapper.duration")
+                    .tags("mapper", SampleMapper.class.getName(), "method", "map").timer().count()).isEqualTo(2);
+            assertThat(registry.get("mapstruct.mapper.collection.size")
+                    .tags("method", "mapAll").summary().totalAmount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void timesOnlySampledInvocations() {
+        contextRunner.withPropertyValues("mapstruct.metrics.enabled=true", "mapstruct.metrics.sample-rate=0").run(context -> {
+            context.getBean(SampleMapper.class).map(new SampleMapper.Source("a"));
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertThat(registry.get("mapstruct.mapper.invocations").tags("method", "map").counter().count()).isEqualTo(1);
+            assertThat(registry.get("mapstruct.mapper.duration").tags("method", "map").timer().count()).isZero();
+        });
+    }
+
+    @Test
+    void recordsAllocatedBytesOfSampledInvocations() {
+        contextRunner.withPropertyValues("mapstruct.metrics.enabled=true", "mapstruct.metrics.allocations=true")
+                .run(context -> {
+                    context.getBean(SampleMapper.class).mapAll(List.of(new SampleMapper.Source("a")));
+
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    assertThat(registry.get("mapstruct.mapper.allocated").tags("method", "mapAll").summary())
+                            .satisfies(summary -> {
+                                assertThat(summary.count()).isEqualTo(1);
+                                assertThat(summary.totalAmount()).isPositive();
+                            });
+                });
+    }
+
+    @Test
+    void doesNotRecordAllocationsByDefault() {
+        contextRunner.withPropertyValues("mapstruct.metrics.enabled=true").run(context -> {
+            context.getBean(SampleMapper.class).map(new SampleMapper.Source("a"));
+
+            assertThat(context.getBean(MeterRegistry.class).find("mapstruct.mapper.allocated").summary()).isNull();
+        });
+    }
+
+    @Test
+    void tagsInheritedMethodsWithTheInvokedMapper() {
+        contextRunner.withPropertyValues("mapstruct.metrics.enabled=true",
+                        "mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.inherited")
+                .run(context -> {
+                    context.getBean(FirstDescribingMapper.class).describe(new SampleMapper.Source("a"));
+                    context.getBean(SecondDescribingMapper.class).describe(new SampleMapper.Source("b"));
+                    context.getBean(SecondDescribingMapper.class).describe(new SampleMapper.Source("c"));
+
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    assertThat(registry.get("mapstruct.mapper.invocations")
+                            .tags("mapper", FirstDescribingMapper.class.getName(), "method", "describe")
+                            .counter().count()).isEqualTo(1);
+                    assertThat(registry.get("mapstruct.mapper.invocations")
+                            .tags("mapper", SecondDescribingMapper.class.getName(), "method", "describe")
+                            .counter().count()).isEqualTo(2);
+                });
+    }
+}
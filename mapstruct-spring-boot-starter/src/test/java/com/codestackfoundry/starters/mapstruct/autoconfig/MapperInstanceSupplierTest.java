@@ -0,0 +1,113 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperInstanceSupplierTest {
+
+    private static final int MAPPER_COUNT = 300;
+
+    /**
+     * Every n-th generated mapper takes the previous mapper as a constructor argument,
+     * like a mapper that {@code uses} another one.
+     */
+    private static final int DEPENDENCY_INTERVAL = 5;
+
+    private static final String PACKAGE = "com.codestackfoundry.starters.mapstruct.generated";
+
+    @TempDir
+    static Path classesDir;
+
+    private static ClassLoader mapperClassLoader;
+
+    @BeforeAll
+    static void generateMappers() throws IOException {
+        Path sourceDir = Files.createDirectories(classesDir.resolve("src").resolve(PACKAGE.replace('.', '/')));
+        List<String> arguments = new ArrayList<>(List.of("-d", classesDir.toString()));
+        for (int i = 0; i < MAPPER_COUNT; i++) {
+            Path source = sourceDir.resolve(implName(i) + ".java");
+            Files.writeString(source, source(i));
+            arguments.add(source.toString());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertThat(compiler.run(null, null, null, arguments.toArray(String[]::new))).isZero();
+        mapperClassLoader = new URLClassLoader(new URL[] {classesDir.toUri().toURL()}, MapperInstanceSupplierTest.class.getClassLoader());
+    }
+
+    @Test
+    void instantiatesMappersWithAndWithoutConstructorDependencies() {
+        DefaultListableBeanFactory beanFactory = createBeanFactory(MapStructImplRegistrar::mapperBeanDefinition);
+        beanFactory.preInstantiateSingletons();
+
+        Object dependent = beanFactory.getBean(beanName(DEPENDENCY_INTERVAL));
+        Object dependency = beanFactory.getBean(beanName(DEPENDENCY_INTERVAL - 1));
+        assertThat(dependent).hasFieldOrPropertyWithValue("dependency", dependency);
+        assertThat(beanFactory.getDependentBeans(beanName(DEPENDENCY_INTERVAL - 1))).contains(beanName(DEPENDENCY_INTERVAL));
+        assertThat(beanFactory.getBean(beanName(1)).getClass().getName()).isEqualTo(PACKAGE + "." + implName(1));
+    }
+
+    private static DefaultListableBeanFactory createBeanFactory(Function<String, AbstractBeanDefinition> definitions) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setBeanClassLoader(mapperClassLoader);
+        for (int i = 0; i < MAPPER_COUNT; i++) {
+            beanFactory.registerBeanDefinition(beanName(i), definitions.apply(PACKAGE + "." + implName(i)));
+        }
+        return beanFactory;
+    }
+
+    private static String source(int i) {
+        String body = i > 0 && i % DEPENDENCY_INTERVAL == 0
+                ? """
+                    private final %1$s dependency;
+
+                    public %2$s(%1$s dependency) {
+                        this.dependency = dependency;
+                    }
+
+                    public %1$s getDependency() {
+                        return dependency;
+                    }
+                """.formatted(implName(i - 1), implName(i))
+                : """
+                    private String prefix = "";
+
+                    public void setPrefix(String prefix) {
+                        this.prefix = prefix;
+                    }
+                """;
+        return """
+                package %s;
+
+                public class %s {
+                %s
+                    public String map(String source) {
+                        return source;
+                    }
+                }
+                """.formatted(PACKAGE, implName(i), body);
+    }
+
+    private static String implName(int i) {
+        return "GeneratedMapper" + i + "Impl";
+    }
+
+    private static String beanName(int i) {
+        return "generatedMapper" + i + "Impl";
+    }
+}
@@ -0,0 +1,82 @@
+package com.codestackfoundry.starters.mapstruct.autoconfig;
+
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperScanRunListenerTest {
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    @Test
+    void registrarJoinsScanStartedBeforeRefresh() {
+        try (ConfigurableApplicationContext context = run("--mapstruct.base-packages=" + BASE_PACKAGE)) {
+            assertThat(context.getBeanFactory().containsSingleton(EarlyMapperScan.BEAN_NAME)).isTrue();
+            assertThat(context.getBean(SampleMapper.class)).isNotNull();
+        }
+    }
+
+    @Test
+    void scansInlineWhenEarlyScanIsDisabled() {
+        try (ConfigurableApplicationContext context = run("--mapstruct.base-packages=" + BASE_PACKAGE,
+                "--mapstruct.scan.early=false")) {
+            assertThat(context.getBeanFactory().containsSingleton(EarlyMapperScan.BEAN_NAME)).isFalse();
+            assertThat(context.getBean(SampleMapper.class)).isNotNull();
+        }
+    }
+
+    @Test
+    void doesNotScanWhenAutoConfigurationIsExcludedByProperty() {
+        try (ConfigurableApplicationContext context = run("--mapstruct.base-packages=" + BASE_PACKAGE,
+                "--spring.autoconfigure.exclude=" + MapStructAutoConfiguration.class.getName())) {
+            assertThat(context.getBeanFactory().containsSingleton(EarlyMapperScan.BEAN_NAME)).isFalse();
+        }
+    }
+
+    @Test
+    void doesNotScanWhenAutoConfigurationIsExcludedByAnnotation() {
+        SpringApplication application = new SpringApplication(ExcludingApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = application.run("--mapstruct.base-packages=" + BASE_PACKAGE)) {
+            assertThat(context.getBeanFactory().containsSingleton(EarlyMapperScan.BEAN_NAME)).isFalse();
+            assertThat(context.getBeanNamesForType(SampleMapper.class)).isEmpty();
+        }
+    }
+
+    @Test
+    void earlyScanIsDiscardedWhenConfigurationChanged() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        EarlyMapperScan scan = EarlyMapperScan.start(List.of(BASE_PACKAGE), List.of(BASE_PACKAGE),
+                new MapStructProperties(), classLoader);
+
+        assertThat(scan.join(List.of("com.codestackfoundry.other"), classLoader)).isNull();
+        assertThat(scan.join(List.of(BASE_PACKAGE), new ClassLoader(classLoader) { })).isNull();
+        assertThat(scan.join(List.of(BASE_PACKAGE), classLoader)).containsKey(BASE_PACKAGE);
+    }
+
+    private static ConfigurableApplicationContext run(String... args) {
+        SpringApplication application = new SpringApplication(TestApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        return application.run(args);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Import(MapStructAutoConfiguration.class)
+    static class TestApplication {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration(exclude = MapStructAutoConfiguration.class)
+    static class ExcludingApplication {
+    }
+}
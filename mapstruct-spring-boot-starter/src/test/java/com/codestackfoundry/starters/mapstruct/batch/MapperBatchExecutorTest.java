@@ -0,0 +1,103 @@
+package com.codestackfoundry.starters.mapstruct.batch;
+
+import com.codestackfoundry.starters.mapstruct.config.BatchExecutorType;
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class MapperBatchExecutorTest {
+
+    @Test
+    void mapsLargeInputsInParallelChunksPreservingOrder() {
+        List<Integer> sources = IntStream.range(0, 50_000).boxed().toList();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        try (MapperBatchExecutor executor = new MapperBatchExecutor(settings(BatchExecutorType.FORK_JOIN))) {
+            List<String> results = executor.mapAll(sources, source -> {
+                threads.add(Thread.currentThread().getName());
+                return "#" + source;
+            });
+
+            assertThat(results).containsExactlyElementsOf(sources.stream().map(source -> "#" + source).toList());
+            assertThat(threads).hasSizeGreaterThan(1).anyMatch(name -> name.startsWith("mapstruct-batch-"));
+            assertThat(executor.getParallelBatches()).isEqualTo(1);
+            assertThat(executor.getQueuedChunks()).isZero();
+            assertThat(executor.getActiveChunks()).isZero();
+        }
+    }
+
+    @Test
+    void mapsSmallInputsOnCallingThread() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        try (MapperBatchExecutor executor = new MapperBatchExecutor(settings(BatchExecutorType.FORK_JOIN))) {
+            List<Integer> results = executor.mapAll(Set.of(1, 2, 3), source -> {
+                threads.add(Thread.currentThread().getName());
+                return source * 2;
+            });
+
+            assertThat(results).containsExactlyInAnyOrder(2, 4, 6);
+            assertThat(threads).containsExactly(Thread.currentThread().getName());
+            assertThat(executor.getSequentialBatches()).isEqualTo(1);
+            assertThat(executor.getParallelBatches()).isZero();
+        }
+    }
+
+    @Test
+    void rethrowsMapperExceptions() {
+        List<Integer> sources = IntStream.range(0, 10_000).boxed().toList();
+
+        try (MapperBatchExecutor executor = new MapperBatchExecutor(settings(BatchExecutorType.FORK_JOIN))) {
+            assertThatIllegalStateException().isThrownBy(() -> executor.mapAll(sources, source -> {
+                if (source == 9_999) {
+                    throw new IllegalStateException("unmappable " + source);
+                }
+                return source;
+            })).withMessage("unmappable 9999");
+        }
+    }
+
+    @Test
+    void usesVirtualThreadsWhenAvailable() {
+        BatchExecutorType expected = Runtime.version().feature() >= 21
+                ? BatchExecutorType.VIRTUAL_THREADS
+                : BatchExecutorType.FORK_JOIN;
+        List<Integer> sources = IntStream.range(0, 10_000).boxed().toList();
+
+        try (MapperBatchExecutor executor = new MapperBatchExecutor(settings(BatchExecutorType.VIRTUAL_THREADS))) {
+            assertThat(executor.getExecutorType()).isEqualTo(expected);
+            assertThat(executor.mapAll(sources, source -> source + 1)).first().isEqualTo(1);
+        }
+    }
+
+    @Test
+    void mapsPagesKeepingPagingInformation() {
+        Page<Integer> page = new PageImpl<>(IntStream.range(0, 5_000).boxed().toList(), PageRequest.of(2, 5_000), 20_000);
+
+        try (MapperBatchExecutor executor = new MapperBatchExecutor(settings(BatchExecutorType.FORK_JOIN))) {
+            Page<String> mapped = MapperBatchPages.map(executor, page, String::valueOf);
+
+            assertThat(mapped.getContent()).hasSize(5_000).startsWith("0", "1", "2");
+            assertThat(mapped.getPageable()).isEqualTo(page.getPageable());
+            assertThat(mapped.getTotalElements()).isEqualTo(20_000);
+        }
+    }
+
+    private static MapStructProperties.Batch settings(BatchExecutorType executorType) {
+        MapStructProperties.Batch settings = new MapStructProperties.Batch();
+        settings.setExecutor(executorType);
+        settings.setParallelism(4);
+        settings.setMinChunkSize(100);
+        return settings;
+    }
+}
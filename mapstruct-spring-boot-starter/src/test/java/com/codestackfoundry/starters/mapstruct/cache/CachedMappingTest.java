@@ -0,0 +1,153 @@
+package com.codestackfoundry.starters.mapstruct.cache;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructCacheAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.metrics.MapperCacheMetrics;
+import com.codestackfoundry.starters.mapstruct.test.cached.CountryMapper;
+import com.codestackfoundry.starters.mapstruct.test.cached.CountryMapper.Country;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedMappingTest {
+
+    private static final Country FRANCE = new Country("FR", "France");
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class, MapStructCacheAutoConfiguration.class))
+            .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.cached");
+
+    @Test
+    void returnsCachedResultForSameSource() {
+        contextRunner.run(context -> {
+            CountryMapper mapper = context.getBean(CountryMapper.class);
+
+            assertThat(AopUtils.isAopProxy(mapper)).isTrue();
+            assertThat(mapper.toDto(FRANCE)).isSameAs(mapper.toDto(FRANCE));
+            assertThat(mapper.toDto(new Country("FR", "France"))).isNotSameAs(mapper.toDto(FRANCE));
+            assertThat(mapper.toDtoUncached(FRANCE)).isNotSameAs(mapper.toDtoUncached(FRANCE));
+        });
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedResultsBeyondMaxSize() {
+        contextRunner.run(context -> {
+            CountryMapper mapper = context.getBean(CountryMapper.class);
+            Country germany = new Country("DE", "Germany");
+            Country italy = new Country("IT", "Italy");
+
+            mapper.toDto(FRANCE);
+            mapper.toDto(germany);
+            mapper.toDto(italy);
+            mapper.toDto(italy);
+
+            MappingCache cache = cache(context.getBean(MapperCacheManager.class), "toDto");
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.getEvictionCount()).isEqualTo(1);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void keysByIdAndExpiresAfterTimeToLive() {
+        contextRunner.run(context -> {
+            CountryMapper mapper = context.getBean(CountryMapper.class);
+            CountryMapper.CountryDto first = mapper.toDtoById(FRANCE);
+
+            assertThat(mapper.toDtoById(new Country("FR", "France"))).isSameAs(first);
+            Thread.sleep(300);
+            assertThat(mapper.toDtoById(FRANCE)).isNotSameAs(first);
+            assertThat(mapper.toDtoById(new Country(null, "Nowhere")))
+                    .isNotSameAs(mapper.toDtoById(new Country(null, "Nowhere")));
+        });
+    }
+
+    @Test
+    void keysByIdIgnoringProxyClasses() {
+        MappingCache cache = new MappingCache(CountryMapper.class, "toDtoById", CachedMapping.Key.ID, 10, Long.MAX_VALUE);
+        City city = new City("PAR");
+        ProxyFactory proxyFactory = new ProxyFactory(city);
+        proxyFactory.setProxyTargetClass(true);
+        Object proxy = proxyFactory.getProxy();
+
+        assertThat(proxy.getClass()).isNotEqualTo(City.class);
+        assertThat(cache.keyFor(proxy)).isEqualTo(cache.keyFor(city));
+    }
+
+    @Test
+    void spreadsLargeCachesOverSegmentsWithinMaxSize() {
+        MappingCache cache = new MappingCache(CountryMapper.class, "toDto", CachedMapping.Key.IDENTITY, 1_000, Long.MAX_VALUE);
+        for (int i = 0; i < 5_000; i++) {
+            Object source = new Object();
+            cache.put(cache.keyFor(source), i);
+        }
+
+        assertThat(cache.size()).isEqualTo(1_000);
+        assertThat(cache.getEvictionCount()).isEqualTo(4_000);
+    }
+
+    @Test
+    void invalidatesExplicitly() {
+        contextRunner.run(context -> {
+            CountryMapper mapper = context.getBean(CountryMapper.class);
+            MapperCacheManager cacheManager = context.getBean(MapperCacheManager.class);
+            CountryMapper.CountryDto first = mapper.toDto(FRANCE);
+            mapper.toDtoById(FRANCE);
+
+            assertThat(cacheManager.invalidate(FRANCE)).isTrue();
+            assertThat(mapper.toDto(FRANCE)).isNotSameAs(first);
+
+            cacheManager.invalidate(CountryMapper.class);
+            assertThat(cacheManager.getCaches()).allMatch(cache -> cache.size() == 0);
+        });
+    }
+
+    @Test
+    void exposesCacheMetrics() {
+        contextRunner.run(context -> {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean(MapperCacheMetrics.class).bindTo(registry);
+            CountryMapper mapper = context.getBean(CountryMapper.class);
+            mapper.toDto(FRANCE);
+            mapper.toDto(FRANCE);
+
+            assertThat(registry.get("mapstruct.mapper.cache.gets")
+                    .tags("mapper", CountryMapper.class.getName(), "method", "toDto", "result", "hit")
+                    .functionCounter().count()).isEqualTo(1);
+            assertThat(registry.get("mapstruct.mapper.cache.size").tags("method", "toDto").gauge().value()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void leavesMappersUnproxiedWhenDisabled() {
+        contextRunner.withPropertyValues("mapstruct.cache.enabled=false").run(context ->
+                assertThat(AopUtils.isAopProxy(context.getBean(CountryMapper.class))).isFalse());
+    }
+
+    public static class City {
+
+        private final String id;
+
+        public City(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    private static MappingCache cache(MapperCacheManager cacheManager, String methodName) {
+        return cacheManager.getCaches().stream()
+                .filter(cache -> cache.getMethodName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,114 @@
+package com.codestackfoundry.starters.mapstruct.context;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructCycleTrackingAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.test.cycles.FamilyMapper;
+import com.codestackfoundry.starters.mapstruct.test.cycles.FamilyMapper.Child;
+import com.codestackfoundry.starters.mapstruct.test.cycles.FamilyMapper.Parent;
+import com.codestackfoundry.starters.mapstruct.test.cycles.FamilyMapper.ParentDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class CycleTrackingContextTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class,
+                    MapStructCycleTrackingAutoConfiguration.class))
+            .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.cycles");
+
+    @Test
+    void tracksObjectsByIdentityAcrossResizes() {
+        CycleTrackingContext context = new CycleTrackingContext();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String key = new String("key");
+            keys.add(key);
+            context.put(key, i);
+        }
+
+        assertThat(context.size()).isEqualTo(1000);
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(context.get(keys.get(i))).isEqualTo(i);
+        }
+        assertThat(context.get(new String("key"))).isNull();
+        assertThat(context.get(null)).isNull();
+    }
+
+    @Test
+    void clearForgetsTrackedObjects() {
+        CycleTrackingContext context = new CycleTrackingContext();
+        Object key = new Object();
+        context.put(key, "value");
+        context.clear();
+
+        assertThat(context.size()).isZero();
+        assertThat(context.get(key)).isNull();
+    }
+
+    @Test
+    void returnsMappedInstanceOnlyForMatchingTargetType() {
+        CycleTrackingContext context = new CycleTrackingContext();
+        Object source = new Object();
+        context.storeMappedInstance(source, "target");
+
+        assertThat(context.getMappedInstance(source, String.class)).isEqualTo("target");
+        assertThat(context.getMappedInstance(source, Integer.class)).isNull();
+    }
+
+    @Test
+    void reusesReleasedContexts() {
+        CycleTrackingContext context = CycleTrackingContext.acquire();
+        context.put(new Object(), "value");
+        context.close();
+
+        CycleTrackingContext reused = CycleTrackingContext.acquire();
+        try {
+            assertThat(reused).isSameAs(context);
+            assertThat(reused.size()).isZero();
+        }
+        finally {
+            reused.close();
+        }
+        assertThatIllegalStateException().isThrownBy(reused::close);
+    }
+
+    @Test
+    void suppliesPooledContextToMapperBeans() {
+        contextRunner.run(context -> {
+            FamilyMapper mapper = context.getBean(FamilyMapper.class);
+            Parent parent = new Parent();
+            parent.setName("parent");
+            for (String name : List.of("first", "second")) {
+                Child child = new Child();
+                child.setName(name);
+                child.setParent(parent);
+                parent.getChildren().add(child);
+            }
+            CycleTrackingStatistics statistics = CycleTrackingContext.statistics();
+            long graphs = statistics.getGraphs();
+
+            ParentDto dto = mapper.toDto(parent, null);
+
+            assertThat(dto.getChildren()).hasSize(2)
+                    .allSatisfy(child -> assertThat(child.getParent()).isSameAs(dto));
+            assertThat(statistics.getGraphs()).isEqualTo(graphs + 1);
+            assertThat(statistics.getMaxGraphSize()).isGreaterThanOrEqualTo(3);
+        });
+    }
+
+    @Test
+    void doesNotProxyMappersWhenDisabled() {
+        contextRunner.withPropertyValues("mapstruct.cycle-context.enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(CycleTrackingContextBeanPostProcessor.class);
+            assertThat(AopUtils.isAopProxy(context.getBean(FamilyMapper.class))).isFalse();
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.codestackfoundry.starters.mapstruct.conversion;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructConversionAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.test.cached.CountryMapper;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper.Source;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperConversionTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class,
+                    MapStructConversionAutoConfiguration.class))
+            .withBean("conversionService", ConversionService.class, DefaultConversionService::new)
+            .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers");
+
+    @Test
+    void convertsWithMapperMethods() {
+        contextRunner.withPropertyValues("mapstruct.conversion.enabled=true").run(context -> {
+            ConversionService conversionService = context.getBean(ConversionService.class);
+
+            assertThat(conversionService.canConvert(Source.class, Target.class)).isTrue();
+            assertThat(conversionService.convert(new Source("a"), Target.class)).isEqualTo(new Target("a"));
+            assertThat(conversionService.canConvert(Target.class, Source.class)).isFalse();
+        });
+    }
+
+    @Test
+    void leavesConversionServicesUntouchedByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(MapperConverterRegistryPostProcessor.class);
+            assertThat(context.getBean(ConversionService.class).canConvert(Source.class, Target.class)).isFalse();
+        });
+    }
+
+    @Test
+    void skipsAmbiguousTypePairs() {
+        contextRunner
+                .withPropertyValues("mapstruct.conversion.enabled=true",
+                        "mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.cached")
+                .run(context -> assertThat(context.getBean(ConversionService.class).canConvert(
+                        CountryMapper.Country.class, CountryMapper.CountryDto.class)).isFalse());
+    }
+}
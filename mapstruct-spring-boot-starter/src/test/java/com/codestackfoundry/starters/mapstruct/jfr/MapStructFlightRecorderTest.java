@@ -0,0 +1,101 @@
+package com.codestackfoundry.starters.mapstruct.jfr;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructJfrAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapStructFlightRecorderTest {
+
+    private static final String PREFIX = "com.codestackfoundry.mapstruct.";
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    private static final List<String> EVENTS = List.of("BasePackageResolution", "MapperIndexLookup",
+            "ClasspathScan", "ClasspathRootScan", "MapperRegistration", "MapperInvocation");
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class, MapStructJfrAutoConfiguration.class))
+            .withPropertyValues("mapstruct.base-packages=" + BASE_PACKAGE,
+                    "mapstruct.scan.shared=false");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordsDiscoveryAndRegistration() throws Exception {
+        List<RecordedEvent> events = record(contextRunner.withPropertyValues("mapstruct.index.enabled=false"));
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .contains(PREFIX + "BasePackageResolution", PREFIX + "ClasspathScan",
+                        PREFIX + "ClasspathRootScan", PREFIX + "MapperRegistration")
+                .doesNotContain(PREFIX + "MapperIndexLookup", PREFIX + "MapperInvocation");
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals(PREFIX + "MapperRegistration"))
+                .singleElement().satisfies(event -> assertThat(event.getInt("registered")).isEqualTo(1));
+    }
+
+    @Test
+    void recordsIndexLookup() throws Exception {
+        List<RecordedEvent> events = record(contextRunner);
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .doesNotContain(PREFIX + "ClasspathScan", PREFIX + "ClasspathRootScan");
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals(PREFIX + "MapperIndexLookup"))
+                .singleElement().satisfies(event -> {
+                    assertThat(event.getString("basePackage")).isEqualTo(BASE_PACKAGE);
+                    assertThat(event.getInt("implementations")).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void recordsInvocationsSlowerThanThreshold() throws Exception {
+        List<RecordedEvent> events = record(contextRunner.withPropertyValues(
+                "mapstruct.jfr.invocation-events=true", "mapstruct.jfr.invocation-threshold=0ms"));
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals(PREFIX + "MapperInvocation"))
+                .singleElement().satisfies(event -> {
+                    assertThat(event.getString("mapper")).isEqualTo(SampleMapper.class.getName());
+                    assertThat(event.getString("method")).isEqualTo("map");
+                    assertThat(event.getString("sourceType")).isEqualTo(SampleMapper.Source.class.getName());
+                });
+    }
+
+    @Test
+    void skipsInvocationsFasterThanThreshold() throws Exception {
+        List<RecordedEvent> events = record(contextRunner.withPropertyValues(
+                "mapstruct.jfr.invocation-events=true", "mapstruct.jfr.invocation-threshold=1h"));
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .doesNotContain(PREFIX + "MapperInvocation");
+    }
+
+    @Test
+    void leavesMappersUnproxiedByDefault() {
+        contextRunner.run(context ->
+                assertThat(AopUtils.isAopProxy(context.getBean(SampleMapper.class))).isFalse());
+    }
+
+    private List<RecordedEvent> record(ApplicationContextRunner runner) throws Exception {
+        Path file = dir.resolve("mapstruct.jfr");
+        try (Recording recording = new Recording()) {
+            EVENTS.forEach(event -> recording.enable(PREFIX + event));
+            recording.start();
+            runner.run(context -> context.getBean(SampleMapper.class).map(new SampleMapper.Source("a")));
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
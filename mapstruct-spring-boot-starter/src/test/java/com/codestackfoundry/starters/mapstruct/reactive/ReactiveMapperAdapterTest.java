@@ -0,0 +1,130 @@
+package com.codestackfoundry.starters.mapstruct.reactive;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructReactiveAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.config.MapStructProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveMapperAdapterTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private static final int PARALLELISM = 4;
+
+    private static final int PREFETCH = 50;
+
+    private static final Duration MAX_BATCH_DELAY = Duration.ofMillis(20);
+
+    private final ReactiveMapperAdapter adapter = new ReactiveMapperAdapter(settings());
+
+    @AfterEach
+    void closeAdapter() {
+        adapter.close();
+    }
+
+    @Test
+    void mapsFluxInBatchesOnSchedulerPreservingOrder() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> sources = IntStream.range(0, 1_000).boxed().toList();
+
+        List<String> results = Flux.fromIterable(sources)
+                .transform(adapter.<Integer, String>adapt(source -> {
+                    threads.add(Thread.currentThread().getName());
+                    return "#" + source;
+                }))
+                .collectList()
+                .block();
+
+        assertThat(results).containsExactlyElementsOf(sources.stream().map(source -> "#" + source).toList());
+        assertThat(threads).allMatch(name -> name.startsWith("mapstruct-reactive"));
+    }
+
+    @Test
+    void requestsSourceInBatchesUnderBackpressure() {
+        AtomicLong requested = new AtomicLong();
+        Flux<Integer> source = Flux.range(0, 10_000).doOnRequest(n -> requested.addAndGet(n));
+
+        StepVerifier.create(adapter.map(source, Function.identity()), 0)
+                .thenRequest(5)
+                .expectNext(0, 1, 2, 3, 4)
+                .thenCancel()
+                .verify();
+
+        assertThat(requested.get()).isLessThanOrEqualTo(4L * BATCH_SIZE * PARALLELISM);
+    }
+
+    @Test
+    void pullsStreamsWithBoundedPrefetch() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> endless = Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet());
+
+        List<Integer> results = adapter.mapStream(endless, i -> i * 2).take(100).collectList().block();
+
+        assertThat(results).hasSize(100).startsWith(0, 2, 4);
+        assertThat(pulled.get()).isLessThanOrEqualTo(100 + 2 * PREFETCH + 4 * BATCH_SIZE * PARALLELISM);
+    }
+
+    @Test
+    void propagatesMapperErrors() {
+        StepVerifier.create(adapter.map(Flux.range(0, 100), i -> {
+                    if (i == 42) {
+                        throw new IllegalStateException("unmappable " + i);
+                    }
+                    return i;
+                }))
+                .thenConsumeWhile(i -> i < 40)
+                .expectErrorMessage("unmappable 42")
+                .verify();
+    }
+
+    @Test
+    void dropsNullResults() {
+        StepVerifier.create(adapter.map(Flux.range(0, 10), i -> i % 2 == 0 ? null : i))
+                .expectNext(1, 3, 5, 7, 9)
+                .verifyComplete();
+    }
+
+    @Test
+    void emitsPartialBatchesAfterMaxBatchDelay() {
+        StepVerifier.create(adapter.map(Flux.just(1, 2, 3).concatWith(Flux.never()), i -> i * 2))
+                .expectNext(2, 4, 6)
+                .expectNoEvent(MAX_BATCH_DELAY)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void isAutoConfiguredWhenEnabled() {
+        ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(MapStructReactiveAutoConfiguration.class));
+
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(ReactiveMapperAdapter.class));
+        contextRunner.withPropertyValues("mapstruct.reactive.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(ReactiveMapperAdapter.class));
+    }
+
+    private static MapStructProperties.Reactive settings() {
+        MapStructProperties.Reactive settings = new MapStructProperties.Reactive();
+        settings.setBatchSize(BATCH_SIZE);
+        settings.setMaxBatchDelay(MAX_BATCH_DELAY);
+        settings.setParallelism(PARALLELISM);
+        settings.setPrefetch(PREFETCH);
+        return settings;
+    }
+}
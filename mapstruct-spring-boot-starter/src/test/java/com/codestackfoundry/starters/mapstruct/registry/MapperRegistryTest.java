@@ -0,0 +1,108 @@
+package com.codestackfoundry.starters.mapstruct.registry;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.test.cached.CountryMapper;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper.Source;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class MapperRegistryTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class))
+            .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers");
+
+    @Test
+    void mapsBySourceAndTargetType() {
+        contextRunner.run(context -> {
+            MapperRegistry registry = context.getBean(MapperRegistry.class);
+
+            assertThat(registry.map(new Source("a"), Target.class)).isEqualTo(new Target("a"));
+            assertThat(registry.map(null, Target.class)).isNull();
+            assertThat(registry.mapAll(List.of(new Source("a"), new Source("b")), Target.class))
+                    .containsExactly(new Target("a"), new Target("b"));
+            assertThat(registry.canMap(Source.class, Target.class)).isTrue();
+            assertThat(registry.findMethod(Source.class, Target.class)).get()
+                    .extracting(method -> method.getName()).isEqualTo("map");
+        });
+    }
+
+    @Test
+    void mapsToPrimitiveTargetTypes() {
+        contextRunner.withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.primitives")
+                .run(context -> {
+                    MapperRegistry registry = context.getBean(MapperRegistry.class);
+
+                    assertThat(registry.map(new Source("abc"), int.class)).isEqualTo(3);
+                    assertThat(registry.map(new Source("abc"), Integer.class)).isEqualTo(3);
+                    assertThat(registry.canMap(Source.class, int.class)).isTrue();
+                    assertThat(registry.findMethod(Source.class, int.class)).isPresent();
+                });
+    }
+
+    @Test
+    void rejectsUnknownTypePairs() {
+        contextRunner.run(context -> {
+            MapperRegistry registry = context.getBean(MapperRegistry.class);
+
+            assertThat(registry.canMap(Target.class, Source.class)).isFalse();
+            assertThatIllegalStateException().isThrownBy(() -> registry.map(new Target("a"), Source.class))
+                    .withMessageContaining("No mapper method maps");
+        });
+    }
+
+    @Test
+    void reportsAmbiguousTypePairs() {
+        contextRunner
+                .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.cached")
+                .run(context -> {
+                    MapperRegistry registry = context.getBean(MapperRegistry.class);
+
+                    assertThat(registry.canMap(CountryMapper.Country.class, CountryMapper.CountryDto.class)).isFalse();
+                    assertThatIllegalStateException().isThrownBy(() ->
+                                    registry.map(new CountryMapper.Country("FR", "France"), CountryMapper.CountryDto.class))
+                            .withMessageContaining("toDtoById");
+                });
+    }
+
+    @Test
+    void failsStartupOnAmbiguityWhenConfigured() {
+        contextRunner
+                .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.cached",
+                        "mapstruct.registry.fail-on-ambiguity=true")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void staticAccessorReturnsMapperBeanOfRunningContext() {
+        contextRunner.run(context ->
+                assertThat(MapperRegistry.getMapper(SampleMapper.class)).isSameAs(context.getBean(SampleMapper.class)));
+
+        assertThat(MapperRegistry.getMapper(SampleMapper.class)).isNotNull();
+    }
+
+    @Test
+    void staticAccessorIsScopedByClassLoader() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            contextRunner.withClassLoader(classLoader).run(context -> assertThat(MapperRegistry.getMapper(SampleMapper.class))
+                    .isNotSameAs(context.getBean(SampleMapper.class)));
+        }
+    }
+
+    @Test
+    void isNotRegisteredWhenDisabled() {
+        contextRunner.withPropertyValues("mapstruct.registry.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(MapperRegistry.class));
+    }
+}
@@ -0,0 +1,66 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasspathFilterTest {
+
+    private static final String TEST_PACKAGE = "com.codestackfoundry.starters.mapstruct.test";
+
+    private static final String BASE_PACKAGE = TEST_PACKAGE + ".mappers";
+
+    @Test
+    void extractsInnermostJarName() {
+        assertThat(ClasspathFilter.jarName("jar:file:/app/lib/shared-1.0.jar!/com/acme/")).isEqualTo("shared-1.0.jar");
+        assertThat(ClasspathFilter.jarName("jar:file:/app.jar!/BOOT-INF/lib/shared.jar!/com/acme/")).isEqualTo("shared.jar");
+        assertThat(ClasspathFilter.jarName("jar:nested:/app.jar/!BOOT-INF/lib/shared.jar!/com/acme/")).isEqualTo("shared.jar");
+        assertThat(ClasspathFilter.jarName("file:/app/classes/com/acme/")).isNull();
+    }
+
+    @Test
+    void skipsClassFilesInExcludedPackages() {
+        ClasspathFilter filter = ClasspathFilter.of(List.of(), List.of(), List.of(TEST_PACKAGE + ".naming.**"), false);
+
+        assertThat(filter.includesClassFile(TEST_PACKAGE, "mappers/SampleMapperImpl.class")).isTrue();
+        assertThat(filter.includesClassFile(TEST_PACKAGE, "naming/generated/CustomPackageMapperGenerated.class")).isFalse();
+        assertThat(scan(TEST_PACKAGE, filter).implementationClassNames())
+                .contains(BASE_PACKAGE + ".SampleMapperImpl")
+                .noneMatch(name -> name.startsWith(TEST_PACKAGE + ".naming."));
+    }
+
+    @Test
+    void skipsRootsOfExcludedPackageTrees() {
+        ClasspathFilter filter = ClasspathFilter.of(List.of(), List.of(), List.of(BASE_PACKAGE + ".**"), false);
+
+        assertThat(scan(BASE_PACKAGE, filter).hasAnyMappers()).isFalse();
+    }
+
+    @Test
+    void alwaysScansDirectoriesWhenRestrictingJars() {
+        ClasspathFilter filter = ClasspathFilter.of(List.of("no-such-*.jar"), List.of("*.jar"), List.of(), false);
+
+        assertThat(scan(BASE_PACKAGE, filter).implementationClassNames()).containsExactly(BASE_PACKAGE + ".SampleMapperImpl");
+    }
+
+    @Test
+    void markerOnlyScansEntriesWithMapperIndex() {
+        ClasspathFilter filter = ClasspathFilter.of(List.of(), List.of(), List.of(), true);
+
+        assertThat(scan(BASE_PACKAGE, filter).implementationClassNames()).containsExactly(BASE_PACKAGE + ".SampleMapperImpl");
+    }
+
+    @Test
+    void emptyFilterLetsEverythingThrough() {
+        assertThat(ClasspathFilter.of(List.of(), List.of(), List.of(), false).isNone()).isTrue();
+    }
+
+    private MapperScanResult scan(String basePackage, ClasspathFilter filter) {
+        Map<String, MapperScanResult> results = MapperScanUtils.findMapperImpls(List.of(basePackage),
+                getClass().getClassLoader(), MapperScanOptions.defaults().withFilter(filter));
+        return results.get(basePackage);
+    }
+}
@@ -0,0 +1,71 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperIndexTest {
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    void indexIsGeneratedForTestMappers() {
+        MapperIndex index = MapperIndex.load(classLoader);
+
+        assertThat(index.isEmpty()).isFalse();
+        assertThat(index.covers(BASE_PACKAGE)).isTrue();
+        assertThat(index.covers("com.codestackfoundry.unknown")).isFalse();
+    }
+
+    @Test
+    void indexedClasspathEntriesAreNotScanned() {
+        MapperIndex index = MapperIndex.load(classLoader);
+
+        assertThat(index.unindexedLocations(BASE_PACKAGE, classLoader)).isEmpty();
+        assertThat(index.findMapperImpls(BASE_PACKAGE, classLoader).implementationClassNames())
+                .containsExactly(SampleMapper.class.getName() + "Impl");
+        assertThat(MapperScanUtils.findMapperImpls(List.of(BASE_PACKAGE), classLoader,
+                MapperScanOptions.defaults().withIndex(index)).get(BASE_PACKAGE).hasAnyMappers()).isFalse();
+    }
+
+    @Test
+    void unindexedClasspathEntriesOfCoveredPackageAreScanned(@TempDir Path dir) throws IOException {
+        Path packageDir = dir.resolve(BASE_PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDir);
+        for (String className : List.of("SampleMapper", "SampleMapperImpl")) {
+            try (InputStream in = classLoader.getResourceAsStream(
+                    BASE_PACKAGE.replace('.', '/') + "/" + className + ".class")) {
+                Files.copy(in, packageDir.resolve(className + ".class"));
+            }
+        }
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, classLoader)) {
+            MapperIndex index = MapperIndex.load(loader);
+
+            assertThat(index.covers(BASE_PACKAGE)).isTrue();
+            assertThat(index.unindexedLocations(BASE_PACKAGE, loader))
+                    .singleElement().asString().startsWith(dir.toUri().toURL().toString());
+            assertThat(MapperScanUtils.findMapperImpls(List.of(BASE_PACKAGE), loader,
+                    MapperScanOptions.defaults().withIndex(index)).get(BASE_PACKAGE).implementationClassNames())
+                    .containsExactly(SampleMapper.class.getName() + "Impl");
+        }
+    }
+
+    @Test
+    void emptyIndexCoversNothing() {
+        assertThat(MapperIndex.empty().isEmpty()).isTrue();
+        assertThat(MapperIndex.empty().covers(BASE_PACKAGE)).isFalse();
+    }
+}
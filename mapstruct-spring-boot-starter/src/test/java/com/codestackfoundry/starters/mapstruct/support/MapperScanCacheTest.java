@@ -0,0 +1,89 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperScanCacheTest {
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void servesUnchangedRootsFromCache() {
+        MapperScanCache cache = new MapperScanCache(cacheDir);
+        List<Resource> roots = MapperScanUtils.findRoots(List.of(BASE_PACKAGE),
+                new PathMatchingResourcePatternResolver(getClass().getClassLoader()));
+        assertThat(roots).isNotEmpty();
+
+        MapperScanCache.Session first = cache.open(List.of(BASE_PACKAGE));
+        for (Resource root : roots) {
+            assertThat(first.get(root)).isNull();
+            first.put(new ClasspathRootScan(url(root), List.of(new ScannedType(
+                    BASE_PACKAGE + ".SampleMapperImpl", false, true, false, List.of(BASE_PACKAGE + ".SampleMapper"))), 42));
+        }
+        first.save();
+
+        MapperScanCache.Session second = cache.open(List.of(BASE_PACKAGE));
+        for (Resource root : roots) {
+            ClasspathRootScan cached = second.get(root);
+            assertThat(cached).isNotNull();
+            assertThat(cached.types()).extracting(ScannedType::className).containsExactly(BASE_PACKAGE + ".SampleMapperImpl");
+        }
+    }
+
+    @Test
+    void cachedScanProducesSameResultAsFreshScan() throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        MapperScanCache cache = new MapperScanCache(cacheDir);
+
+        Map<String, MapperScanResult> fresh = MapperScanUtils.findMapperImpls(List.of(BASE_PACKAGE), classLoader, options(cache));
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            assertThat(files).isNotEmpty();
+        }
+        Map<String, MapperScanResult> cached = MapperScanUtils.findMapperImpls(List.of(BASE_PACKAGE), classLoader, options(cache));
+
+        assertThat(cached).isEqualTo(fresh);
+        assertThat(cached.get(BASE_PACKAGE).implementationClassNames()).containsExactly(BASE_PACKAGE + ".SampleMapperImpl");
+    }
+
+    @Test
+    void ignoresCorruptCacheFile() throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        MapperScanCache cache = new MapperScanCache(cacheDir);
+        MapperScanUtils.findMapperImpls(List.of(BASE_PACKAGE), classLoader, options(cache));
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.toList()) {
+                Files.writeString(file, MapperScanCache.HEADER + "\nroot\tbroken");
+            }
+        }
+
+        Map<String, MapperScanResult> results = MapperScanUtils.findMapperImpls(List.of(BASE_PACKAGE), classLoader, options(cache));
+
+        assertThat(results.get(BASE_PACKAGE).hasAnyMappers()).isTrue();
+    }
+
+    private static MapperScanOptions options(MapperScanCache cache) {
+        return MapperScanOptions.defaults().withCache(cache);
+    }
+
+    private static String url(Resource root) {
+        try {
+            return root.getURL().toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
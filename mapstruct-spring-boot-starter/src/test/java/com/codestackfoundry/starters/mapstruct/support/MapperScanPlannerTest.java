@@ -0,0 +1,33 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperScanPlannerTest {
+
+    @Test
+    void collapsesDuplicateAndNestedPackages() {
+        List<String> scanPackages = MapperScanPlanner.collapse(
+                List.of("com.acme.billing.mapper", "com.acme", "com.shared", "com.acme", "com.acme.billing"));
+
+        assertThat(scanPackages).containsExactly("com.acme", "com.shared");
+    }
+
+    @Test
+    void keepsSiblingPackagesWithCommonPrefix() {
+        List<String> scanPackages = MapperScanPlanner.collapse(List.of("com.acme", "com.acmecorp"));
+
+        assertThat(scanPackages).containsExactly("com.acme", "com.acmecorp");
+    }
+
+    @Test
+    void ignoresNullAndBlankPackages() {
+        List<String> scanPackages = MapperScanPlanner.collapse(Arrays.asList("com.acme", null, " ", "", "com.shared"));
+
+        assertThat(scanPackages).containsExactly("com.acme", "com.shared");
+    }
+}
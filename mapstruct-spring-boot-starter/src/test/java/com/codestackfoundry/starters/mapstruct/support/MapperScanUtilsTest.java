@@ -0,0 +1,123 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperScanUtilsTest {
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    private static final String NAMING_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.naming";
+
+    @Test
+    void findsGeneratedImplementationByName() {
+        MapperScanResult result = MapperScanUtils.findMapperImpls(BASE_PACKAGE, getClass().getClassLoader());
+
+        assertThat(result.hasAnyMappers()).isTrue();
+        assertThat(result.implementationClassNames())
+                .containsExactly("com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapperImpl");
+    }
+
+    @Test
+    void splitsSinglePassResultPerRequestedPackage() {
+        Map<String, MapperScanResult> results = MapperScanUtils.findMapperImpls(
+                List.of("com.codestackfoundry.starters.mapstruct", BASE_PACKAGE, "com.codestackfoundry.unknown"),
+                getClass().getClassLoader(), MapperScanOptions.defaults().withParallelism(4));
+
+        assertThat(results).containsOnlyKeys("com.codestackfoundry.starters.mapstruct", BASE_PACKAGE,
+                "com.codestackfoundry.unknown");
+        assertThat(results.get("com.codestackfoundry.starters.mapstruct").implementationClassNames())
+                .containsExactlyInAnyOrder(BASE_PACKAGE + ".SampleMapperImpl",
+                        "com.codestackfoundry.starters.mapstruct.test.cached.CountryMapperImpl",
+                        "com.codestackfoundry.starters.mapstruct.test.cycles.FamilyMapperImpl",
+                        "com.codestackfoundry.starters.mapstruct.test.primitives.LengthMapperImpl",
+                        "com.codestackfoundry.starters.mapstruct.test.inherited.FirstDescribingMapperImpl",
+                        "com.codestackfoundry.starters.mapstruct.test.inherited.SecondDescribingMapperImpl",
+                        NAMING_PACKAGE + ".DefaultConfiguredMapper",
+                        NAMING_PACKAGE + ".generated.CustomPackageMapperGenerated");
+        assertThat(results.get(BASE_PACKAGE).implementationClassNames())
+                .containsExactly(BASE_PACKAGE + ".SampleMapperImpl");
+        assertThat(results.get("com.codestackfoundry.unknown").hasAnyMappers()).isFalse();
+    }
+
+    @Test
+    void resolvesCustomizedImplementationNamesByConvention() {
+        MapperScanResult result = MapperScanUtils.findMapperImpls(List.of(NAMING_PACKAGE),
+                getClass().getClassLoader(), MapperScanOptions.defaults()).get(NAMING_PACKAGE);
+
+        assertThat(result.implementationClassNames()).containsExactlyInAnyOrder(
+                NAMING_PACKAGE + ".DefaultConfiguredMapper",
+                NAMING_PACKAGE + ".generated.CustomPackageMapperGenerated");
+    }
+
+    @Test
+    void attributesImplementationInOtherPackageToItsMapper() {
+        Map<String, MapperScanResult> results = MapperScanUtils.findMapperImpls(List.of(NAMING_PACKAGE + ".generated"),
+                getClass().getClassLoader(), MapperScanOptions.defaults());
+
+        assertThat(results.get(NAMING_PACKAGE + ".generated").hasAnyMappers()).isFalse();
+        assertThat(results.get(NAMING_PACKAGE + ".generated").implementationClassNames()).isEmpty();
+    }
+
+    @Test
+    void subtypeResolutionAlsoFindsHandWrittenImplementations() {
+        MapperScanResult result = MapperScanUtils.findMapperImpls(List.of(NAMING_PACKAGE),
+                getClass().getClassLoader(), MapperScanOptions.defaults().withResolution(ImplementationResolution.SUBTYPES))
+                .get(NAMING_PACKAGE);
+
+        assertThat(result.implementationClassNames()).containsExactlyInAnyOrder(
+                NAMING_PACKAGE + ".DefaultConfiguredMapper",
+                NAMING_PACKAGE + ".StubConfiguredMapper",
+                NAMING_PACKAGE + ".generated.CustomPackageMapperGenerated");
+    }
+
+    @Test
+    void computesImplementationNameWithMapperSettingsTakingPrecedenceOverConfig() {
+        ScannedType config = new ScannedType("com.acme.Config", false, false, false, List.of(),
+                "<CLASS_NAME>FromConfig", "com.acme.impl", null);
+        ScannedType mapper = new ScannedType("com.acme.Outer$UserMapper", true, false, false, List.of(),
+                "<CLASS_NAME>FromMapper", null, "com.acme.Config");
+
+        assertThat(MapperScanUtils.implementationName(mapper, config)).isEqualTo("com.acme.impl.Outer$UserMapperFromMapper");
+        assertThat(MapperScanUtils.implementationName(mapper, null)).isEqualTo("com.acme.Outer$UserMapperFromMapper");
+        assertThat(MapperScanUtils.implementationName(
+                new ScannedType("UserMapper", true, false, false, List.of()), null)).isEqualTo("UserMapperImpl");
+    }
+
+    @Test
+    void doesNotLoadCandidateClasses() {
+        RecordingClassLoader classLoader = new RecordingClassLoader(getClass().getClassLoader());
+
+        MapperScanUtils.findMapperImpls(BASE_PACKAGE, classLoader);
+
+        assertThat(classLoader.requested).noneMatch(name -> name.startsWith(BASE_PACKAGE));
+    }
+
+    @Test
+    void reportsNoMappersForEmptyPackage() {
+        MapperScanResult result = MapperScanUtils.findMapperImpls("com.codestackfoundry.unknown", getClass().getClassLoader());
+
+        assertThat(result.hasAnyMappers()).isFalse();
+        assertThat(result.implementationClassNames()).isEmpty();
+    }
+
+    private static final class RecordingClassLoader extends ClassLoader {
+
+        private final List<String> requested = new CopyOnWriteArrayList<>();
+
+        private RecordingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            requested.add(name);
+            return super.loadClass(name, resolve);
+        }
+    }
+}
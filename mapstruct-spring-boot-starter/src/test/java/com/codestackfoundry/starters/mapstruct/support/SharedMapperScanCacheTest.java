@@ -0,0 +1,104 @@
+package com.codestackfoundry.starters.mapstruct.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class SharedMapperScanCacheTest {
+
+    private static final String BASE_PACKAGE = "com.codestackfoundry.starters.mapstruct.test.mappers";
+
+    private static final List<Object> KEY = List.of(BASE_PACKAGE);
+
+    private final SharedMapperScanCache cache = SharedMapperScanCache.shared();
+
+    private final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) { };
+
+    private final AtomicInteger discoveries = new AtomicInteger();
+
+    @AfterEach
+    void clear() {
+        cache.invalidate(classLoader);
+    }
+
+    @Test
+    void reusesResultForSameClassLoaderAndKey() {
+        Map<String, MapperScanResult> first = cache.get(classLoader, KEY, this::discover);
+        Map<String, MapperScanResult> second = cache.get(classLoader, KEY, this::discover);
+
+        assertThat(second).isEqualTo(first).containsKey(BASE_PACKAGE);
+        assertThat(discoveries).hasValue(1);
+    }
+
+    @Test
+    void discoversAgainForOtherKeyOrClassLoader() {
+        ClassLoader other = new ClassLoader(classLoader) { };
+
+        cache.get(classLoader, KEY, this::discover);
+        cache.get(classLoader, List.of("com.codestackfoundry.other"), this::discover);
+        cache.get(other, KEY, this::discover);
+        cache.invalidate(other);
+
+        assertThat(discoveries).hasValue(3);
+    }
+
+    @Test
+    void concurrentCallersShareInFlightDiscovery() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Map<String, MapperScanResult>> first = CompletableFuture.supplyAsync(() ->
+                cache.get(classLoader, KEY, () -> {
+                    started.countDown();
+                    await(release);
+                    return discover();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Map<String, MapperScanResult>> second = CompletableFuture.supplyAsync(() ->
+                cache.get(classLoader, KEY, this::discover));
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        assertThat(discoveries).hasValue(1);
+    }
+
+    @Test
+    void doesNotCacheFailedDiscovery() {
+        assertThatIllegalStateException().isThrownBy(() -> cache.get(classLoader, KEY, () -> {
+            throw new IllegalStateException("Scan failed");
+        }));
+
+        assertThat(cache.get(classLoader, KEY, this::discover)).containsKey(BASE_PACKAGE);
+    }
+
+    @Test
+    void discoversAgainAfterInvalidation() {
+        cache.get(classLoader, KEY, this::discover);
+        cache.invalidate(classLoader);
+        cache.get(classLoader, KEY, this::discover);
+
+        assertThat(discoveries).hasValue(2);
+    }
+
+    private Map<String, MapperScanResult> discover() {
+        discoveries.incrementAndGet();
+        return Map.of(BASE_PACKAGE, MapperScanUtils.findMapperImpls(BASE_PACKAGE, getClass().getClassLoader()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
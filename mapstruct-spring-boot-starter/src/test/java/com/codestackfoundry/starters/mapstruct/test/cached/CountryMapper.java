@@ -0,0 +1,18 @@
+package com.codestackfoundry.starters.mapstruct.test.cached;
+
+import com.codestackfoundry.starters.mapstruct.cache.CachedMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface CountryMapper {
+    @CachedMapping(maxSize = 2)
+    CountryDto toDto(Country country);
+
+    @CachedMapping(key = CachedMapping.Key.ID, ttl = "200ms")
+    CountryDto toDtoById(Country country);
+
+    CountryDto toDtoUncached(Country country);
+
+    record Country(String id, String name) {}
+    record CountryDto(String id, String name) {}
+}
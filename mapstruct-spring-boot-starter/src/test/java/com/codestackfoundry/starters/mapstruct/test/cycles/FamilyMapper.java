@@ -0,0 +1,55 @@
+package com.codestackfoundry.starters.mapstruct.test.cycles;
+
+import com.codestackfoundry.starters.mapstruct.context.CycleTrackingContext;
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Mapper
+public interface FamilyMapper {
+    ParentDto toDto(Parent parent, @Context CycleTrackingContext context);
+
+    ChildDto toDto(Child child, @Context CycleTrackingContext context);
+
+    class Parent {
+        private String name;
+        private List<Child> children = new ArrayList<>();
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public List<Child> getChildren() { return children; }
+        public void setChildren(List<Child> children) { this.children = children; }
+    }
+
+    class Child {
+        private String name;
+        private Parent parent;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Parent getParent() { return parent; }
+        public void setParent(Parent parent) { this.parent = parent; }
+    }
+
+    class ParentDto {
+        private String name;
+        private List<ChildDto> children;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public List<ChildDto> getChildren() { return children; }
+        public void setChildren(List<ChildDto> children) { this.children = children; }
+    }
+
+    class ChildDto {
+        private String name;
+        private ParentDto parent;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public ParentDto getParent() { return parent; }
+        public void setParent(ParentDto parent) { this.parent = parent; }
+    }
+}
@@ -0,0 +1,9 @@
+package com.codestackfoundry.starters.mapstruct.test.inherited;
+
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper.Source;
+
+public interface DescribingMapper {
+    default String describe(Source source) {
+        return source.name();
+    }
+}
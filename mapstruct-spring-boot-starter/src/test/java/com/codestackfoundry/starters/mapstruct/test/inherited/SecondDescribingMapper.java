@@ -0,0 +1,7 @@
+package com.codestackfoundry.starters.mapstruct.test.inherited;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface SecondDescribingMapper extends DescribingMapper {
+}
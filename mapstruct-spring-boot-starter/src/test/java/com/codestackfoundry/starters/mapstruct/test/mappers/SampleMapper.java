@@ -2,10 +2,14 @@ package com.codestackfoundry.starters.mapstruct.test.mappers;
 
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 @Mapper
 public interface SampleMapper {
     Target map(Source source);
 
+    List<Target> mapAll(List<Source> sources);
+
     record Source(String name) {}
     record Target(String name) {}
-}
\ No newline at end of file
+}
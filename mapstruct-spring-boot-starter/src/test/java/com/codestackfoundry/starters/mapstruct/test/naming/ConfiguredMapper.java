@@ -0,0 +1,11 @@
+package com.codestackfoundry.starters.mapstruct.test.naming;
+
+import org.mapstruct.Mapper;
+
+@Mapper(config = NamingConfig.class)
+public interface ConfiguredMapper {
+    Target map(Source source);
+
+    record Source(String name) {}
+    record Target(String name) {}
+}
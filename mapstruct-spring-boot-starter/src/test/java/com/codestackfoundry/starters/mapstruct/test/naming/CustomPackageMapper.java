@@ -0,0 +1,11 @@
+package com.codestackfoundry.starters.mapstruct.test.naming;
+
+import org.mapstruct.Mapper;
+
+@Mapper(implementationName = "<CLASS_NAME>Generated", implementationPackage = "<PACKAGE_NAME>.generated")
+public interface CustomPackageMapper {
+    Target map(Source source);
+
+    record Source(String name) {}
+    record Target(String name) {}
+}
@@ -0,0 +1,7 @@
+package com.codestackfoundry.starters.mapstruct.test.naming;
+
+import org.mapstruct.MapperConfig;
+
+@MapperConfig(implementationName = "Default<CLASS_NAME>")
+public interface NamingConfig {
+}
@@ -0,0 +1,12 @@
+package com.codestackfoundry.starters.mapstruct.test.naming;
+
+/**
+ * Hand-written test double that must not be mistaken for the generated implementation.
+ */
+public class StubConfiguredMapper implements ConfiguredMapper {
+
+    @Override
+    public Target map(Source source) {
+        return new Target("stub");
+    }
+}
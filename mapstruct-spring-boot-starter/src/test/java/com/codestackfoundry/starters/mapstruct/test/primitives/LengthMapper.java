@@ -0,0 +1,11 @@
+package com.codestackfoundry.starters.mapstruct.test.primitives;
+
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper.Source;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface LengthMapper {
+    default int nameLength(Source source) {
+        return source.name().length();
+    }
+}
@@ -0,0 +1,93 @@
+package com.codestackfoundry.starters.mapstruct.warmup;
+
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.autoconfig.MapStructWarmupAutoConfiguration;
+import com.codestackfoundry.starters.mapstruct.test.mappers.SampleMapper;
+import com.codestackfoundry.starters.mapstruct.warmup.MapperWarmupRunner.MapperWarmup;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperWarmupRunnerTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class,
+                    MapStructWarmupAutoConfiguration.class))
+            .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers",
+                    "mapstruct.warmup.enabled=true");
+
+    @Test
+    void invokesEveryMapperMethodForConfiguredIterations() {
+        contextRunner.withPropertyValues("mapstruct.warmup.iterations=100").run(context -> {
+            MapperWarmupRunner runner = context.getBean(MapperWarmupRunner.class);
+            runner.run(null);
+
+            assertThat(runner.getResults()).singleElement().satisfies(result -> {
+                assertThat(result.mapper()).isEqualTo(SampleMapper.class.getName());
+                assertThat(result.methods()).isEqualTo(2);
+                assertThat(result.invocations()).isEqualTo(200);
+                assertThat(result.failures()).isZero();
+                assertThat(result.completed()).isTrue();
+            });
+        });
+    }
+
+    @Test
+    void prefersUserSuppliedSamples() {
+        Set<Class<?>> requested = ConcurrentHashMap.newKeySet();
+        contextRunner.withPropertyValues("mapstruct.warmup.iterations=10")
+                .withBean(MapperWarmupSamples.class, () -> type -> {
+                    requested.add(type);
+                    return type == SampleMapper.Source.class
+                            ? List.of(new SampleMapper.Source("a"), new SampleMapper.Source("b"))
+                            : List.of();
+                })
+                .run(context -> {
+                    MapperWarmupRunner runner = context.getBean(MapperWarmupRunner.class);
+                    runner.run(null);
+
+                    assertThat(requested).contains(SampleMapper.Source.class, List.class);
+                    assertThat(runner.getResults()).extracting(MapperWarmup::invocations).containsExactly(30L);
+                });
+    }
+
+    @Test
+    void stopsWhenBudgetIsExhausted() {
+        contextRunner.withPropertyValues("mapstruct.warmup.iterations=" + Integer.MAX_VALUE,
+                "mapstruct.warmup.duration=1h", "mapstruct.warmup.budget=50ms").run(context -> {
+            MapperWarmupRunner runner = context.getBean(MapperWarmupRunner.class);
+            long start = System.nanoTime();
+            runner.run(null);
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            assertThat(runner.getResults()).extracting(MapperWarmup::completed).containsExactly(false);
+        });
+    }
+
+    @Test
+    void doesNotInstantiateLazyMappers() {
+        contextRunner.withPropertyValues("mapstruct.registration.mode=lazy").run(context -> {
+            MapperWarmupRunner runner = context.getBean(MapperWarmupRunner.class);
+            runner.run(null);
+
+            assertThat(runner.getResults()).isEmpty();
+            assertThat(context.getBeanFactory().containsSingleton("sampleMapperImpl")).isFalse();
+        });
+    }
+
+    @Test
+    void isNotRegisteredByDefault() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(MapStructAutoConfiguration.class,
+                        MapStructWarmupAutoConfiguration.class))
+                .withPropertyValues("mapstruct.base-packages=com.codestackfoundry.starters.mapstruct.test.mappers")
+                .run(context -> assertThat(context).doesNotHaveBean(MapperWarmupRunner.class));
+    }
+}
@@ -2,3 +2,5 @@ rootProject.name = "spring-boot-starters"
 
 include("mapstruct-spring-boot-starter")
 include("mapstruct-spring-boot-starter:example-app")
+include("mapstruct-spring-boot-starter:mapper-index-processor")
+include("mapstruct-spring-boot-starter:benchmarks")